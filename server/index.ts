@@ -24,6 +24,7 @@ import {
   sheetsValues,
   sheetsAppend,
   sheetsFormatRow,
+  sheetsUpdateRows,
 } from "./routes/sheets";
 import {
   executeRegistrationPdfAction,
@@ -149,6 +150,7 @@ export function createServer() {
   app.get("/api/sheets/values", sheetsValues);
   app.post("/api/sheets/append", sheetsAppend);
   app.post("/api/sheets/format-row", sheetsFormatRow);
+  app.post("/api/sheets/update-rows", sheetsUpdateRows);
 
   // Java actions (PDF generation and exports)
   app.get("/api/java-actions/status", getJavaBackendStatus);
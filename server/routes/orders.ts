@@ -696,10 +696,16 @@ export const fetchRecentOrdersDetailedHandler: RequestHandler = async (
     });
   }
 
-  const { since } = req.body as { since?: string };
-  const sinceDate = since
-    ? new Date(since)
-    : new Date(Date.now() - 24 * 60 * 60 * 1000);
+  // modifiedSince also picks up older orders whose status changed since
+  const { since, modifiedSince } = req.body as {
+    since?: string;
+    modifiedSince?: string;
+  };
+  const sinceDate = modifiedSince
+    ? new Date(modifiedSince)
+    : since
+      ? new Date(since)
+      : new Date(Date.now() - 24 * 60 * 60 * 1000);
 
   const {
     baseUrl: WC_BASE_URL,
@@ -712,9 +718,9 @@ export const fetchRecentOrdersDetailedHandler: RequestHandler = async (
       WC_BASE_URL,
       WC_CONSUMER_KEY,
       WC_CONSUMER_SECRET,
-      {
-        after: sinceDate.toISOString(),
-      },
+      modifiedSince
+        ? { modified_after: sinceDate.toISOString() }
+        : { after: sinceDate.toISOString() },
     );
 
     const detailed = await withConcurrency(ids, 10, (id) =>
@@ -793,6 +799,7 @@ export const fetchRecentOrdersDetailedHandler: RequestHandler = async (
         bookingDate: order?.date_created ?? "",
         paymentMethod:
           order?.payment_method_title ?? order?.payment_method ?? "",
+        status: order?.status ?? "",
       };
     });
 
@@ -153,18 +153,22 @@ export async function sheetsTabs(req: Request, res: Response) {
 }
 
 export async function sheetsAppend(req: Request, res: Response) {
-  const { id, title, row } = (req.body || {}) as {
+  const { id, title, row, rows, raw } = (req.body || {}) as {
     id?: string;
     title?: string;
     row?: string[];
+    rows?: string[][]; // several rows in one request
+    raw?: boolean; // store values as sent instead of parsing them like typed input
   };
-  if (!id || !title || !Array.isArray(row))
-    return res.status(400).json({ error: "id, title and row required" });
+  const values = Array.isArray(rows) ? rows : Array.isArray(row) ? [row] : null;
+  if (!id || !title || !values)
+    return res.status(400).json({ error: "id, title and row or rows required" });
   try {
     const token = await getAccessToken();
     const range = encodeURIComponent(`${title}!A1:ZZ1`);
-    const apiUrl = `https://sheets.googleapis.com/v4/spreadsheets/${encodeURIComponent(id)}/values/${range}:append?valueInputOption=USER_ENTERED&insertDataOption=INSERT_ROWS`;
-    const body = { values: [row] } as any;
+    const inputOption = raw ? "RAW" : "USER_ENTERED";
+    const apiUrl = `https://sheets.googleapis.com/v4/spreadsheets/${encodeURIComponent(id)}/values/${range}:append?valueInputOption=${inputOption}&insertDataOption=INSERT_ROWS`;
+    const body = { values } as any;
     const r = await fetch(apiUrl, {
       method: "POST",
       headers: {
@@ -186,6 +190,49 @@ export async function sheetsAppend(req: Request, res: Response) {
   }
 }
 
+export async function sheetsUpdateRows(req: Request, res: Response) {
+  const { id, title, rows, raw } = (req.body || {}) as {
+    id?: string;
+    title?: string;
+    rows?: { rowIndex: number; values: string[] }[]; // rowIndex is zero-based
+    raw?: boolean; // store values as sent instead of parsing them like typed input
+  };
+  if (!id || !title || !Array.isArray(rows))
+    return res.status(400).json({ error: "id, title and rows required" });
+  if (rows.length === 0) return res.json({ ok: true, updatedRows: 0 });
+  try {
+    const token = await getAccessToken();
+    const body = {
+      valueInputOption: raw ? "RAW" : "USER_ENTERED",
+      data: rows.map((r) => ({
+        range: `${title}!A${Number(r.rowIndex) + 1}`,
+        values: [r.values || []],
+      })),
+    };
+    const r = await fetch(
+      `https://sheets.googleapis.com/v4/spreadsheets/${encodeURIComponent(id)}/values:batchUpdate`,
+      {
+        method: "POST",
+        headers: {
+          "Content-Type": "application/json",
+          Authorization: `Bearer ${token}`,
+        },
+        body: JSON.stringify(body),
+      },
+    );
+    if (!r.ok) {
+      const j = await r.json().catch(() => ({}));
+      return res
+        .status(400)
+        .json({ error: j?.error?.message || `Failed update ${r.status}` });
+    }
+    const resp = await r.json().catch(() => ({}));
+    res.json({ ok: true, updatedRows: resp?.totalUpdatedRows ?? 0 });
+  } catch (e: any) {
+    res.status(400).json({ error: e?.message || "failed" });
+  }
+}
+
 export async function sheetsFormatRow(req: Request, res: Response) {
   const {
     id,
@@ -196,6 +243,7 @@ export async function sheetsFormatRow(req: Request, res: Response) {
     background = "#0b3d91",
     text = "#ffffff",
     bold = true,
+    rows,
   } = (req.body || {}) as {
     id?: string;
     gid?: string | number;
@@ -205,9 +253,24 @@ export async function sheetsFormatRow(req: Request, res: Response) {
     background?: string;
     text?: string;
     bold?: boolean;
+    // Several rows in one request; unset fields fall back to the ones above
+    rows?: {
+      rowIndex: number;
+      background?: string;
+      text?: string;
+      bold?: boolean;
+    }[];
   };
-  if (!id || gid == null || rowIndex == null)
-    return res.status(400).json({ error: "id, gid and rowIndex required" });
+  const formats = Array.isArray(rows)
+    ? rows
+    : rowIndex != null
+      ? [{ rowIndex, background, text, bold }]
+      : null;
+  if (!id || gid == null || !formats)
+    return res
+      .status(400)
+      .json({ error: "id, gid and rowIndex or rows required" });
+  if (formats.length === 0) return res.json({ ok: true });
   try {
     const token = await getAccessToken();
     const hexToRgb1 = (hex: string) => {
@@ -226,29 +289,27 @@ export async function sheetsFormatRow(req: Request, res: Response) {
     };
 
     const body = {
-      requests: [
-        {
-          repeatCell: {
-            range: {
-              sheetId: Number(gid),
-              startRowIndex: Number(rowIndex),
-              endRowIndex: Number(rowIndex) + 1,
-              startColumnIndex: Number(startColumnIndex),
-              endColumnIndex: Number(endColumnIndex),
-            },
-            cell: {
-              userEnteredFormat: {
-                backgroundColor: hexToRgb1(background),
-                textFormat: {
-                  foregroundColor: hexToRgb1(text),
-                  bold: Boolean(bold),
-                },
+      requests: formats.map((f) => ({
+        repeatCell: {
+          range: {
+            sheetId: Number(gid),
+            startRowIndex: Number(f.rowIndex),
+            endRowIndex: Number(f.rowIndex) + 1,
+            startColumnIndex: Number(startColumnIndex),
+            endColumnIndex: Number(endColumnIndex),
+          },
+          cell: {
+            userEnteredFormat: {
+              backgroundColor: hexToRgb1(f.background ?? background),
+              textFormat: {
+                foregroundColor: hexToRgb1(f.text ?? text),
+                bold: Boolean(f.bold ?? bold),
               },
             },
-            fields: "userEnteredFormat(backgroundColor,textFormat)",
           },
+          fields: "userEnteredFormat(backgroundColor,textFormat)",
         },
-      ],
+      })),
     } as any;
 
     const r = await fetch(
@@ -0,0 +1,164 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application class-data sharing (AppCDS) for faster launches, driven by the
+ * appcds Maven profile:
+ *
+ *   train      launch the app with -Dlinguaops.startup.mode=training; it opens
+ *              the main pages and exits, and the JVM dumps every loaded class
+ *              (JavaFX, Jackson, httpclient5, logback, ours) to the archive
+ *   run        launch the app normally, mapping the archive
+ *   benchmark  launch N times with and without the archive in benchmark mode,
+ *              print median time-to-stage.show(), first frame and time to
+ *              interactive, and fail if interactive exceeds the budget
+ *
+ * Training and launches must use the same classpath and module path, or the
+ * JVM silently ignores the archive; this tool builds both command lines the
+ * same way for that reason. Needs a display, like the app itself.
+ *
+ * Usage: java AppCds.java train|run|benchmark <archive> <runtime classpath> [runs] [budget ms]
+ */
+public class AppCds {
+    private static final String MAIN_CLASS = "com.linguaops.desktop.LinguaOpsApplication";
+    private static final String JAVAFX_MODULES = "javafx.controls,javafx.fxml,javafx.web";
+    private static final String[] MILESTONES = {"stage-shown", "first-frame", "interactive"};
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: AppCds train|run|benchmark <archive> <runtime classpath> [runs] [budget ms]");
+            System.exit(2);
+        }
+        Path archive = Path.of(args[1]);
+        String classpath = args[2];
+
+        switch (args[0]) {
+            case "train" -> {
+                Files.deleteIfExists(archive);
+                int exit = launch(List.of("-XX:ArchiveClassesAtExit=" + archive), classpath, "training", true).waitFor();
+                if (exit != 0 || !Files.exists(archive)) {
+                    throw new IllegalStateException("Training run failed (exit " + exit + "), no archive written");
+                }
+                System.out.printf("[appcds] Wrote %s (%d KB)%n", archive, Files.size(archive) / 1024);
+            }
+            case "run" -> System.exit(launch(sharedArchive(archive), classpath, "", true).waitFor());
+            case "benchmark" -> {
+                int runs = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+                long budget = args.length > 4 ? Long.parseLong(args[4]) : Long.MAX_VALUE;
+                long interactive = benchmark(archive, classpath, runs);
+                if (interactive > budget) {
+                    System.err.printf("[appcds] Time to interactive %d ms exceeds the %d ms budget%n", interactive, budget);
+                    System.exit(1);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown mode " + args[0]);
+        }
+    }
+
+    private static List<String> sharedArchive(Path archive) {
+        if (!Files.exists(archive)) {
+            System.out.println("[appcds] No archive at " + archive + ", run the training step first");
+            return List.of();
+        }
+        return List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:auto");
+    }
+
+    // Returns the median time to interactive with the archive
+    private static long benchmark(Path archive, String classpath, int runs) throws Exception {
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("No archive at " + archive + ", run the training step first");
+        }
+        Map<String, long[]> without = measure(List.of(), classpath, runs);
+        Map<String, long[]> with = measure(sharedArchive(archive), classpath, runs);
+
+        System.out.printf("[appcds] Median of %d launches%n", runs);
+        System.out.printf("[appcds] %-12s %12s %12s %8s%n", "milestone", "no archive", "archive", "saved");
+        for (String milestone : MILESTONES) {
+            long before = median(without.get(milestone));
+            long after = median(with.get(milestone));
+            System.out.printf("[appcds] %-12s %9d ms %9d ms %5d ms%n", milestone, before, after, before - after);
+        }
+        return median(with.get("interactive"));
+    }
+
+    private static Map<String, long[]> measure(List<String> jvmOptions, String classpath, int runs) throws Exception {
+        Map<String, long[]> samples = new LinkedHashMap<>();
+        for (String milestone : MILESTONES) {
+            samples.put(milestone, new long[runs]);
+        }
+
+        for (int run = 0; run < runs; run++) {
+            Process process = launch(jvmOptions, classpath, "benchmark", false);
+            Map<String, Long> metrics = null;
+            try (BufferedReader output = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = output.readLine()) != null) {
+                    if (line.startsWith("startup-metrics ")) {
+                        metrics = parse(line.substring("startup-metrics ".length()));
+                    }
+                }
+            }
+            if (process.waitFor() != 0 || metrics == null) {
+                throw new IllegalStateException("Benchmark launch " + (run + 1) + " did not report startup metrics");
+            }
+            for (String milestone : MILESTONES) {
+                samples.get(milestone)[run] = metrics.getOrDefault(milestone, -1L);
+            }
+        }
+        return samples;
+    }
+
+    private static Process launch(List<String> jvmOptions, String classpath, String mode, boolean inheritOutput)
+            throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        // JavaFX from the module path, everything else from the classpath
+        command.addAll(List.of("--module-path", javafxJars(classpath), "--add-modules", JAVAFX_MODULES));
+        command.addAll(List.of("-cp", classpath));
+        if (!mode.isEmpty()) {
+            command.add("-Dlinguaops.startup.mode=" + mode);
+        }
+        command.add(MAIN_CLASS);
+
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        if (inheritOutput) {
+            builder.inheritIO();
+        }
+        return builder.start();
+    }
+
+    private static String javafxJars(String classpath) {
+        return String.join(File.pathSeparator, Arrays.stream(classpath.split(File.pathSeparator))
+            .filter(entry -> Path.of(entry).getFileName().toString().startsWith("javafx-"))
+            .toList());
+    }
+
+    private static Map<String, Long> parse(String summary) {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        for (String entry : summary.trim().split(" ")) {
+            int equals = entry.indexOf('=');
+            if (equals > 0) {
+                metrics.put(entry.substring(0, equals), Long.parseLong(entry.substring(equals + 1)));
+            }
+        }
+        return metrics;
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,65 @@
+import com.linguaops.desktop.controller.CompiledFxml;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares page load times of FXMLLoader and the classes generated by
+ * FxmlCompiler. Needs a display (or Monocle) because controls require the
+ * JavaFX toolkit. Run with {@code mvn -Pfxml-benchmark process-classes}.
+ *
+ * Usage: java -cp <runtime classpath> FxmlBenchmark [iterations] [fxml path...]
+ */
+public class FxmlBenchmark {
+    private static final String[] DEFAULT_PAGES = {
+        "/fxml/pages/index-webapp-style.fxml",
+        "/fxml/pages/settings-webapp-style.fxml",
+        "/fxml/pages/history-webapp-style.fxml",
+        "/fxml/pages/orders.fxml",
+        "/fxml/pages/telc.fxml",
+        "/fxml/pages/exams.fxml"
+    };
+    private static final int WARMUP = 50;
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        String[] pages = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) : DEFAULT_PAGES;
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        System.out.printf("%-42s %12s %12s %8s%n", "page", "FXMLLoader", "compiled", "speedup");
+        for (String page : pages) {
+            if (!CompiledFxml.isCompiled(page)) {
+                System.out.printf("%-42s %12s%n", page, "not compiled");
+                continue;
+            }
+            // Pages are built off the FX thread in the app as well
+            double loader = median(iterations, () -> new FXMLLoader(FxmlBenchmark.class.getResource(page)).load());
+            double compiled = median(iterations, () -> CompiledFxml.load(page));
+            System.out.printf("%-42s %9.1f us %9.1f us %7.1fx%n", page, loader, compiled, loader / compiled);
+        }
+        Platform.exit();
+    }
+
+    private interface Load {
+        Object run() throws Exception;
+    }
+
+    private static double median(int iterations, Load load) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            load.run();
+        }
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            load.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[iterations / 2] / 1000.0;
+    }
+}
@@ -0,0 +1,579 @@
+import javafx.beans.DefaultProperty;
+import javafx.beans.NamedArg;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Compiles FXML pages into Java classes that build the same scene graph.
+ * Run by the build (see the fxml-to-java execution in pom.xml) with the
+ * compile classpath, so JavaFX classes can be inspected to pick setters and
+ * convert attribute values. Controllers are not compiled yet at that point;
+ * the generated code wires them through CompiledFxml at runtime.
+ *
+ * Only the subset of FXML our pages use is supported: instance elements,
+ * property and static property elements, attributes, fx:id, fx:controller
+ * and "#handler" event attributes. A page using anything else (fx:include,
+ * expressions, resources, scripts) is skipped with a warning and keeps
+ * being loaded by FXMLLoader.
+ *
+ * Usage: java -cp <compile classpath> FxmlCompiler <resource root> <fxml dir> <output dir> <package>
+ */
+public class FxmlCompiler {
+    private static final String FX_NAMESPACE = "http://javafx.com/fxml/1";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 4) {
+            System.err.println("Usage: FxmlCompiler <resource root> <fxml dir> <output dir> <package>");
+            System.exit(2);
+        }
+        Path resourceRoot = Path.of(args[0]);
+        Path fxmlDir = resourceRoot.resolve(args[1]);
+        Path packageDir = Path.of(args[2]).resolve(args[3].replace('.', '/'));
+        String packageName = args[3];
+        Files.createDirectories(packageDir);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(fxmlDir)) {
+            files = stream.filter(p -> p.toString().endsWith(".fxml")).sorted().toList();
+        }
+
+        Map<String, String> compiled = new TreeMap<>();
+        for (Path file : files) {
+            String resource = "/" + resourceRoot.relativize(file).toString().replace('\\', '/');
+            String className = className(file.getFileName().toString());
+            try {
+                String source = new FxmlCompiler(packageName, className, resource).compile(file);
+                Files.writeString(packageDir.resolve(className + ".java"), source, StandardCharsets.UTF_8);
+                compiled.put(resource, className);
+            } catch (UnsupportedFxmlException e) {
+                System.out.println("[fxml] Skipping " + resource + ", FXMLLoader will load it: " + e.getMessage());
+            }
+        }
+
+        Files.writeString(packageDir.resolve("GeneratedFxml.java"), index(packageName, compiled), StandardCharsets.UTF_8);
+        System.out.println("[fxml] Compiled " + compiled.size() + " of " + files.size() + " FXML files");
+    }
+
+    private static String className(String fileName) {
+        StringBuilder name = new StringBuilder();
+        for (String part : fileName.substring(0, fileName.length() - ".fxml".length()).split("[^A-Za-z0-9]+")) {
+            if (part.isEmpty()) continue;
+            name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+        }
+        return name.append("Fxml").toString();
+    }
+
+    private static String index(String packageName, Map<String, String> compiled) {
+        StringBuilder out = new StringBuilder();
+        out.append("// Generated by FxmlCompiler, do not edit\n");
+        out.append("package ").append(packageName).append(";\n\n");
+        out.append("import java.util.Map;\n\n");
+        out.append("final class GeneratedFxml {\n");
+        out.append("    private GeneratedFxml() {\n    }\n\n");
+        out.append("    static Map<String, CompiledFxml.Builder> builders() {\n");
+        out.append("        return Map.ofEntries(");
+        String separator = "\n";
+        for (Map.Entry<String, String> entry : compiled.entrySet()) {
+            out.append(separator).append("            Map.entry(").append(literal(entry.getKey()))
+                .append(", ").append(entry.getValue()).append("::build)");
+            separator = ",\n";
+        }
+        out.append(");\n    }\n}\n");
+        return out.toString();
+    }
+
+    private static final class UnsupportedFxmlException extends Exception {
+        UnsupportedFxmlException(String message) {
+            super(message);
+        }
+    }
+
+    private final String packageName;
+    private final String className;
+    private final String resource;
+    private final List<String> imports = new ArrayList<>();
+    // Static handles resolved once per class: constant name -> initializer
+    private final Map<String, String> handles = new LinkedHashMap<>();
+    private final StringBuilder body = new StringBuilder();
+    private String controllerType;
+    private int nodeCount;
+
+    private FxmlCompiler(String packageName, String className, String resource) {
+        this.packageName = packageName;
+        this.className = className;
+        this.resource = resource;
+    }
+
+    private String compile(Path file) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(file.toFile());
+
+        for (Node child = document.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof ProcessingInstruction) {
+                ProcessingInstruction instruction = (ProcessingInstruction) child;
+                if ("import".equals(instruction.getTarget())) {
+                    imports.add(instruction.getData().trim());
+                } else {
+                    throw new UnsupportedFxmlException("processing instruction <?" + instruction.getTarget() + "?>");
+                }
+            }
+        }
+
+        Element root = document.getDocumentElement();
+        String controller = root.getAttributeNS(FX_NAMESPACE, "controller");
+        if (!controller.isEmpty()) {
+            controllerType = controller;
+            body.append("        ").append(controller).append(" controller = new ").append(controller).append("();\n");
+        }
+        String rootVariable = instance(root);
+        if (controllerType != null) {
+            body.append("        CompiledFxml.initialize(controller, LOCATION);\n");
+        }
+        body.append("        return new CompiledFxml.Loaded(").append(rootVariable).append(", ")
+            .append(controllerType != null ? "controller" : "null").append(");\n");
+
+        return source();
+    }
+
+    private String source() {
+        StringBuilder out = new StringBuilder();
+        out.append("// Generated by FxmlCompiler from ").append(resource).append(", do not edit\n");
+        out.append("package ").append(packageName).append(";\n\n");
+        out.append("import java.lang.invoke.MethodHandle;\n");
+        out.append("import java.lang.invoke.VarHandle;\n");
+        out.append("import java.net.URL;\n\n");
+        out.append("final class ").append(className).append(" {\n");
+        out.append("    private static final URL LOCATION = ").append(className)
+            .append(".class.getResource(").append(literal(resource)).append(");\n");
+        for (Map.Entry<String, String> handle : handles.entrySet()) {
+            out.append("    private static final ").append(handle.getValue().startsWith("CompiledFxml.field") ? "VarHandle " : "MethodHandle ")
+                .append(handle.getKey()).append(" = ").append(handle.getValue()).append(";\n");
+        }
+        out.append("\n    private ").append(className).append("() {\n    }\n\n");
+        out.append("    static CompiledFxml.Loaded build() {\n");
+        out.append(body);
+        out.append("    }\n}\n");
+        return out.toString();
+    }
+
+    // Emits the construction of an instance element and returns its variable
+    private String instance(Element element) throws Exception {
+        if (FX_NAMESPACE.equals(element.getNamespaceURI())) {
+            throw new UnsupportedFxmlException("<fx:" + element.getLocalName() + ">");
+        }
+        Class<?> type = resolveClass(element.getLocalName());
+        String typeName = type.getCanonicalName();
+        String variable = "n" + nodeCount++;
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        Map<String, String> staticProperties = new LinkedHashMap<>();
+        Map<String, String> handlers = new LinkedHashMap<>();
+        String fxId = null;
+        for (int i = 0; i < element.getAttributes().getLength(); i++) {
+            org.w3c.dom.Attr attribute = (org.w3c.dom.Attr) element.getAttributes().item(i);
+            String name = attribute.getLocalName() != null ? attribute.getLocalName() : attribute.getName();
+            String value = attribute.getValue();
+            if ("http://www.w3.org/2000/xmlns/".equals(attribute.getNamespaceURI())) continue;
+            if (FX_NAMESPACE.equals(attribute.getNamespaceURI())) {
+                if ("id".equals(name)) {
+                    fxId = value;
+                } else if (!"controller".equals(name) || element.getParentNode() != element.getOwnerDocument()) {
+                    throw new UnsupportedFxmlException("fx:" + name);
+                }
+            } else if (name.contains(".")) {
+                staticProperties.put(name, value);
+            } else if (name.startsWith("on") && value.startsWith("#")) {
+                handlers.put(name, value.substring(1));
+            } else {
+                properties.put(name, value);
+            }
+        }
+
+        Constructor<?> defaultConstructor = publicNoArgConstructor(type);
+        if (defaultConstructor != null) {
+            body.append("        ").append(typeName).append(' ').append(variable).append(" = new ").append(typeName).append("();\n");
+            for (Map.Entry<String, String> property : properties.entrySet()) {
+                setProperty(type, variable, property.getKey(), property.getValue());
+            }
+        } else {
+            body.append("        ").append(typeName).append(' ').append(variable).append(" = new ").append(typeName)
+                .append('(').append(namedArguments(type, properties)).append(");\n");
+        }
+
+        for (Map.Entry<String, String> property : staticProperties.entrySet()) {
+            Method setter = staticSetter(property.getKey());
+            body.append("        ").append(setter.getDeclaringClass().getCanonicalName()).append('.').append(setter.getName())
+                .append('(').append(variable).append(", ").append(convert(property.getValue(), setter.getParameterTypes()[1])).append(");\n");
+        }
+
+        if (fxId != null) {
+            if (findMethod(type, "setId", String.class) != null && !properties.containsKey("id")) {
+                body.append("        ").append(variable).append(".setId(").append(literal(fxId)).append(");\n");
+            }
+            if (controllerType != null) {
+                String handle = constant("F_", fxId);
+                handles.put(handle, "CompiledFxml.field(" + controllerType + ".class, " + literal(fxId) + ")");
+                body.append("        CompiledFxml.inject(").append(handle).append(", controller, ").append(variable).append(");\n");
+            }
+        }
+
+        for (Map.Entry<String, String> handler : handlers.entrySet()) {
+            if (controllerType == null) {
+                throw new UnsupportedFxmlException(handler.getKey() + " without fx:controller");
+            }
+            String setterName = "set" + capitalize(handler.getKey());
+            Method setter = findSingleArgMethod(type, setterName);
+            if (setter == null) {
+                throw new UnsupportedFxmlException("no " + setterName + " on " + type.getSimpleName());
+            }
+            Class<?> eventType = eventType(setter);
+            String handle = constant("H_", handler.getValue());
+            handles.put(handle, "CompiledFxml.handler(" + controllerType + ".class, " + literal(handler.getValue())
+                + ", " + eventType.getCanonicalName() + ".class)");
+            body.append("        ").append(variable).append('.').append(setterName)
+                .append("(CompiledFxml.bind(").append(handle).append(", controller));\n");
+        }
+
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                Element childElement = (Element) child;
+                String name = childElement.getLocalName();
+                if (FX_NAMESPACE.equals(childElement.getNamespaceURI())) {
+                    throw new UnsupportedFxmlException("<fx:" + name + ">");
+                } else if (name.contains(".")) {
+                    Method setter = staticSetter(name);
+                    String value = singleValue(childElement, setter.getParameterTypes()[1]);
+                    body.append("        ").append(setter.getDeclaringClass().getCanonicalName()).append('.')
+                        .append(setter.getName()).append('(').append(variable).append(", ").append(value).append(");\n");
+                } else if (Character.isLowerCase(name.charAt(0))) {
+                    propertyElement(type, variable, name, childElement);
+                } else {
+                    String property = defaultProperty(type);
+                    addToProperty(type, variable, property, instance(childElement));
+                }
+            } else if (child.getNodeType() == Node.TEXT_NODE && !child.getNodeValue().isBlank()) {
+                throw new UnsupportedFxmlException("text content in <" + element.getLocalName() + ">");
+            }
+        }
+        return variable;
+    }
+
+    private void propertyElement(Class<?> type, String variable, String property, Element element) throws Exception {
+        Method getter = findMethod(type, "get" + capitalize(property));
+        if (getter != null && List.class.isAssignableFrom(getter.getReturnType())) {
+            for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element) {
+                    addToProperty(type, variable, property, instance((Element) child));
+                }
+            }
+            return;
+        }
+
+        Method setter = findSingleArgMethod(type, "set" + capitalize(property));
+        if (setter == null) {
+            throw new UnsupportedFxmlException("no writable property " + property + " on " + type.getSimpleName());
+        }
+        // Nested instances emit their own statements first
+        String value = singleValue(element, setter.getParameterTypes()[0]);
+        body.append("        ").append(variable).append('.').append(setter.getName()).append('(').append(value).append(");\n");
+    }
+
+    // Value of a property element: a single instance child or text content
+    private String singleValue(Element element, Class<?> type) throws Exception {
+        Element only = null;
+        StringBuilder text = new StringBuilder();
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                if (only != null) {
+                    throw new UnsupportedFxmlException("more than one value in <" + element.getLocalName() + ">");
+                }
+                only = (Element) child;
+            } else if (child.getNodeType() == Node.TEXT_NODE || child.getNodeType() == Node.CDATA_SECTION_NODE) {
+                text.append(child.getNodeValue());
+            }
+        }
+        if (only != null) {
+            return instance(only);
+        }
+        return convert(text.toString().trim(), type);
+    }
+
+    private void addToProperty(Class<?> type, String variable, String property, String value) throws Exception {
+        Method getter = findMethod(type, "get" + capitalize(property));
+        if (getter != null && List.class.isAssignableFrom(getter.getReturnType())) {
+            body.append("        ").append(variable).append('.').append(getter.getName()).append("().add(").append(value).append(");\n");
+            return;
+        }
+        Method setter = findSingleArgMethod(type, "set" + capitalize(property));
+        if (setter == null) {
+            throw new UnsupportedFxmlException("cannot add children to " + type.getSimpleName() + "." + property);
+        }
+        body.append("        ").append(variable).append('.').append(setter.getName()).append('(').append(value).append(");\n");
+    }
+
+    private void setProperty(Class<?> type, String variable, String property, String value) throws Exception {
+        Method setter = findSingleArgMethod(type, "set" + capitalize(property));
+        if (setter != null) {
+            body.append("        ").append(variable).append('.').append(setter.getName())
+                .append('(').append(convert(value, setter.getParameterTypes()[0])).append(");\n");
+            return;
+        }
+
+        // Read-only list properties such as styleClass take comma separated values
+        Method getter = findMethod(type, "get" + capitalize(property));
+        if (getter != null && List.class.isAssignableFrom(getter.getReturnType())) {
+            Class<?> elementType = listElementType(getter.getGenericReturnType());
+            for (String item : value.split(",")) {
+                body.append("        ").append(variable).append('.').append(getter.getName()).append("().add(")
+                    .append(convert(item.trim(), elementType)).append(");\n");
+            }
+            return;
+        }
+        throw new UnsupportedFxmlException("no writable property " + property + " on " + type.getSimpleName());
+    }
+
+    private String namedArguments(Class<?> type, Map<String, String> properties) throws Exception {
+        Constructor<?> best = null;
+        for (Constructor<?> constructor : type.getConstructors()) {
+            List<String> names = new ArrayList<>();
+            for (Parameter parameter : constructor.getParameters()) {
+                NamedArg namedArg = parameter.getAnnotation(NamedArg.class);
+                if (namedArg == null) {
+                    names = null;
+                    break;
+                }
+                names.add(namedArg.value());
+            }
+            if (names != null && names.containsAll(properties.keySet())
+                    && (best == null || constructor.getParameterCount() > best.getParameterCount())) {
+                best = constructor;
+            }
+        }
+        if (best == null) {
+            throw new UnsupportedFxmlException("no constructor of " + type.getSimpleName() + " takes " + properties.keySet());
+        }
+
+        StringBuilder arguments = new StringBuilder();
+        for (Parameter parameter : best.getParameters()) {
+            NamedArg namedArg = parameter.getAnnotation(NamedArg.class);
+            String value = properties.containsKey(namedArg.value()) ? properties.get(namedArg.value()) : namedArg.defaultValue();
+            if (arguments.length() > 0) arguments.append(", ");
+            arguments.append(value.isEmpty() && parameter.getType().isPrimitive()
+                ? convert("0", parameter.getType())
+                : value.isEmpty() ? "null" : convert(value, parameter.getType()));
+        }
+        return arguments.toString();
+    }
+
+    private String convert(String value, Class<?> type) throws Exception {
+        if (value.startsWith("$") || value.startsWith("%") || value.startsWith("@")) {
+            throw new UnsupportedFxmlException("expression, resource or location value '" + value + "'");
+        }
+        if (value.startsWith("\\")) {
+            value = value.substring(1);
+        }
+
+        if (type == String.class || type == Object.class || type == CharSequence.class) {
+            return literal(value);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Boolean.toString(Boolean.parseBoolean(value));
+        }
+        if (type == int.class || type == Integer.class || type == short.class || type == byte.class) {
+            return Integer.toString(Integer.parseInt(value));
+        }
+        if (type == long.class || type == Long.class) {
+            return Long.parseLong(value) + "L";
+        }
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            double number = Double.parseDouble(value);
+            String suffix = type == float.class || type == Float.class ? "f" : "d";
+            if (Double.isInfinite(number)) {
+                return number > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+            }
+            if (Double.isNaN(number)) {
+                return "Double.NaN";
+            }
+            return number + suffix;
+        }
+        if (type.isEnum()) {
+            String constant = value.toUpperCase(Locale.ROOT);
+            for (Object candidate : type.getEnumConstants()) {
+                if (((Enum<?>) candidate).name().equals(constant)) {
+                    return type.getCanonicalName() + "." + constant;
+                }
+            }
+            throw new UnsupportedFxmlException("unknown " + type.getSimpleName() + " constant '" + value + "'");
+        }
+
+        // FXMLLoader falls back to a static valueOf(String), e.g. for Color
+        try {
+            Method valueOf = type.getMethod("valueOf", String.class);
+            if (Modifier.isStatic(valueOf.getModifiers()) && type.isAssignableFrom(valueOf.getReturnType())) {
+                return type.getCanonicalName() + ".valueOf(" + literal(value) + ")";
+            }
+        } catch (NoSuchMethodException e) {
+            // Unsupported below
+        }
+        throw new UnsupportedFxmlException("cannot convert '" + value + "' to " + type.getSimpleName());
+    }
+
+    private Method staticSetter(String qualifiedName) throws Exception {
+        int dot = qualifiedName.lastIndexOf('.');
+        Class<?> type = resolveClass(qualifiedName.substring(0, dot));
+        String setterName = "set" + capitalize(qualifiedName.substring(dot + 1));
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(setterName) && Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() == 2) {
+                return method;
+            }
+        }
+        throw new UnsupportedFxmlException("no static property " + qualifiedName);
+    }
+
+    private Class<?> resolveClass(String name) throws Exception {
+        ClassLoader loader = FxmlCompiler.class.getClassLoader();
+        if (name.contains(".") && Character.isLowerCase(name.charAt(0))) {
+            return Class.forName(name, false, loader);
+        }
+        for (String imported : imports) {
+            String candidate;
+            if (imported.endsWith(".*")) {
+                candidate = imported.substring(0, imported.length() - 1) + name;
+            } else if (imported.endsWith("." + name)) {
+                candidate = imported;
+            } else {
+                continue;
+            }
+            try {
+                return Class.forName(candidate, false, loader);
+            } catch (ClassNotFoundException e) {
+                // Try the next import
+            }
+        }
+        throw new UnsupportedFxmlException("cannot resolve class " + name);
+    }
+
+    private static Constructor<?> publicNoArgConstructor(Class<?> type) {
+        try {
+            return type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String defaultProperty(Class<?> type) throws UnsupportedFxmlException {
+        DefaultProperty annotation = type.getAnnotation(DefaultProperty.class);
+        if (annotation == null) {
+            throw new UnsupportedFxmlException(type.getSimpleName() + " has no default property");
+        }
+        return annotation.value();
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Method findSingleArgMethod(Class<?> type, String name) {
+        Method found = null;
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers())) {
+                // Prefer the String overload when there is one, like FXMLLoader's coercion does
+                if (found == null || method.getParameterTypes()[0] == String.class) {
+                    found = method;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static Class<?> eventType(Method setter) {
+        // setOnAction(EventHandler<ActionEvent>) -> ActionEvent
+        Type parameter = setter.getGenericParameterTypes()[0];
+        if (parameter instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) parameter).getActualTypeArguments()[0];
+            if (argument instanceof WildcardType) {
+                Type[] bounds = ((WildcardType) argument).getLowerBounds();
+                argument = bounds.length > 0 ? bounds[0] : ((WildcardType) argument).getUpperBounds()[0];
+            }
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return javafx.event.Event.class;
+    }
+
+    private static Class<?> listElementType(Type listType) {
+        if (listType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) listType).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return String.class;
+    }
+
+    private String constant(String prefix, String name) {
+        StringBuilder constant = new StringBuilder(prefix);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) constant.append('_');
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    // Java string literal; non-ASCII text (icons, umlauts) is escaped
+    private static String literal(String value) {
+        StringBuilder out = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+}
@@ -3,44 +3,91 @@ package com.linguaops.desktop;
 import com.linguaops.desktop.controller.MainController;
 import com.linguaops.desktop.controller.MainControllerWebStyle;
 import com.linguaops.desktop.service.ConfigurationService;
+import com.linguaops.desktop.service.ExamStatisticsService;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.ImageCacheService;
+import com.linguaops.desktop.service.ServiceRegistry;
+import com.linguaops.desktop.service.StartupMetrics;
+import com.linguaops.desktop.service.TelcSheetService;
 import com.linguaops.desktop.service.ThemeService;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.net.URL;
 
 public class LinguaOpsApplication extends Application {
     private static final Logger logger = LoggerFactory.getLogger(LinguaOpsApplication.class);
+
+    // Set by the appcds build profile (src/build/java/AppCds.java):
+    // "training" visits the main pages and exits so the JVM can dump a class
+    // data sharing archive, "benchmark" prints the startup milestones and exits
+    private static final String STARTUP_MODE = System.getProperty("linguaops.startup.mode", "");
+    private static final String[] TRAINING_PAGES = {
+        "telc", "orders", "participants", "exams", "settings", "history", "home"
+    };
+    // Time-to-interactive budget, checked on every launch and by the startup benchmark
+    private static final long INTERACTIVE_BUDGET_MS = Long.getLong("linguaops.startup.budgetMs", 3000);
     
     private static LinguaOpsApplication instance;
     private Stage primaryStage;
     private Scene scene;
     private MainController mainController;
+    private MainControllerWebStyle webStyleController;
     
     // Services
     private final ConfigurationService configService = new ConfigurationService();
     private final I18nService i18nService = new I18nService();
     private final ThemeService themeService = new ThemeService();
+    private final ImageCacheService imageCacheService = new ImageCacheService();
+    private final ExamStatisticsService examStatisticsService = new ExamStatisticsService();
+    private final TelcSheetService telcSheetService = new TelcSheetService();
+
+    private final ServiceRegistry services = new ServiceRegistry();
+    private final StartupMetrics startupMetrics = new StartupMetrics();
 
     @Override
     public void init() throws Exception {
         super.init();
         instance = this;
         
-        // Initialize services
-        configService.initialize();
-        i18nService.initialize();
-        themeService.initialize();
+        // Register services; independent ones initialize in parallel
+        services
+            .register("config", ServiceRegistry.Phase.STARTUP, configService::initialize)
+            .onShutdown("config", configService::shutdown)
+            .register("i18n", ServiceRegistry.Phase.STARTUP, i18nService::initialize, "config")
+            .register("theme", ServiceRegistry.Phase.STARTUP, themeService::initialize, "config")
+            .register("config-watcher", ServiceRegistry.Phase.DEFERRED, configService::startWatching, "config")
+            .register("image-cache", ServiceRegistry.Phase.DEFERRED, () -> {
+                imageCacheService.setMemoryBudget(configService.getInt("imageCacheBudgetMb", 32) * 1024L * 1024L);
+                imageCacheService.initialize();
+            }, "config")
+            .onShutdown("image-cache", imageCacheService::shutdown)
+            .register("exam-statistics", ServiceRegistry.Phase.DEFERRED, examStatisticsService::initialize, "config")
+            .onShutdown("exam-statistics", examStatisticsService::shutdown)
+            .registerShutdown("telc-sheets", telcSheetService::shutdown);
+
+        services.startAndWait(ServiceRegistry.Phase.STARTUP);
+        startupMetrics.mark(StartupMetrics.SERVICES_READY);
         
         logger.info("LinguaOps Desktop Application initialized");
     }
 
+    /**
+     * Startup runs in stages so the window appears as early as possible:
+     * the header shell is built and shown first, the home page is built in
+     * the background behind a skeleton, and content the first frame does
+     * not need (hero image, window icon) loads once the page is interactive.
+     */
     @Override
     public void start(Stage stage) throws IOException {
         this.primaryStage = stage;
@@ -54,7 +101,7 @@ public class LinguaOpsApplication extends Application {
 
         // Handle both old and new controller types
         if (controller instanceof MainControllerWebStyle) {
-            MainControllerWebStyle webStyleController = (MainControllerWebStyle) controller;
+            webStyleController = (MainControllerWebStyle) controller;
             webStyleController.setApplication(this);
             // Store for getUserData access pattern
             scene.getRoot().setUserData(webStyleController);
@@ -76,23 +123,117 @@ public class LinguaOpsApplication extends Application {
         stage.setMinWidth(1000);
         stage.setMinHeight(700);
 
-        // Set application icon
-        try {
-            Image icon = new Image(getClass().getResourceAsStream("/images/icon.png"));
-            stage.getIcons().add(icon);
-        } catch (Exception e) {
-            logger.warn("Could not load application icon: {}", e.getMessage());
+        if (webStyleController != null) {
+            // Starts building the home page in the background; the shell
+            // shows a skeleton in its place meanwhile
+            webStyleController.setOnPageShown(page -> onFirstPageShown());
+            webStyleController.navigateTo("home");
         }
 
         stage.show();
+        startupMetrics.mark(StartupMetrics.STAGE_SHOWN);
+
+        // Images are decoded for the screen the window is on
+        imageCacheService.setOutputScale(stage.getOutputScaleX());
+        stage.outputScaleXProperty().addListener((obs, oldScale, scale) ->
+            imageCacheService.setOutputScale(scale.doubleValue()));
+        afterNextPulse(StartupMetrics.FIRST_FRAME, () -> {
+            // The legacy layout builds everything up front
+            if (webStyleController == null) {
+                startupMetrics.mark(StartupMetrics.INTERACTIVE);
+                onInteractive();
+            }
+        });
+
+        // Non-critical services start once the window is up
+        services.start(ServiceRegistry.Phase.DEFERRED);
 
         logger.info("LinguaOps Desktop Application (WebApp Style) started");
     }
 
+    /**
+     * Marks {@code milestone} once the next layout pulse has completed, then
+     * runs {@code then} on the FX thread.
+     */
+    private void afterNextPulse(String milestone, Runnable then) {
+        Runnable[] probe = new Runnable[1];
+        boolean[] done = new boolean[1];
+        probe[0] = () -> {
+            if (done[0]) return;
+            done[0] = true;
+            startupMetrics.mark(milestone);
+            // Not removed inline: the scene is iterating its pulse listeners
+            Platform.runLater(() -> {
+                scene.removePostLayoutPulseListener(probe[0]);
+                then.run();
+            });
+        };
+        scene.addPostLayoutPulseListener(probe[0]);
+        Platform.requestNextPulse();
+    }
+
+    private void onFirstPageShown() {
+        webStyleController.setOnPageShown(null);
+        afterNextPulse(StartupMetrics.INTERACTIVE, this::onInteractive);
+    }
+
+    private void onInteractive() {
+        startupMetrics.checkBudget(StartupMetrics.INTERACTIVE, INTERACTIVE_BUDGET_MS);
+        loadApplicationIcon();
+        runStartupMode();
+    }
+
+    private void loadApplicationIcon() {
+        // Lowest priority: the window icon is not needed to use the app
+        URL iconUrl = getClass().getResource("/images/icon.png");
+        if (iconUrl == null) {
+            logger.warn("Could not load application icon: /images/icon.png not found");
+            return;
+        }
+        Image icon = new Image(iconUrl.toExternalForm(), true);
+        icon.progressProperty().addListener((obs, oldValue, progress) -> {
+            if (progress.doubleValue() >= 1.0 && !icon.isError()) {
+                primaryStage.getIcons().add(icon);
+            }
+        });
+        icon.errorProperty().addListener((obs, wasError, error) -> {
+            if (error) {
+                logger.warn("Could not load application icon", icon.getException());
+            }
+        });
+    }
+
+    private void runStartupMode() {
+        switch (STARTUP_MODE) {
+            case "benchmark" -> {
+                System.out.println("startup-metrics " + startupMetrics.summary());
+                Platform.exit();
+            }
+            case "training" -> runTrainingTour();
+            default -> { /* normal launch */ }
+        }
+    }
+
+    private void runTrainingTour() {
+        // Load every main page so its classes are in the archive dumped at exit
+        Timeline tour = new Timeline();
+        for (int i = 0; i < TRAINING_PAGES.length; i++) {
+            String page = TRAINING_PAGES[i];
+            tour.getKeyFrames().add(new KeyFrame(Duration.millis(600 * (i + 1)), e -> {
+                if (webStyleController != null) {
+                    webStyleController.navigateTo(page);
+                }
+            }));
+        }
+        tour.getKeyFrames().add(new KeyFrame(Duration.millis(600 * (TRAINING_PAGES.length + 2)), e -> Platform.exit()));
+        tour.play();
+        logger.info("Startup training run: visiting {} pages", TRAINING_PAGES.length);
+    }
+
     @Override
     public void stop() throws Exception {
         super.stop();
-        configService.save();
+        services.shutdown();
         logger.info("LinguaOps Desktop Application stopped");
     }
 
@@ -100,6 +241,11 @@ public class LinguaOpsApplication extends Application {
     public ConfigurationService getConfigService() { return configService; }
     public I18nService getI18nService() { return i18nService; }
     public ThemeService getThemeService() { return themeService; }
+    public ImageCacheService getImageCacheService() { return imageCacheService; }
+    public ExamStatisticsService getExamStatisticsService() { return examStatisticsService; }
+    public TelcSheetService getTelcSheetService() { return telcSheetService; }
+    public ServiceRegistry getServices() { return services; }
+    public StartupMetrics getStartupMetrics() { return startupMetrics; }
     public Scene getScene() { return scene; }
     public Stage getPrimaryStage() { return primaryStage; }
     
@@ -0,0 +1,71 @@
+package com.linguaops.desktop.bank;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads a bank statement file in whichever format the bank exported:
+ * CAMT.053 XML and MT940 are streamed, PDF statements are scraped.
+ */
+public final class BankStatementImport {
+    public enum Format { CAMT053, MT940, PDF }
+
+    private BankStatementImport() {
+    }
+
+    /**
+     * Format of {@code file}, judged by its first bytes rather than its name.
+     */
+    public static Format detect(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] head = in.readNBytes(512);
+            String text = new String(head, StandardCharsets.ISO_8859_1).stripLeading();
+            // UTF-8 byte order mark, as read in ISO-8859-1
+            if (text.startsWith("\u00ef\u00bb\u00bf")) text = text.substring(3).stripLeading();
+            if (text.startsWith("%PDF-")) return Format.PDF;
+            if (text.startsWith("<")) return Format.CAMT053;
+            if (text.contains(":20:") || text.contains(":61:")) return Format.MT940;
+            throw new IOException("Unknown bank statement format: " + file.getFileName());
+        }
+    }
+
+    /**
+     * Passes every transaction in {@code file} to {@code sink} in statement
+     * order and returns how many there were.
+     */
+    public static int read(Path file, Consumer<BankTransaction> sink) throws IOException {
+        switch (detect(file)) {
+            case CAMT053 -> {
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                    return Camt053Reader.read(in, sink);
+                }
+            }
+            case MT940 -> {
+                try (BufferedReader in = new BufferedReader(
+                        new InputStreamReader(Files.newInputStream(file), StandardCharsets.ISO_8859_1))) {
+                    return Mt940Reader.read(in, sink);
+                }
+            }
+            default -> {
+                List<BankTransaction> transactions = BankStatementPdf.readTransactions(file);
+                transactions.forEach(sink);
+                return transactions.size();
+            }
+        }
+    }
+
+    public static List<BankTransaction> readAll(Path file) throws IOException {
+        List<BankTransaction> transactions = new ArrayList<>();
+        read(file, transactions::add);
+        return transactions;
+    }
+}
@@ -0,0 +1,97 @@
+package com.linguaops.desktop.bank;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads the transactions of a bank statement PDF. Pages are extracted and
+ * segmented in parallel, each task holding only its own page's content, and
+ * the per-page results are stitched together in page order: text at the top
+ * of a page before its first date belongs to the last booking of the page
+ * before.
+ */
+public final class BankStatementPdf {
+    private static final Logger logger = LoggerFactory.getLogger(BankStatementPdf.class);
+
+    private static final ExecutorService pageReader = createPageReader();
+
+    private BankStatementPdf() {
+    }
+
+    private static ExecutorService createPageReader() {
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "bank-pdf-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Transactions of {@code pdf} in statement order. Blocks until all pages
+     * are read; call it off the FX thread.
+     */
+    public static List<BankTransaction> readTransactions(Path pdf) throws IOException {
+        long start = System.nanoTime();
+        try (PdfDocument document = new PdfDocument(pdf)) {
+            List<CompletableFuture<TransactionSegmenter.Page>> pages = new ArrayList<>(document.getPageCount());
+            for (int i = 0; i < document.getPageCount(); i++) {
+                int page = i;
+                pages.add(CompletableFuture.supplyAsync(
+                    () -> TransactionSegmenter.segment(document.pageText(page)), pageReader));
+            }
+
+            List<BankTransaction> transactions;
+            try {
+                transactions = stitch(pdf, pages);
+            } finally {
+                // No page may still be reading when the document is closed
+                CompletableFuture.allOf(pages.toArray(CompletableFuture<?>[]::new)).handle((r, e) -> null).join();
+            }
+            logger.info("Read {} transactions from {} pages of {} in {} ms", transactions.size(),
+                document.getPageCount(), pdf.getFileName(), (System.nanoTime() - start) / 1_000_000);
+            return transactions;
+        }
+    }
+
+    private static List<BankTransaction> stitch(Path pdf, List<CompletableFuture<TransactionSegmenter.Page>> pages)
+            throws IOException {
+        List<BankTransaction> transactions = new ArrayList<>();
+        StringBuilder unassigned = new StringBuilder();
+        for (CompletableFuture<TransactionSegmenter.Page> future : pages) {
+            TransactionSegmenter.Page page;
+            try {
+                page = future.join();
+            } catch (CompletionException e) {
+                throw new IOException("Could not read " + pdf, e.getCause());
+            }
+
+            if (transactions.isEmpty()) {
+                // Statement header before the first booking
+                if (unassigned.length() > 0) unassigned.append('\n');
+                unassigned.append(page.leadingText());
+            } else {
+                int last = transactions.size() - 1;
+                transactions.set(last, TransactionSegmenter.append(transactions.get(last), page.leadingText()));
+            }
+            transactions.addAll(page.transactions());
+        }
+
+        if (transactions.isEmpty()) {
+            // Same fallback as the server: the whole text as one transaction
+            transactions.addAll(TransactionSegmenter.split(unassigned.toString()));
+        }
+        return transactions;
+    }
+}
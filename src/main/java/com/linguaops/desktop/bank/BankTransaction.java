@@ -0,0 +1,10 @@
+package com.linguaops.desktop.bank;
+
+import java.math.BigDecimal;
+
+/**
+ * One booking from a bank statement. Date, sender and amount are
+ * {@code null} when the statement did not provide them.
+ */
+public record BankTransaction(String date, String senderName, BigDecimal amount, String reference) {
+}
@@ -0,0 +1,177 @@
+package com.linguaops.desktop.bank;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams the entries (Ntry) of an ISO 20022 CAMT.053 account statement
+ * into {@link BankTransaction}s with StAX, so only the entry being read is
+ * held in memory. Elements are matched by local name, which covers the
+ * camt.053.001.02 to .08 schemas the banks send. A batch entry with several
+ * transaction details becomes one transaction per detail.
+ */
+public final class Camt053Reader {
+    private static final XMLInputFactory factory = createFactory();
+
+    private Camt053Reader() {
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // Statements come from outside; no DTDs or external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    // One transaction detail (TxDtls), or the entry itself when it has none
+    private static final class Details {
+        BigDecimal amount;
+        String debtor;
+        String creditor;
+        String endToEndId;
+        final List<String> remittance = new ArrayList<>();
+    }
+
+    // The Ntry being read
+    private static final class Entry {
+        BigDecimal amount;
+        boolean debit;
+        String bookingDate;
+        String valueDate;
+        String additionalInfo;
+        final Details summary = new Details();
+        final List<Details> details = new ArrayList<>();
+    }
+
+    /**
+     * Reads {@code in} to the end, passing each transaction to {@code sink}
+     * in document order, and returns how many there were.
+     */
+    public static int read(InputStream in, Consumer<BankTransaction> sink) throws IOException {
+        XMLStreamReader xml = null;
+        try {
+            xml = factory.createXMLStreamReader(in);
+            Deque<String> path = new ArrayDeque<>();
+            Entry entry = null;
+            Details details = null;
+            int count = 0;
+
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    path.push(name);
+                    if (name.equals("Ntry")) {
+                        entry = new Entry();
+                    } else if (entry != null && name.equals("TxDtls")) {
+                        details = new Details();
+                        entry.details.add(details);
+                    } else if (entry != null && isLeaf(name)) {
+                        String text = xml.getElementText().trim();
+                        path.pop();
+                        collect(path, name, text, entry, details != null ? details : entry.summary);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = path.pop();
+                    if (name.equals("TxDtls")) {
+                        details = null;
+                    } else if (name.equals("Ntry") && entry != null) {
+                        count += emit(entry, sink);
+                        entry = null;
+                    }
+                }
+            }
+            return count;
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new IOException("Invalid CAMT.053 statement: " + e.getMessage(), e);
+        } finally {
+            if (xml != null) {
+                try {
+                    xml.close();
+                } catch (XMLStreamException ignored) {
+                    // Closing the reader does not close the stream
+                }
+            }
+        }
+    }
+
+    private static boolean isLeaf(String name) {
+        return switch (name) {
+            case "Amt", "CdtDbtInd", "Dt", "DtTm", "Nm", "Ustrd", "Ref", "EndToEndId", "AddtlNtryInf" -> true;
+            default -> false;
+        };
+    }
+
+    // path holds the ancestors of the element that was just read
+    private static void collect(Deque<String> path, String name, String text, Entry entry, Details details) {
+        String parent = path.peek();
+        switch (name) {
+            case "Amt" -> {
+                BigDecimal amount = new BigDecimal(text);
+                if ("Ntry".equals(parent)) {
+                    entry.amount = amount;
+                } else if ("TxDtls".equals(parent) || path.contains("TxAmt")) {
+                    details.amount = amount;
+                }
+            }
+            case "CdtDbtInd" -> {
+                if ("Ntry".equals(parent)) entry.debit = text.equals("DBIT");
+            }
+            case "Dt", "DtTm" -> {
+                String date = text.length() >= 10 ? text.substring(0, 10) : text;
+                if ("BookgDt".equals(parent)) entry.bookingDate = date;
+                else if ("ValDt".equals(parent)) entry.valueDate = date;
+            }
+            case "Nm" -> {
+                // Dbtr/Nm, or Dbtr/Pty/Nm from camt.053.001.08 on
+                if (path.contains("Dbtr") && details.debtor == null) details.debtor = text;
+                else if (path.contains("Cdtr") && details.creditor == null) details.creditor = text;
+            }
+            case "Ustrd" -> details.remittance.add(text);
+            case "Ref" -> {
+                if (path.contains("CdtrRefInf")) details.remittance.add(text);
+            }
+            case "EndToEndId" -> {
+                if (!text.isEmpty() && !text.equals("NOTPROVIDED")) details.endToEndId = text;
+            }
+            case "AddtlNtryInf" -> entry.additionalInfo = text;
+            default -> { }
+        }
+    }
+
+    private static int emit(Entry entry, Consumer<BankTransaction> sink) {
+        String date = germanDate(entry.bookingDate != null ? entry.bookingDate : entry.valueDate);
+        List<Details> all = entry.details.isEmpty() ? List.of(entry.summary) : entry.details;
+        boolean batch = all.size() > 1;
+        for (Details details : all) {
+            BigDecimal amount = batch && details.amount != null ? details.amount : entry.amount;
+            if (amount != null && entry.debit) amount = amount.negate();
+            // The other party: who paid us, or whom we paid
+            String sender = entry.debit ? details.creditor : details.debtor;
+
+            List<String> reference = new ArrayList<>(details.remittance);
+            if (details.endToEndId != null) reference.add(details.endToEndId);
+            if (reference.isEmpty() && entry.additionalInfo != null) reference.add(entry.additionalInfo);
+            sink.accept(new BankTransaction(date, sender, amount, String.join("\n", reference)));
+        }
+        return all.size();
+    }
+
+    // ISO yyyy-MM-dd to the dd.MM.yyyy used by statements and the server
+    static String germanDate(String iso) {
+        if (iso == null || iso.length() != 10 || iso.charAt(4) != '-') return iso;
+        return iso.substring(8, 10) + "." + iso.substring(5, 7) + "." + iso.substring(0, 4);
+    }
+}
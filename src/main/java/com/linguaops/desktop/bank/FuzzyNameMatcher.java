@@ -0,0 +1,266 @@
+package com.linguaops.desktop.bank;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Finds names that are spelled a little differently, such as bank sender
+ * names against customer names. Names are reduced to a signature first:
+ * lower case, umlauts written out (ä -> ae, ß -> ss), other accents and
+ * punctuation dropped, words sorted so "Müller Anna" equals "Anna Mueller".
+ * Candidates are found through a trigram index and scored with Myers'
+ * bit-parallel edit distance, so a lookup never compares against every name.
+ * Instances are immutable and safe to share between threads.
+ *
+ * @param <T> the items the names belong to, such as orders
+ */
+public class FuzzyNameMatcher<T> {
+    public static final double DEFAULT_THRESHOLD = 0.8;
+
+    private static final Pattern DIACRITICS = Pattern.compile("[\\u0300-\\u036f]");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    // Signatures only contain a-z, 0-9 and single spaces
+    private static final int ALPHABET = 37;
+    private static final int[] CODES = new int[128];
+
+    static {
+        Arrays.fill(CODES, -1);
+        CODES[' '] = 0;
+        for (char c = 'a'; c <= 'z'; c++) CODES[c] = 1 + c - 'a';
+        for (char c = '0'; c <= '9'; c++) CODES[c] = 27 + c - '0';
+    }
+
+    public record Match<T>(T item, String name, double score, int distance) {
+    }
+
+    private final double threshold;
+    // One slot per distinct signature, ordered by length; items sharing a
+    // signature are kept together
+    private final String[] signatures;
+    private final List<List<T>> items;
+    private final List<String> names;
+    // First slot whose signature is at least as long as the index
+    private final int[] lengthStart;
+    // Trigram -> slots in ascending order
+    private final int[][] postings;
+
+    public FuzzyNameMatcher(Collection<T> source, Function<T, String> nameOf) {
+        this(source, nameOf, DEFAULT_THRESHOLD);
+    }
+
+    public FuzzyNameMatcher(Collection<T> source, Function<T, String> nameOf, double threshold) {
+        this.threshold = threshold;
+
+        Map<String, Integer> slots = new HashMap<>();
+        List<String> signatureList = new ArrayList<>();
+        List<List<T>> itemList = new ArrayList<>();
+        List<String> nameList = new ArrayList<>();
+        for (T item : source) {
+            String name = nameOf.apply(item);
+            String signature = signature(name);
+            if (signature.isEmpty()) continue;
+
+            Integer slot = slots.get(signature);
+            if (slot == null) {
+                slot = signatureList.size();
+                slots.put(signature, slot);
+                signatureList.add(signature);
+                itemList.add(new ArrayList<>(1));
+                nameList.add(name);
+            }
+            itemList.get(slot).add(item);
+        }
+
+        Integer[] byLength = new Integer[signatureList.size()];
+        for (int i = 0; i < byLength.length; i++) byLength[i] = i;
+        Arrays.sort(byLength, Comparator.comparingInt(i -> signatureList.get(i).length()));
+        signatures = new String[byLength.length];
+        items = new ArrayList<>(byLength.length);
+        names = new ArrayList<>(byLength.length);
+        for (int slot = 0; slot < byLength.length; slot++) {
+            signatures[slot] = signatureList.get(byLength[slot]);
+            items.add(itemList.get(byLength[slot]));
+            names.add(nameList.get(byLength[slot]));
+        }
+
+        int maxLength = signatures.length == 0 ? 0 : signatures[signatures.length - 1].length();
+        lengthStart = new int[maxLength + 2];
+        for (int length = 0, slot = 0; length < lengthStart.length; length++) {
+            while (slot < signatures.length && signatures[slot].length() < length) slot++;
+            lengthStart[length] = slot;
+        }
+
+        // Built as counts then filled in place, in slot order
+        int[][] slotGrams = new int[signatures.length][];
+        int[] sizes = new int[ALPHABET * ALPHABET * ALPHABET];
+        for (int slot = 0; slot < signatures.length; slot++) {
+            slotGrams[slot] = trigrams(signatures[slot]);
+            for (int gram : slotGrams[slot]) sizes[gram]++;
+        }
+        postings = new int[sizes.length][];
+        for (int gram = 0; gram < sizes.length; gram++) {
+            if (sizes[gram] > 0) postings[gram] = new int[sizes[gram]];
+        }
+        Arrays.fill(sizes, 0);
+        for (int slot = 0; slot < signatures.length; slot++) {
+            for (int gram : slotGrams[slot]) {
+                postings[gram][sizes[gram]++] = slot;
+            }
+        }
+    }
+
+    /**
+     * Items whose name is at least {@code threshold} similar to {@code name},
+     * best first. Similarity is 1 - edit distance / length of the longer
+     * signature.
+     */
+    public List<Match<T>> match(String name) {
+        String query = signature(name);
+        if (query.isEmpty() || signatures.length == 0) return List.of();
+
+        // Any signature within k edits is at most k longer or shorter, and keeps
+        // all but 3k of the query's trigrams; k itself is bounded by the query length
+        int maxDistance = (int) Math.floor((1 - threshold) * query.length() / threshold + 1e-9);
+        int[] grams = trigrams(query);
+        int minShared = grams.length - 3 * maxDistance;
+
+        // Only signatures with a possible length and at least one shared trigram are scored
+        int from = lengthStart[Math.min(Math.max(0, query.length() - maxDistance), lengthStart.length - 1)];
+        int to = lengthStart[Math.min(query.length() + maxDistance + 1, lengthStart.length - 1)];
+        if (from >= to) return List.of();
+
+        int[] shared = new int[to - from];
+        int[] touched = new int[to - from];
+        int touchedCount = 0;
+        for (int gram : grams) {
+            int[] slots = postings[gram];
+            if (slots == null) continue;
+            int i = Arrays.binarySearch(slots, from);
+            for (i = i < 0 ? -i - 1 : i; i < slots.length && slots[i] < to; i++) {
+                if (shared[slots[i] - from]++ == 0) touched[touchedCount++] = slots[i];
+            }
+        }
+
+        long[] peq = query.length() <= 64 ? patternMasks(query) : null;
+        List<Match<T>> matches = new ArrayList<>();
+        for (int t = 0; t < touchedCount; t++) {
+            int slot = touched[t];
+            if (shared[slot - from] < minShared) continue;
+
+            String candidate = signatures[slot];
+            int distance = peq != null ? myers(peq, query.length(), candidate) : levenshtein(query, candidate);
+            double score = 1.0 - (double) distance / Math.max(query.length(), candidate.length());
+            if (score < threshold) continue;
+
+            for (T item : items.get(slot)) {
+                matches.add(new Match<>(item, names.get(slot), score, distance));
+            }
+        }
+        matches.sort((a, b) -> Double.compare(b.score(), a.score()));
+        return matches;
+    }
+
+    /**
+     * The normalized, umlaut-folded, word-sorted form names are compared in.
+     */
+    public static String signature(String name) {
+        if (name == null) return "";
+        // Composed first, so "u" plus a combining diaeresis is folded to "ue" like "ü"
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFC).toLowerCase(Locale.ROOT)
+            .replace("ä", "ae").replace("ö", "oe").replace("ü", "ue").replace("ß", "ss").replace("ı", "i");
+        folded = DIACRITICS.matcher(Normalizer.normalize(folded, Normalizer.Form.NFD)).replaceAll("");
+        String[] words = NON_ALPHANUMERIC.split(folded);
+        Arrays.sort(words);
+        StringBuilder signature = new StringBuilder(folded.length());
+        for (String word : words) {
+            if (word.isEmpty()) continue;
+            if (signature.length() > 0) signature.append(' ');
+            signature.append(word);
+        }
+        return signature.toString();
+    }
+
+    // Edit distance of two signatures, computed the way match() does
+    static int distance(String a, String b) {
+        if (a.isEmpty() || a.length() > 64) return levenshtein(a, b);
+        return myers(patternMasks(a), a.length(), b);
+    }
+
+    // Distinct trigrams of " signature ", encoded as base-37 numbers
+    private static int[] trigrams(String signature) {
+        String padded = " " + signature + " ";
+        int[] grams = new int[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (CODES[padded.charAt(i)] * ALPHABET + CODES[padded.charAt(i + 1)]) * ALPHABET
+                + CODES[padded.charAt(i + 2)];
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) grams[distinct++] = grams[i];
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private static long[] patternMasks(String pattern) {
+        long[] peq = new long[ALPHABET];
+        for (int i = 0; i < pattern.length(); i++) {
+            peq[CODES[pattern.charAt(i)]] |= 1L << i;
+        }
+        return peq;
+    }
+
+    // Levenshtein distance, one text character per step (Myers 1999, Hyyrö's formulation)
+    private static int myers(long[] peq, int length, String text) {
+        long pv = -1L;
+        long mv = 0L;
+        long last = 1L << (length - 1);
+        int distance = length;
+        for (int j = 0; j < text.length(); j++) {
+            long eq = peq[CODES[text.charAt(j)]];
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & last) != 0) {
+                distance++;
+            } else if ((mh & last) != 0) {
+                distance--;
+            }
+            // Row 0 grows by one per text character for a whole-string distance
+            ph = (ph << 1) | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+        return distance;
+    }
+
+    // Names longer than a machine word are rare enough for the plain DP
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
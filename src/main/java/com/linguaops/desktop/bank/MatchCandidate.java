@@ -0,0 +1,21 @@
+package com.linguaops.desktop.bank;
+
+import java.util.List;
+
+/**
+ * An order that may have been paid by a transaction. Confidence follows
+ * the server's transaction_matches levels: 1 is certain, 3 needs a human.
+ */
+public record MatchCandidate(
+    Order order,
+    int confidence,
+    String reason,
+    Double nameScore,
+    boolean amountMatch,
+    boolean orderNumberInReference,
+    List<String> referenceNames) {
+
+    public static final int CONFIDENCE_HIGH = 1;
+    public static final int CONFIDENCE_MEDIUM = 2;
+    public static final int CONFIDENCE_LOW = 3;
+}
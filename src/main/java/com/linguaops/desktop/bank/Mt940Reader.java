@@ -0,0 +1,134 @@
+package com.linguaops.desktop.bank;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streams the bookings of a SWIFT MT940 statement into
+ * {@link BankTransaction}s, line by line. Each :61: statement line plus the
+ * :86: information after it is one transaction. Information in the German
+ * structured format (?20-?29 and ?60-?63 purpose, ?32/?33 name) is split
+ * into its fields; anything else is kept as the reference text.
+ */
+public final class Mt940Reader {
+    // Value date, optional entry date, debit/credit mark, optional funds code, amount
+    private static final Pattern STATEMENT_LINE = Pattern.compile(
+        "^(\\d{2})(\\d{2})(\\d{2})(?:\\d{4})?(R?[CD])[A-Z]?(\\d+,\\d{0,2})");
+    private static final Pattern TAG = Pattern.compile("^:(\\d{2}[A-Z]?):(.*)");
+    private static final Pattern SUBFIELD = Pattern.compile("\\?(\\d{2})([^?]*)");
+    private static final Pattern SEPA_KEYWORD = Pattern.compile("^[A-Z]{4}\\+");
+
+    private Mt940Reader() {
+    }
+
+    /**
+     * Reads {@code in} to the end, passing each transaction to {@code sink}
+     * in statement order, and returns how many there were. MT940 files are
+     * usually ISO-8859-1; the caller picks the charset of the reader.
+     */
+    public static int read(BufferedReader in, Consumer<BankTransaction> sink) throws IOException {
+        int[] count = new int[1];
+        Consumer<BankTransaction> counted = transaction -> {
+            count[0]++;
+            sink.accept(transaction);
+        };
+        String tag = null;
+        StringBuilder value = new StringBuilder();
+        Booking pending = null;
+        int lineNumber = 0;
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            Matcher start = TAG.matcher(line);
+            // "-" ends a statement, "-}" the SWIFT message around it
+            String trimmed = line.trim();
+            boolean end = trimmed.equals("-") || trimmed.startsWith("-}");
+            if (!start.matches() && !end) {
+                if (tag != null) value.append(separator(tag, value)).append(line);
+                continue;
+            }
+
+            pending = field(tag, value.toString(), pending, counted, lineNumber);
+            tag = end ? null : start.group(1);
+            value.setLength(0);
+            if (!end) value.append(start.group(2));
+        }
+        pending = field(tag, value.toString(), pending, counted, lineNumber);
+        if (pending != null) pending.emit(counted, null, pending.statementLine());
+        return count[0];
+    }
+
+    // Structured :86: information is wrapped anywhere, even mid-word, and its
+    // ?nn subfields carry their own boundaries; free text is wrapped at spaces
+    private static String separator(String tag, CharSequence value) {
+        if (!tag.equals("86")) return "\n";
+        return isStructured(value) ? "" : " ";
+    }
+
+    // "166?00GUTSCHRIFT?20..." : a business transaction code, then subfields
+    private static boolean isStructured(CharSequence information) {
+        return information.length() >= 4 && information.charAt(3) == '?';
+    }
+
+    // A :61: line waiting for its :86: information
+    private record Booking(String date, BigDecimal amount, String statementLine) {
+        void emit(Consumer<BankTransaction> sink, String sender, String reference) {
+            sink.accept(new BankTransaction(date, sender, amount, reference));
+        }
+    }
+
+    // Handles a completed field; returns the booking still waiting for its information
+    private static Booking field(String tag, String value, Booking pending, Consumer<BankTransaction> sink,
+                                 int lineNumber) throws IOException {
+        if (tag == null) return pending;
+        if (tag.equals("86")) {
+            if (pending != null) information(value, pending, sink);
+            return null;
+        }
+        // Any other field ends a booking without information
+        if (pending != null) pending.emit(sink, null, pending.statementLine());
+        return tag.equals("61") ? statementLine(value, lineNumber) : null;
+    }
+
+    private static Booking statementLine(String line, int lineNumber) throws IOException {
+        Matcher matcher = STATEMENT_LINE.matcher(line);
+        if (!matcher.find()) {
+            throw new IOException("Invalid MT940 statement line before line " + lineNumber + ": " + line);
+        }
+        String date = matcher.group(3) + "." + matcher.group(2) + ".20" + matcher.group(1);
+        BigDecimal amount = new BigDecimal(matcher.group(5).replace(',', '.'));
+        // Debits and reversed credits leave the account
+        String mark = matcher.group(4);
+        if (mark.equals("D") || mark.equals("RC")) amount = amount.negate();
+        return new Booking(date, amount, line);
+    }
+
+    private static void information(String text, Booking booking, Consumer<BankTransaction> sink) {
+        if (!isStructured(text)) {
+            booking.emit(sink, null, text.trim());
+            return;
+        }
+        StringBuilder purpose = new StringBuilder();
+        StringBuilder name = new StringBuilder();
+        Matcher subfield = SUBFIELD.matcher(text);
+        while (subfield.find()) {
+            int code = Integer.parseInt(subfield.group(1));
+            String content = subfield.group(2);
+            if (content.isBlank()) continue;
+            if ((code >= 20 && code <= 29) || (code >= 60 && code <= 63)) {
+                // Purpose fields are one text wrapped at 27 characters, with
+                // SEPA parts (EREF+, SVWZ+, ...) starting on a new line
+                if (purpose.length() > 0 && SEPA_KEYWORD.matcher(content).find()) purpose.append('\n');
+                purpose.append(content);
+            } else if (code == 32 || code == 33) {
+                name.append(content);
+            }
+        }
+        booking.emit(sink, name.length() > 0 ? name.toString().trim() : null, purpose.toString().trim());
+    }
+}
@@ -0,0 +1,10 @@
+package com.linguaops.desktop.bank;
+
+import java.math.BigDecimal;
+
+/**
+ * An order as seen by bank reconciliation; the fields of the server's
+ * {@code orders} table that matching needs.
+ */
+public record Order(long id, String number, BigDecimal total, String customerName, String status) {
+}
@@ -0,0 +1,610 @@
+package com.linguaops.desktop.bank;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Just enough PDF to get the text out of bank statements page by page: the
+ * file is memory-mapped, objects are located with one scan, and pages are
+ * read from the page tree. Objects kept in object streams (PDF 1.5+) are
+ * unpacked up front; cross-reference tables and streams are not needed since
+ * the scan finds every object, and the trailer's /Root is found the same way
+ * in either form. {@link #pageText(int)} inflates one page's content streams
+ * and decodes their literal and hex strings through the fonts' ToUnicode
+ * maps, so subset and CID (Identity-H) fonts work as well as plain ones;
+ * scanned statements yield nothing. {@link #pageText(int)} may be called from
+ * several threads at once, but not after {@link #close()}. The mapping is
+ * released by the garbage collector, never explicitly, so a late read can
+ * at worst fail with an exception.
+ */
+class PdfDocument implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(PdfDocument.class);
+
+    private static final Pattern OBJECT = Pattern.compile("(\\d+)\\s+\\d+\\s+obj\\b");
+    private static final Pattern ROOT = Pattern.compile("/Root\\s+(\\d+)\\s+\\d+\\s+R");
+    private static final Pattern PAGES = Pattern.compile("/Pages\\s+(\\d+)\\s+\\d+\\s+R");
+    private static final Pattern KIDS = Pattern.compile("/Kids\\s*\\[([^\\]]*)\\]");
+    private static final Pattern CONTENTS = Pattern.compile("/Contents\\s*(?:(\\d+)\\s+\\d+\\s+R|\\[([^\\]]*)\\])");
+    private static final Pattern REFERENCE = Pattern.compile("(\\d+)\\s+\\d+\\s+R");
+    private static final Pattern PAGE_TYPE = Pattern.compile("/Type\\s*/Page(?![A-Za-z])");
+    private static final Pattern PAGES_TYPE = Pattern.compile("/Type\\s*/Pages\\b");
+    private static final Pattern FLATE = Pattern.compile("/FlateDecode\\b");
+    private static final Pattern FILTER = Pattern.compile("/Filter\\b");
+    private static final Pattern OBJECT_STREAM = Pattern.compile("/Type\\s*/ObjStm\\b");
+    private static final Pattern OBJECT_COUNT = Pattern.compile("/N\\s+(\\d+)");
+    private static final Pattern FIRST_OFFSET = Pattern.compile("/First\\s+(\\d+)");
+    private static final Pattern PARENT = Pattern.compile("/Parent\\s+(\\d+)\\s+\\d+\\s+R");
+    private static final Pattern RESOURCES = Pattern.compile("/Resources\\s*(?:(\\d+)\\s+\\d+\\s+R|(<<))");
+    private static final Pattern FONTS = Pattern.compile("/Font\\s*(?:(\\d+)\\s+\\d+\\s+R|(<<))");
+    private static final Pattern FONT_ENTRY = Pattern.compile("/([^\\s/<>\\[\\]()]+)\\s*(\\d+)\\s+\\d+\\s+R");
+    private static final Pattern TYPE0 = Pattern.compile("/Subtype\\s*/Type0\\b");
+    private static final Pattern TO_UNICODE = Pattern.compile("/ToUnicode\\s+(\\d+)\\s+\\d+\\s+R");
+    private static final Pattern CMAP_SECTION = Pattern.compile("beginbf(char|range)(.*?)endbf\\1", Pattern.DOTALL);
+    private static final Pattern CMAP_TOKEN = Pattern.compile("<([0-9A-Fa-f\\s]*)>|\\[|\\]");
+    // TJ adjustments in thousandths of an em; a gap this wide separates words
+    private static final int WORD_GAP = -200;
+
+    private final ByteBuffer data;
+    private final CharSequence text;
+    // Object number -> offset of its "n g obj" header; later definitions win
+    private final Map<Integer, Integer> offsets = new HashMap<>();
+    // Object number -> text of objects packed into object streams
+    private final Map<Integer, String> packed = new HashMap<>();
+    private final Map<Integer, Font> fonts = new ConcurrentHashMap<>();
+    private final List<Integer> pages;
+    private volatile boolean closed;
+
+    PdfDocument(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        text = new Latin1(data, 0, data.limit());
+        try {
+            if (!matches("%PDF-", 0)) {
+                throw new IOException(file + " is not a PDF file");
+            }
+
+            Matcher object = OBJECT.matcher(text);
+            while (object.find()) {
+                offsets.put(Integer.parseInt(object.group(1)), object.start());
+            }
+            unpackObjectStreams();
+            pages = findPages();
+            if (pages.isEmpty()) {
+                throw new IOException("No pages found in " + file);
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Ends the use of the document; {@link #pageText(int)} fails afterwards.
+     * The file stays mapped until the buffer is garbage collected.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Text strings of page {@code index} (0-based), one line per string.
+     */
+    String pageText(int index) {
+        if (closed) throw new IllegalStateException("PDF document is closed");
+        int pageObject = pages.get(index);
+        String page = dictionary(pageObject);
+        Matcher contents = CONTENTS.matcher(page);
+        if (!contents.find()) return "";
+
+        List<Integer> streams = new ArrayList<>();
+        if (contents.group(1) != null) {
+            streams.add(Integer.parseInt(contents.group(1)));
+        } else {
+            Matcher reference = REFERENCE.matcher(contents.group(2));
+            while (reference.find()) streams.add(Integer.parseInt(reference.group(1)));
+        }
+
+        Map<String, Font> pageFonts = fontsOf(pageObject);
+        StringBuilder out = new StringBuilder();
+        for (int stream : streams) {
+            byte[] content = streamData(stream);
+            if (content != null) extractText(content, pageFonts, out);
+        }
+        return out.toString();
+    }
+
+    // Objects of every object stream, each taking the place of a definition
+    // earlier in the file; a direct definition after the stream wins
+    private void unpackObjectStreams() {
+        List<Map.Entry<Integer, Integer>> streams = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : offsets.entrySet()) {
+            if (OBJECT_STREAM.matcher(dictionary(entry.getKey())).find()) streams.add(entry);
+        }
+        streams.sort(Map.Entry.comparingByValue());
+        for (Map.Entry<Integer, Integer> stream : streams) {
+            String dictionary = dictionary(stream.getKey());
+            Integer count = firstNumber(OBJECT_COUNT, dictionary);
+            Integer first = firstNumber(FIRST_OFFSET, dictionary);
+            byte[] content = streamData(stream.getKey());
+            if (count == null || first == null || content == null || first > content.length) {
+                logger.debug("Skipping unreadable object stream {}", stream.getKey());
+                continue;
+            }
+
+            String objects = new String(content, StandardCharsets.ISO_8859_1);
+            String[] header = objects.substring(0, first).trim().split("\\s+");
+            int entries = Math.min(count, header.length / 2);
+            for (int i = 0; i < entries; i++) {
+                int number = Integer.parseInt(header[2 * i]);
+                int start = first + Integer.parseInt(header[2 * i + 1]);
+                int end = i + 1 < entries ? first + Integer.parseInt(header[2 * i + 3]) : objects.length();
+                if (start > end || end > objects.length()) continue;
+                Integer direct = offsets.get(number);
+                if (direct != null && direct > stream.getValue()) continue;
+                offsets.remove(number);
+                packed.put(number, objects.substring(start, end));
+            }
+        }
+    }
+
+    private boolean exists(int object) {
+        return offsets.containsKey(object) || packed.containsKey(object);
+    }
+
+    // Fonts named in the page's resources, which may be inherited from the page tree
+    private Map<String, Font> fontsOf(int page) {
+        String resources = null;
+        Set<Integer> visited = new HashSet<>();
+        for (Integer node = page; node != null && resources == null && exists(node) && visited.add(node); ) {
+            String dictionary = dictionary(node);
+            resources = entry(RESOURCES, dictionary);
+            node = firstNumber(PARENT, dictionary);
+        }
+        String fontDictionary = resources != null ? entry(FONTS, resources) : null;
+        if (fontDictionary == null) return Map.of();
+
+        Map<String, Font> result = new HashMap<>();
+        Matcher font = FONT_ENTRY.matcher(fontDictionary);
+        while (font.find()) {
+            int object = Integer.parseInt(font.group(2));
+            if (exists(object)) result.put(font.group(1), fonts.computeIfAbsent(object, this::readFont));
+        }
+        return result;
+    }
+
+    private Font readFont(int object) {
+        String dictionary = dictionary(object);
+        Integer toUnicode = firstNumber(TO_UNICODE, dictionary);
+        byte[] cmap = toUnicode != null ? streamData(toUnicode) : null;
+        return new Font(TYPE0.matcher(dictionary).find(), cmap != null ? parseCMap(cmap) : Map.of());
+    }
+
+    // The value of a dictionary entry: the referenced object or the inline "<< ... >>"
+    private String entry(Pattern key, String dictionary) {
+        Matcher matcher = key.matcher(dictionary);
+        if (!matcher.find()) return null;
+        if (matcher.group(1) != null) {
+            int object = Integer.parseInt(matcher.group(1));
+            return exists(object) ? dictionary(object) : null;
+        }
+        int depth = 0;
+        for (int i = matcher.start(2); i + 1 < dictionary.length(); i++) {
+            if (dictionary.startsWith("<<", i)) {
+                depth++;
+                i++;
+            } else if (dictionary.startsWith(">>", i)) {
+                if (--depth == 0) return dictionary.substring(matcher.start(2), i + 2);
+                i++;
+            }
+        }
+        return dictionary.substring(matcher.start(2));
+    }
+
+    // Pages in document order from the page tree, or every page object in
+    // file order when the tree is not readable
+    private List<Integer> findPages() {
+        List<Integer> result = new ArrayList<>();
+        Integer root = lastReference(ROOT, text);
+        if (root != null && exists(root)) {
+            Integer tree = lastReference(PAGES, dictionary(root));
+            if (tree != null) collectPages(tree, result, new HashSet<>());
+        }
+        if (!result.isEmpty()) return result;
+
+        offsets.entrySet().stream()
+            .sorted(Map.Entry.comparingByValue())
+            .forEach(entry -> {
+                if (PAGE_TYPE.matcher(dictionary(entry.getKey())).find()) result.add(entry.getKey());
+            });
+        packed.keySet().stream()
+            .sorted(Comparator.naturalOrder())
+            .forEach(object -> {
+                if (PAGE_TYPE.matcher(packed.get(object)).find()) result.add(object);
+            });
+        return result;
+    }
+
+    private void collectPages(int node, List<Integer> result, Set<Integer> visited) {
+        if (!visited.add(node) || !exists(node)) return;
+        String dictionary = dictionary(node);
+        if (PAGES_TYPE.matcher(dictionary).find()) {
+            Matcher kids = KIDS.matcher(dictionary);
+            if (!kids.find()) return;
+            Matcher reference = REFERENCE.matcher(kids.group(1));
+            while (reference.find()) {
+                collectPages(Integer.parseInt(reference.group(1)), result, visited);
+            }
+        } else if (PAGE_TYPE.matcher(dictionary).find()) {
+            result.add(node);
+        }
+    }
+
+    // The object's text up to its stream data or endobj
+    private String dictionary(int object) {
+        String unpacked = packed.get(object);
+        if (unpacked != null) return unpacked;
+        int start = offsets.get(object);
+        int end = indexOf("stream", start, indexOf("endobj", start, data.limit()));
+        return text.subSequence(start, end).toString();
+    }
+
+    private byte[] streamData(int object) {
+        Integer start = offsets.get(object);
+        if (start == null) return null;
+        String dictionary = dictionary(object);
+        int keyword = start + dictionary.length();
+        if (!matches("stream", keyword)) return null;
+
+        int begin = keyword + "stream".length();
+        if (begin < data.limit() && data.get(begin) == '\r') begin++;
+        if (begin < data.limit() && data.get(begin) == '\n') begin++;
+        int end = indexOf("endstream", begin, data.limit());
+        while (end > begin && (data.get(end - 1) == '\n' || data.get(end - 1) == '\r')) end--;
+
+        ByteBuffer raw = data.duplicate().position(begin).limit(end).slice();
+        if (FLATE.matcher(dictionary).find()) {
+            return inflate(raw, object);
+        }
+        if (FILTER.matcher(dictionary).find()) {
+            logger.debug("Skipping content stream {} with unsupported filter", object);
+            return null;
+        }
+        byte[] bytes = new byte[raw.remaining()];
+        raw.get(bytes);
+        return bytes;
+    }
+
+    private static byte[] inflate(ByteBuffer raw, int object) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(raw);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.remaining() * 4);
+            byte[] buffer = new byte[16 * 1024];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            logger.debug("Could not inflate content stream {}", object, e);
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // Text shown by a content stream: literal "(...)" and hex "<...>" strings
+    // decoded with the font selected by Tf. Each string becomes one line, as
+    // in the server's extractor, except that the parts of a TJ array are one
+    // line with a space where they are a word apart.
+    static void extractText(byte[] content, Map<String, Font> fonts, StringBuilder out) {
+        StringBuilder line = new StringBuilder();
+        byte[] string = new byte[64];
+        Font font = Font.LATIN1;
+        String name = null;
+        boolean inArray = false;
+        // Strings in dictionary operands, e.g. of BDC, are not shown
+        int dictionaryDepth = 0;
+        int i = 0;
+        while (i < content.length) {
+            int c = content[i] & 0xff;
+            if (c == '<' && i + 1 < content.length && content[i + 1] == '<') {
+                dictionaryDepth++;
+                i += 2;
+            } else if (c == '>' && i + 1 < content.length && content[i + 1] == '>') {
+                dictionaryDepth = Math.max(0, dictionaryDepth - 1);
+                i += 2;
+            } else if (c == '(' || c == '<') {
+                int length = 0;
+                i++;
+                if (c == '(') {
+                    for (int depth = 1; i < content.length; i++) {
+                        int b = content[i] & 0xff;
+                        if (b == '\\' && i + 1 < content.length) {
+                            int next = content[++i] & 0xff;
+                            switch (next) {
+                                case 'n' -> b = '\n';
+                                case 'r' -> b = '\r';
+                                case 't' -> b = '\t';
+                                case 'f' -> b = '\f';
+                                case 'b' -> b = '\b';
+                                case '\r', '\n' -> {
+                                    if (next == '\r' && i + 1 < content.length && content[i + 1] == '\n') i++;
+                                    continue;
+                                }
+                                default -> {
+                                    b = next;
+                                    if (next >= '0' && next <= '7') {
+                                        b = next - '0';
+                                        for (int digits = 1; digits < 3 && i + 1 < content.length
+                                                && content[i + 1] >= '0' && content[i + 1] <= '7'; digits++) {
+                                            b = b * 8 + (content[++i] - '0');
+                                        }
+                                    }
+                                }
+                            }
+                        } else if (b == '(') {
+                            depth++;
+                        } else if (b == ')' && --depth == 0) {
+                            i++;
+                            break;
+                        }
+                        if (length == string.length) string = Arrays.copyOf(string, length * 2);
+                        string[length++] = (byte) b;
+                    }
+                } else {
+                    int high = -1;
+                    for (; i < content.length && content[i] != '>'; i++) {
+                        int digit = Character.digit(content[i] & 0xff, 16);
+                        if (digit < 0) continue;
+                        if (high < 0) {
+                            high = digit;
+                            continue;
+                        }
+                        if (length == string.length) string = Arrays.copyOf(string, length * 2);
+                        string[length++] = (byte) (high << 4 | digit);
+                        high = -1;
+                    }
+                    // An odd last digit is followed by an implied 0
+                    if (high >= 0) {
+                        if (length == string.length) string = Arrays.copyOf(string, length + 1);
+                        string[length++] = (byte) (high << 4);
+                    }
+                    i++;
+                }
+                if (dictionaryDepth > 0) continue;
+                font.decode(string, length, line);
+                if (!inArray) endLine(line, out);
+            } else if (c == '[') {
+                inArray = true;
+                i++;
+            } else if (c == ']') {
+                inArray = false;
+                endLine(line, out);
+                i++;
+            } else if (c == '%') {
+                while (i < content.length && content[i] != '\n' && content[i] != '\r') i++;
+            } else if (isDelimiter(c) && c != '/') {
+                i++;
+            } else {
+                int start = i;
+                for (i++; i < content.length && !isDelimiter(content[i] & 0xff); i++) {
+                }
+                String token = new String(content, start, i - start, StandardCharsets.ISO_8859_1);
+                if (token.startsWith("/")) {
+                    name = token.substring(1);
+                } else if (token.equals("Tf")) {
+                    font = fonts.getOrDefault(name, Font.LATIN1);
+                } else if (token.equals("ID")) {
+                    i = skipInlineImage(content, i);
+                } else if (inArray && isWordGap(token)) {
+                    line.append(' ');
+                }
+            }
+        }
+        endLine(line, out);
+    }
+
+    private static void endLine(StringBuilder line, StringBuilder out) {
+        String text = line.toString().replaceAll("\\s+", " ").trim();
+        line.setLength(0);
+        if (text.isEmpty()) return;
+        if (out.length() > 0) out.append('\n');
+        out.append(text);
+    }
+
+    private static boolean isWordGap(String token) {
+        try {
+            return Double.parseDouble(token) <= WORD_GAP;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // Offset after the "EI" that ends the binary data of an inline image
+    private static int skipInlineImage(byte[] content, int from) {
+        for (int i = from + 1; i + 1 < content.length; i++) {
+            if (content[i] == 'E' && content[i + 1] == 'I' && isWhitespace(content[i - 1] & 0xff)
+                    && (i + 2 == content.length || isDelimiter(content[i + 2] & 0xff))) {
+                return i + 2;
+            }
+        }
+        return content.length;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == 0;
+    }
+
+    private static boolean isDelimiter(int c) {
+        return isWhitespace(c) || c == '(' || c == ')' || c == '<' || c == '>' || c == '[' || c == ']'
+            || c == '{' || c == '}' || c == '/' || c == '%';
+    }
+
+    // Code -> text of a ToUnicode CMap's bfchar and bfrange sections
+    static Map<Integer, String> parseCMap(byte[] cmap) {
+        Map<Integer, String> unicode = new HashMap<>();
+        Matcher section = CMAP_SECTION.matcher(new String(cmap, StandardCharsets.ISO_8859_1));
+        while (section.find()) {
+            List<String> tokens = new ArrayList<>();
+            Matcher token = CMAP_TOKEN.matcher(section.group(2));
+            while (token.find()) {
+                tokens.add(token.group(1) != null ? token.group(1).replaceAll("\\s+", "") : token.group());
+            }
+            try {
+                parseSection(section.group(1).equals("char"), tokens, unicode);
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                logger.debug("Skipping malformed ToUnicode section", e);
+            }
+        }
+        return unicode;
+    }
+
+    private static void parseSection(boolean chars, List<String> tokens, Map<Integer, String> unicode) {
+        if (chars) {
+            for (int t = 0; t + 1 < tokens.size(); t += 2) {
+                unicode.put(Integer.parseInt(tokens.get(t), 16), utf16(tokens.get(t + 1), 0));
+            }
+            return;
+        }
+        for (int t = 0; t + 2 < tokens.size(); ) {
+            int low = Integer.parseInt(tokens.get(t), 16);
+            int high = Math.min(Integer.parseInt(tokens.get(t + 1), 16), low + 0xffff);
+            if (tokens.get(t + 2).equals("[")) {
+                int code = low;
+                for (t += 3; t < tokens.size() && !tokens.get(t).equals("]"); t++) {
+                    unicode.put(code++, utf16(tokens.get(t), 0));
+                }
+                t++;
+            } else {
+                // Consecutive codes map to consecutive characters
+                for (int code = low; code <= high; code++) {
+                    unicode.put(code, utf16(tokens.get(t + 2), code - low));
+                }
+                t += 3;
+            }
+        }
+    }
+
+    // UTF-16BE hex string, its last character advanced by offset
+    private static String utf16(String hex, int offset) {
+        if (hex.isEmpty() || hex.equals("[") || hex.equals("]")) return "";
+        char[] chars = new char[(hex.length() + 3) / 4];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) Integer.parseInt(hex.substring(i * 4, Math.min(hex.length(), i * 4 + 4)), 16);
+        }
+        chars[chars.length - 1] += (char) offset;
+        return new String(chars);
+    }
+
+    private static Integer firstNumber(Pattern pattern, CharSequence in) {
+        Matcher matcher = pattern.matcher(in);
+        return matcher.find() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+
+    private static Integer lastReference(Pattern pattern, CharSequence in) {
+        Matcher matcher = pattern.matcher(in);
+        Integer last = null;
+        while (matcher.find()) last = Integer.parseInt(matcher.group(1));
+        return last;
+    }
+
+    // Offset of keyword between from and to, or to if it is not there
+    private int indexOf(String keyword, int from, int to) {
+        for (int i = from, last = Math.min(to, data.limit()) - keyword.length(); i <= last; i++) {
+            if (matches(keyword, i)) return i;
+        }
+        return to;
+    }
+
+    private boolean matches(String keyword, int at) {
+        if (at + keyword.length() > data.limit()) return false;
+        for (int k = 0; k < keyword.length(); k++) {
+            if (data.get(at + k) != keyword.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * A font as far as text extraction cares: whether its codes are one or two
+     * bytes long, and its ToUnicode map. Simple fonts without a map are read
+     * as Latin-1, as before fonts were looked at.
+     */
+    record Font(boolean twoByte, Map<Integer, String> unicode) {
+        static final Font LATIN1 = new Font(false, Map.of());
+
+        void decode(byte[] bytes, int length, StringBuilder out) {
+            if (twoByte) {
+                // Codes without a mapping are bare glyph ids; nothing readable to add
+                for (int i = 0; i + 1 < length; i += 2) {
+                    String mapped = unicode.get((bytes[i] & 0xff) << 8 | bytes[i + 1] & 0xff);
+                    if (mapped != null) out.append(mapped);
+                }
+                return;
+            }
+            for (int i = 0; i < length; i++) {
+                int code = bytes[i] & 0xff;
+                String mapped = unicode.get(code);
+                if (mapped != null) {
+                    out.append(mapped);
+                } else {
+                    out.append(code < ' ' ? ' ' : (char) code);
+                }
+            }
+        }
+    }
+
+    // Regex view of the mapped file without copying it into a String
+    private record Latin1(ByteBuffer data, int start, int end) implements CharSequence {
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (data.get(start + index) & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new Latin1(data, start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            char[] chars = new char[length()];
+            for (int i = 0; i < chars.length; i++) chars[i] = charAt(i);
+            return new String(chars);
+        }
+    }
+}
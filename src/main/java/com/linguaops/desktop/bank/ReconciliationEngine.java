@@ -0,0 +1,225 @@
+package com.linguaops.desktop.bank;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches bank transactions against orders, following the rules of the
+ * server's bank upload (server/routes/bank.ts) but over the full order set.
+ * Orders are indexed once: by order number, by amount in cents and by the
+ * tokens of the customer name, so matching a transaction only looks at the
+ * orders it can actually match instead of scanning all of them. Names that
+ * differ in spelling (Mueller/Müller, typos) are found by
+ * {@link FuzzyNameMatcher}.
+ * Instances are immutable and safe to share between threads.
+ */
+public class ReconciliationEngine {
+    private static final Pattern ORDER_NUMBER = Pattern.compile("#?(\\d{4,8})");
+    private static final Pattern REFERENCE_NAME = Pattern.compile(
+        "([A-ZÄÖÜ][A-Za-zÄÖÜäöüß'`-]+\\s+[A-ZÄÖÜ][A-Za-zÄÖÜäöüß'`-]+)");
+    private static final Pattern DIACRITICS = Pattern.compile("[\\u0300-\\u036f]");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    static final double NAME_THRESHOLD = 0.85;
+
+    private static final Comparator<MatchCandidate> RANKING = Comparator
+        .comparingInt(MatchCandidate::confidence)
+        .thenComparing(candidate -> candidate.nameScore() == null ? 0.0 : -candidate.nameScore())
+        .thenComparingLong(candidate -> candidate.order().id());
+
+    /** A transaction and its candidates, best first. */
+    public record Result(BankTransaction transaction, List<MatchCandidate> candidates) {
+    }
+
+    // Orders whose customer names normalize to the same tokens
+    private record NameGroup(Set<String> tokens, List<Order> orders) {
+    }
+
+    private final Map<String, List<Order>> byNumber = new HashMap<>();
+    private final Map<Long, List<Order>> byAmount = new HashMap<>();
+    private final Map<String, List<NameGroup>> byNameToken = new HashMap<>();
+    private final FuzzyNameMatcher<Order> fuzzyNames;
+    private final int orderCount;
+
+    public ReconciliationEngine(Collection<Order> orders) {
+        Map<Set<String>, NameGroup> nameGroups = new HashMap<>();
+        for (Order order : orders) {
+            String number = order.number() == null ? "" : order.number().replaceAll("\\D", "");
+            if (!number.isEmpty()) {
+                byNumber.computeIfAbsent(number, key -> new ArrayList<>(1)).add(order);
+            }
+            Long cents = toCents(order.total());
+            if (cents != null) {
+                byAmount.computeIfAbsent(cents, key -> new ArrayList<>(2)).add(order);
+            }
+            Set<String> tokens = tokens(order.customerName());
+            if (!tokens.isEmpty()) {
+                nameGroups.computeIfAbsent(tokens, key -> new NameGroup(key, new ArrayList<>(1))).orders().add(order);
+            }
+        }
+        for (NameGroup group : nameGroups.values()) {
+            for (String token : group.tokens()) {
+                byNameToken.computeIfAbsent(token, key -> new ArrayList<>(2)).add(group);
+            }
+        }
+        fuzzyNames = new FuzzyNameMatcher<>(orders, Order::customerName);
+        orderCount = orders.size();
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Candidates for {@code transaction}, best first, at most one per order.
+     */
+    public List<MatchCandidate> match(BankTransaction transaction) {
+        String reference = transaction.reference() == null ? "" : transaction.reference();
+        Long cents = toCents(transaction.amount());
+        Map<Long, MatchCandidate> best = new LinkedHashMap<>();
+
+        // Order number in reference
+        Set<String> numbers = new LinkedHashSet<>();
+        Matcher numberMatcher = ORDER_NUMBER.matcher(reference);
+        while (numberMatcher.find()) {
+            numbers.add(numberMatcher.group(1));
+        }
+        for (String number : numbers) {
+            for (Order order : byNumber.getOrDefault(number, List.of())) {
+                boolean amountMatch = amountMatches(cents, order);
+                offer(best, new MatchCandidate(order,
+                    amountMatch ? MatchCandidate.CONFIDENCE_HIGH : MatchCandidate.CONFIDENCE_MEDIUM,
+                    "Order # in reference", null, amountMatch, true, List.of()));
+            }
+        }
+
+        // Sender and names mentioned in the reference
+        List<String> referenceNames = new ArrayList<>();
+        Matcher nameMatcher = REFERENCE_NAME.matcher(reference);
+        while (nameMatcher.find()) {
+            referenceNames.add(nameMatcher.group(1));
+        }
+        List<String> names = new ArrayList<>();
+        if (transaction.senderName() != null && !transaction.senderName().isBlank()) {
+            names.add(transaction.senderName());
+        }
+        names.addAll(referenceNames);
+        for (String name : names) {
+            matchName(name, cents, referenceNames, best);
+        }
+
+        // A unique open order with exactly this amount, when nothing else matched
+        if (best.isEmpty() && cents != null) {
+            List<Order> sameAmount = byAmount.getOrDefault(cents, List.of());
+            if (sameAmount.size() == 1) {
+                offer(best, new MatchCandidate(sameAmount.get(0), MatchCandidate.CONFIDENCE_LOW,
+                    "Amount match", null, true, false, List.copyOf(referenceNames)));
+            }
+        }
+
+        List<MatchCandidate> ranked = new ArrayList<>(best.values());
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    /**
+     * Candidates for every transaction, one result per transaction in
+     * statement order. Identical bookings, such as two transfers of the same
+     * exam fee, get a result each.
+     */
+    public List<Result> reconcile(List<BankTransaction> transactions) {
+        List<Result> results = new ArrayList<>(transactions.size());
+        for (BankTransaction transaction : transactions) {
+            results.add(new Result(transaction, match(transaction)));
+        }
+        return results;
+    }
+
+    private void matchName(String name, Long cents, List<String> referenceNames, Map<Long, MatchCandidate> best) {
+        Set<String> tokens = tokens(name);
+        if (tokens.isEmpty()) return;
+
+        // 2 * shared / (a + b) >= t with shared <= b means a name of a tokens must
+        // share at least ceil(a * t / (2 - t)) of them, so every match contains one
+        // of the a - that + 1 rarest tokens. Only those postings are scanned.
+        List<String> byRarity = new ArrayList<>(tokens);
+        byRarity.sort(Comparator.comparingInt(token -> byNameToken.getOrDefault(token, List.of()).size()));
+        int minShared = (int) Math.ceil(tokens.size() * NAME_THRESHOLD / (2 - NAME_THRESHOLD) - 1e-9);
+        int prefix = tokens.size() - minShared + 1;
+
+        Set<NameGroup> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String token : byRarity.subList(0, prefix)) {
+            seen.addAll(byNameToken.getOrDefault(token, List.of()));
+        }
+        for (NameGroup group : seen) {
+            int shared = 0;
+            for (String token : tokens) {
+                if (group.tokens().contains(token)) shared++;
+            }
+            double score = 2.0 * shared / (tokens.size() + group.tokens().size());
+            if (score < NAME_THRESHOLD) continue;
+
+            String reason = String.format(Locale.ROOT, "Name match %.2f", score);
+            for (Order order : group.orders()) {
+                boolean amountMatch = amountMatches(cents, order);
+                offer(best, new MatchCandidate(order,
+                    amountMatch ? MatchCandidate.CONFIDENCE_MEDIUM : MatchCandidate.CONFIDENCE_LOW,
+                    reason, score, amountMatch, false, List.copyOf(referenceNames)));
+            }
+        }
+
+        for (FuzzyNameMatcher.Match<Order> match : fuzzyNames.match(name)) {
+            boolean amountMatch = amountMatches(cents, match.item());
+            offer(best, new MatchCandidate(match.item(),
+                amountMatch ? MatchCandidate.CONFIDENCE_MEDIUM : MatchCandidate.CONFIDENCE_LOW,
+                String.format(Locale.ROOT, "Fuzzy name match %.2f", match.score()), match.score(),
+                amountMatch, false, List.copyOf(referenceNames)));
+        }
+    }
+
+    // Keeps the better candidate when an order is found more than once
+    private static void offer(Map<Long, MatchCandidate> best, MatchCandidate candidate) {
+        best.merge(candidate.order().id(), candidate,
+            (current, offered) -> RANKING.compare(offered, current) < 0 ? offered : current);
+    }
+
+    private boolean amountMatches(Long cents, Order order) {
+        return cents != null && cents.equals(toCents(order.total()));
+    }
+
+    static Long toCents(BigDecimal amount) {
+        return amount == null ? null : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    static Set<String> tokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : normalize(text).split(" ")) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        String folded = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        folded = DIACRITICS.matcher(folded).replaceAll("");
+        folded = NON_ALPHANUMERIC.matcher(folded).replaceAll(" ");
+        return WHITESPACE.matcher(folded).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,96 @@
+package com.linguaops.desktop.bank;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits statement text into transactions the way the server's bank upload
+ * does: every booking starts with a date, the amount is the first number
+ * with two decimals and the sender is the first run of capitalized words.
+ * A date directly followed by another date (booking and value date) starts
+ * one transaction, not two, and amounts are looked for after the dates so
+ * a date is never read as an amount.
+ */
+public final class TransactionSegmenter {
+    private static final String DATE_PATTERN = "\\b\\d{1,2}[./-]\\d{1,2}[./-]\\d{2,4}\\b";
+    private static final Pattern DATE = Pattern.compile(DATE_PATTERN);
+    private static final Pattern AMOUNT = Pattern.compile("-?[0-9]{1,3}(?:[.,][0-9]{3})*(?:[.,][0-9]{2})");
+    private static final Pattern SENDER = Pattern.compile(
+        "([A-ZÄÖÜ][A-Za-zÄÖÜäöüß'`-]+(?:\\s+[A-ZÄÖÜ][A-Za-zÄÖÜäöüß'`-]+){0,3})");
+    private static final Pattern LEADING_DATES = Pattern.compile("^(?:\\s*" + DATE_PATTERN + ")+");
+
+    /**
+     * Transactions of one page plus the text before its first date, which
+     * continues the last transaction of the previous page.
+     */
+    public record Page(String leadingText, List<BankTransaction> transactions) {
+    }
+
+    private TransactionSegmenter() {
+    }
+
+    /**
+     * Transactions in {@code text}; if there is no date at all, one
+     * transaction with the whole text as reference.
+     */
+    public static List<BankTransaction> split(String text) {
+        List<BankTransaction> transactions = new ArrayList<>(segment(text).transactions());
+        if (transactions.isEmpty()) {
+            transactions.add(transaction(null, text.trim()));
+        }
+        return transactions;
+    }
+
+    public static Page segment(String text) {
+        List<BankTransaction> transactions = new ArrayList<>();
+        Matcher date = DATE.matcher(text);
+        if (!date.find()) {
+            return new Page(text.trim(), transactions);
+        }
+        String leading = text.substring(0, date.start()).trim();
+
+        while (true) {
+            String bookingDate = date.group();
+            int blockStart = date.start();
+            int bodyStart = date.end();
+            // Dates separated only by whitespace belong to the same booking
+            boolean more;
+            while ((more = date.find()) && text.substring(bodyStart, date.start()).isBlank()) {
+                bodyStart = date.end();
+            }
+            int blockEnd = more ? date.start() : text.length();
+            transactions.add(transaction(bookingDate, text.substring(blockStart, blockEnd).trim()));
+            if (!more) break;
+        }
+        return new Page(leading, transactions);
+    }
+
+    /**
+     * {@code transaction} with {@code continuation} appended to its
+     * reference, for bookings that continue on the next page.
+     */
+    public static BankTransaction append(BankTransaction transaction, String continuation) {
+        if (continuation.isEmpty()) return transaction;
+        return transaction(transaction.date(), transaction.reference() + "\n" + continuation);
+    }
+
+    private static BankTransaction transaction(String date, String block) {
+        String body = LEADING_DATES.matcher(block).replaceFirst("");
+        Matcher sender = SENDER.matcher(body);
+        return new BankTransaction(date, sender.find() ? sender.group(1) : null, parseAmount(body), block);
+    }
+
+    static BigDecimal parseAmount(String text) {
+        Matcher amount = AMOUNT.matcher(text);
+        if (!amount.find()) return null;
+        String raw = amount.group().replace(".", "").replace(',', '.');
+        try {
+            return new BigDecimal(raw);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.linguaops.desktop.controller;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads pages from classes generated at build time by FxmlCompiler
+ * (src/build/java). A generated class builds the scene graph with plain
+ * constructor and setter calls and wires the controller through handles
+ * resolved once per class, so a page load does no XML parsing and no
+ * per-load reflection. Pages that were not compiled, or whose generated
+ * class fails, return {@code null} and are loaded by FXMLLoader instead.
+ * Start with {@code -Dlinguaops.fxml.runtime=true} to always use FXMLLoader.
+ */
+public final class CompiledFxml {
+    private static final Logger logger = LoggerFactory.getLogger(CompiledFxml.class);
+
+    private static final boolean DISABLED = Boolean.getBoolean("linguaops.fxml.runtime");
+    private static final Map<String, Builder> builders = findBuilders();
+    private static final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+    public record Loaded(Node root, Object controller) {
+    }
+
+    @FunctionalInterface
+    interface Builder {
+        Loaded build();
+    }
+
+    private CompiledFxml() {
+    }
+
+    /**
+     * Builds the page compiled from {@code fxmlPath} (a resource path such as
+     * {@code /fxml/pages/orders.fxml}), or returns {@code null} if the caller
+     * should fall back to FXMLLoader. Safe to call off the FX thread.
+     */
+    public static Loaded load(String fxmlPath) {
+        Builder builder = DISABLED ? null : builders.get(fxmlPath);
+        if (builder == null || failed.contains(fxmlPath)) {
+            return null;
+        }
+        try {
+            return builder.build();
+        } catch (RuntimeException | LinkageError e) {
+            // Usually a controller field or handler that changed since the build
+            failed.add(fxmlPath);
+            logger.warn("Compiled page {} failed, falling back to FXMLLoader", fxmlPath, e);
+            return null;
+        }
+    }
+
+    public static boolean isCompiled(String fxmlPath) {
+        return !DISABLED && builders.containsKey(fxmlPath) && !failed.contains(fxmlPath);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Builder> findBuilders() {
+        try {
+            Class<?> index = Class.forName(CompiledFxml.class.getPackageName() + ".GeneratedFxml");
+            MethodHandle builders = MethodHandles.lookup()
+                .findStatic(index, "builders", MethodType.methodType(Map.class));
+            return (Map<String, Builder>) builders.invoke();
+        } catch (ClassNotFoundException e) {
+            logger.debug("No compiled FXML pages, using FXMLLoader");
+            return Map.of();
+        } catch (Throwable e) {
+            logger.warn("Compiled FXML pages unavailable, using FXMLLoader", e);
+            return Map.of();
+        }
+    }
+
+    // Called from generated classes
+
+    /**
+     * Handle for the controller field FXMLLoader would inject {@code fx:id}
+     * into, or {@code null} if there is none (FXMLLoader ignores those too).
+     */
+    static VarHandle field(Class<?> controllerType, String name) {
+        for (Class<?> type = controllerType; type != null && type != Object.class; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                if (!field.isAnnotationPresent(FXML.class) && !Modifier.isPublic(field.getModifiers())) {
+                    return null;
+                }
+                return MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflectVarHandle(field);
+            } catch (NoSuchFieldException e) {
+                // Look in the superclass
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access " + type.getName() + "." + name, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Handle for a {@code #name} event handler method, taking the event or
+     * nothing, adapted to {@code (Object controller, Event event)void}.
+     */
+    static MethodHandle handler(Class<?> controllerType, String name, Class<? extends Event> eventType) {
+        for (Class<?> type = controllerType; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.getName().equals(name) || method.getParameterCount() > 1) continue;
+                if (method.getParameterCount() == 1 && !method.getParameterTypes()[0].isAssignableFrom(eventType)) continue;
+
+                try {
+                    MethodHandle handle = MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflect(method);
+                    if (method.getParameterCount() == 0) {
+                        handle = MethodHandles.dropArguments(handle, 1, Event.class);
+                    }
+                    return handle.asType(MethodType.methodType(void.class, Object.class, Event.class));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot access " + type.getName() + "." + name, e);
+                }
+            }
+        }
+        throw new IllegalStateException("No event handler method " + name + " in " + controllerType.getName());
+    }
+
+    static void inject(VarHandle field, Object controller, Object value) {
+        if (field != null) {
+            field.set(controller, value);
+        }
+    }
+
+    static <T extends Event> EventHandler<T> bind(MethodHandle handler, Object controller) {
+        return event -> {
+            try {
+                handler.invokeExact(controller, (Event) event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    static void initialize(Object controller, URL location) {
+        if (controller instanceof Initializable) {
+            ((Initializable) controller).initialize(location, null);
+        }
+    }
+}
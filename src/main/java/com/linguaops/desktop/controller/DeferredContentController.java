@@ -0,0 +1,15 @@
+package com.linguaops.desktop.controller;
+
+/**
+ * Interface for controllers whose page has content that is not needed for
+ * the first frame, such as remote images. The page is shown with
+ * placeholders first; the content is requested once it is on screen.
+ */
+public interface DeferredContentController {
+
+    /**
+     * Starts loading the deferred content. Called once per page instance,
+     * on the FX thread, after the page has been attached and laid out.
+     */
+    void loadDeferredContent();
+}
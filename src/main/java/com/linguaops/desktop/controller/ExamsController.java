@@ -1,36 +1,99 @@
 package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
+import com.linguaops.desktop.orders.ExamAggregation;
+import com.linguaops.desktop.service.ExamStatisticsService;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.ResourceBundle;
 
-public class ExamsController implements Initializable, I18nController {
+public class ExamsController implements Initializable, I18nController, PageLifecycleController {
     private static final Logger logger = LoggerFactory.getLogger(ExamsController.class);
-    
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
     @FXML private Label titleLabel;
     @FXML private Label placeholderLabel;
+    @FXML private VBox examList;
+
+    private final Runnable statisticsListener = this::queueRefresh;
+    // Set when a refresh is already queued on the FX thread
+    private boolean refreshQueued;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        updateTexts();
         logger.debug("ExamsController initialized");
     }
 
+    @Override
+    public void attach() {
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app != null) {
+            // Summaries are materialized by the service; showing them is a list copy
+            app.getExamStatisticsService().addListener(statisticsListener);
+        }
+    }
+
+    @Override
+    public void detach() {
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app != null) {
+            app.getExamStatisticsService().removeListener(statisticsListener);
+        }
+    }
+
     @Override
     public void updateTexts() {
         LinguaOpsApplication app = LinguaOpsApplication.getInstance();
         if (app == null) return;
-        
+
         I18nService i18n = app.getI18nService();
-        
-        titleLabel.setText(i18n.getText("exams"));
-        placeholderLabel.setText(i18n.getText("examsPlaceholder", "Exam management functionality coming soon."));
+
+        titleLabel.textProperty().bind(i18n.textProperty(MessageKey.EXAMS));
+        placeholderLabel.textProperty().bind(i18n.textProperty(MessageKey.EXAMS_PLACEHOLDER));
+        refresh();
+    }
+
+    private void queueRefresh() {
+        synchronized (this) {
+            if (refreshQueued) return;
+            refreshQueued = true;
+        }
+        Platform.runLater(() -> {
+            synchronized (this) {
+                refreshQueued = false;
+            }
+            refresh();
+        });
+    }
+
+    private void refresh() {
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app == null) return;
+
+        ExamStatisticsService statistics = app.getExamStatisticsService();
+        I18nService i18n = app.getI18nService();
+        List<ExamAggregation.ExamSummary> summaries = statistics.getSummaries();
+
+        placeholderLabel.setVisible(summaries.isEmpty());
+        placeholderLabel.setManaged(summaries.isEmpty());
+        examList.getChildren().clear();
+        for (ExamAggregation.ExamSummary summary : summaries) {
+            Label label = new Label(i18n.format(MessageKey.EXAM_SUMMARY, summary.exam().kind(),
+                DATE_FORMAT.format(summary.exam().date()), summary.participants(),
+                i18n.formatEuros(summary.revenue())));
+            examList.getChildren().add(label);
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
@@ -56,8 +57,8 @@ public class HistoryController implements Initializable, I18nController {
         
         I18nService i18n = app.getI18nService();
         
-        titleLabel.setText(i18n.getText("history"));
-        clearButton.setText(i18n.getText("clear", "Clear"));
-        noActivityLabel.setText(i18n.getText("noRecentActivity", "No recent activity yet."));
+        titleLabel.setText(i18n.getText(MessageKey.HISTORY));
+        clearButton.setText(i18n.getText(MessageKey.CLEAR));
+        noActivityLabel.setText(i18n.getText(MessageKey.NO_RECENT_ACTIVITY));
     }
 }
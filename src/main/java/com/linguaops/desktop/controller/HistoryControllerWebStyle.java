@@ -2,6 +2,7 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
@@ -21,7 +22,6 @@ public class HistoryControllerWebStyle implements Initializable, I18nController
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         loadHistoryItems();
-        updateTexts();
         logger.debug("HistoryControllerWebStyle initialized");
     }
 
@@ -59,6 +59,6 @@ public class HistoryControllerWebStyle implements Initializable, I18nController
         if (app == null) return;
         
         I18nService i18n = app.getI18nService();
-        historyTitle.setText(i18n.getText("history"));
+        historyTitle.textProperty().bind(i18n.textProperty(MessageKey.HISTORY));
     }
 }
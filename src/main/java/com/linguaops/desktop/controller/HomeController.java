@@ -2,6 +2,9 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.ImageCacheService;
+import com.linguaops.desktop.service.MessageKey;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
@@ -69,14 +72,13 @@ public class HomeController implements Initializable, I18nController {
     }
 
     private void setIcon(ImageView imageView, String path) {
-        try {
-            Image icon = new Image(getClass().getResourceAsStream(path));
-            imageView.setImage(icon);
-        } catch (Exception e) {
-            // Create a simple colored rectangle as fallback
-            imageView.setImage(null);
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        // Decoded once at the icon's display size and shared across page loads
+        Image icon = app != null ? app.getImageCacheService().getResource(path, imageView.getFitWidth(), imageView.getFitHeight()) : null;
+        if (icon == null) {
             logger.debug("Could not load icon from path: {}", path);
         }
+        imageView.setImage(icon);
     }
 
     private void ensureIconsVisible() {
@@ -88,49 +90,42 @@ public class HomeController implements Initializable, I18nController {
     }
 
     private void setupHeroImage() {
-        try {
-            // Try to load the hero image
-            String imageUrl = "https://cdn.builder.io/api/v1/image/assets%2Fd5ceaaf188a440b69293546711d11d26%2F90c62cb03a824279b621dcd43fc885ca?format=webp&width=800";
-            Image hero = new Image(imageUrl, true); // background loading
-
-            // Set up error handling
-            hero.errorProperty().addListener((observable, oldValue, newValue) -> {
-                if (newValue) {
-                    logger.debug("Hero image failed to load, showing fallback");
-                    heroImage.setVisible(false);
-                    heroOverlay.setVisible(true);
-                    heroOverlay.setText("inlingua®\n... um mit der Welt sprechen zu können.");
-                }
-            });
-
-            // Set up success handling
-            hero.progressProperty().addListener((observable, oldValue, newValue) -> {
-                if (newValue.doubleValue() >= 1.0) {
-                    logger.debug("Hero image loaded successfully");
-                    heroImage.setVisible(true);
-                    heroOverlay.setVisible(false);
-                }
-            });
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app == null) {
+            showHeroFallback();
+            return;
+        }
 
-            heroImage.setImage(hero);
+        ImageCacheService images = app.getImageCacheService();
+        Image cached = images.getIfPresent(IndexControllerWebStyle.HERO_IMAGE_URL, heroImage.getFitWidth(), heroImage.getFitHeight());
+        if (cached != null) {
+            showHeroImage(cached);
+            return;
+        }
 
-            // If image is already cached and loaded immediately
-            if (!hero.isError() && hero.getProgress() >= 1.0) {
-                heroImage.setVisible(true);
-                heroOverlay.setVisible(false);
+        // Show fallback initially while loading
+        showHeroFallback();
+        images.load(IndexControllerWebStyle.HERO_IMAGE_URL, heroImage.getFitWidth(), heroImage.getFitHeight()).whenComplete((hero, error) -> Platform.runLater(() -> {
+            if (hero != null) {
+                logger.debug("Hero image loaded successfully");
+                showHeroImage(hero);
             } else {
-                // Show fallback initially while loading
-                heroOverlay.setVisible(true);
-                heroOverlay.setText("inlingua®\n... um mit der Welt sprechen zu können.");
+                logger.debug("Hero image failed to load, showing fallback", error);
+                showHeroFallback();
             }
+        }));
+    }
 
-        } catch (Exception e) {
-            logger.debug("Could not setup hero image: {}", e.getMessage());
-            // Show overlay text as fallback
-            heroImage.setVisible(false);
-            heroOverlay.setVisible(true);
-            heroOverlay.setText("inlingua®\n... um mit der Welt sprechen zu können.");
-        }
+    private void showHeroImage(Image hero) {
+        heroImage.setImage(hero);
+        heroImage.setVisible(true);
+        heroOverlay.setVisible(false);
+    }
+
+    private void showHeroFallback() {
+        heroImage.setVisible(false);
+        heroOverlay.setVisible(true);
+        heroOverlay.setText("inlingua®\n... um mit der Welt sprechen zu können.");
     }
 
     // Navigation Methods
@@ -233,10 +228,10 @@ public class HomeController implements Initializable, I18nController {
         I18nService i18n = app.getI18nService();
         
         // Update sidebar labels
-        telcLabel.setText(i18n.getText("telcArea"));
-        ordersLabel.setText(i18n.getText("orders"));
-        participantsLabel.setText(i18n.getText("manageParticipants"));
-        examsLabel.setText(i18n.getText("exams"));
-        needsAttentionLabel.setText(i18n.getText("needsAttention"));
+        telcLabel.setText(i18n.getText(MessageKey.TELC_AREA));
+        ordersLabel.setText(i18n.getText(MessageKey.ORDERS));
+        participantsLabel.setText(i18n.getText(MessageKey.MANAGE_PARTICIPANTS));
+        examsLabel.setText(i18n.getText(MessageKey.EXAMS));
+        needsAttentionLabel.setText(i18n.getText(MessageKey.NEEDS_ATTENTION));
     }
 }
@@ -9,7 +9,8 @@ public interface I18nController {
     
     /**
      * Updates all text elements in the controller's UI with
-     * the current language from the I18n service.
+     * the current language from the I18n service. Controllers that bind
+     * their texts to {@code I18nService.textProperty} only need this once.
      */
     void updateTexts();
 }
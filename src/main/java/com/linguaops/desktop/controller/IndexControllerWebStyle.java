@@ -2,7 +2,10 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.ImageCacheService;
+import com.linguaops.desktop.service.MessageKey;
 import javafx.animation.FadeTransition;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
@@ -17,8 +20,13 @@ import org.slf4j.LoggerFactory;
 import java.net.URL;
 import java.util.ResourceBundle;
 
-public class IndexControllerWebStyle implements Initializable, I18nController {
+public class IndexControllerWebStyle implements Initializable, I18nController, DeferredContentController {
     private static final Logger logger = LoggerFactory.getLogger(IndexControllerWebStyle.class);
+
+    // Same asset as the web app; PNG because JavaFX cannot decode WebP
+    static final String HERO_IMAGE_URL = "https://cdn.builder.io/api/v1/image/assets%2Fd5ceaaf188a440b69293546711d11d26%2F90c62cb03a824279b621dcd43fc885ca?format=png&width=800";
+    // Matches -fx-fit-height of .hero-image; the image is decoded at this size
+    private static final double HERO_HEIGHT = 300;
     
     // Sidebar Navigation
     @FXML private Button telcButton;
@@ -43,58 +51,52 @@ public class IndexControllerWebStyle implements Initializable, I18nController {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        setupHeroImage();
+        // The text overlay stands in for the hero image until it has loaded
+        showHeroFallback();
         setupHoverEffects();
-        updateTexts();
         logger.debug("IndexControllerWebStyle initialized");
     }
 
+    @Override
+    public void loadDeferredContent() {
+        setupHeroImage();
+    }
+
+    private void showHeroFallback() {
+        heroImage.setVisible(false);
+        heroOverlay.setVisible(true);
+        heroOverlay.setOpacity(1.0);
+    }
+
     private void setupHeroImage() {
-        try {
-            // Try to load the hero image from the same URL as web app
-            String imageUrl = "https://cdn.builder.io/api/v1/image/assets%2Fd5ceaaf188a440b69293546711d11d26%2F90c62cb03a824279b621dcd43fc885ca?format=webp&width=800";
-            Image hero = new Image(imageUrl, true); // background loading
-            
-            // Set up error handling
-            hero.errorProperty().addListener((observable, oldValue, newValue) -> {
-                if (newValue) {
-                    logger.debug("Hero image failed to load, showing text fallback");
-                    heroImage.setVisible(false);
-                    heroOverlay.setVisible(true);
-                    heroOverlay.setOpacity(1.0);
-                }
-            });
-            
-            // Set up success handling
-            hero.progressProperty().addListener((observable, oldValue, newValue) -> {
-                if (newValue.doubleValue() >= 1.0 && !hero.isError()) {
-                    logger.debug("Hero image loaded successfully");
-                    heroImage.setVisible(true);
-                    heroOverlay.setVisible(false);
-                    setupImageHoverEffect();
-                }
-            });
-            
-            heroImage.setImage(hero);
-            
-            // If image is already cached and loaded immediately
-            if (!hero.isError() && hero.getProgress() >= 1.0) {
-                heroImage.setVisible(true);
-                heroOverlay.setVisible(false);
-                setupImageHoverEffect();
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app == null) return;
+
+        // Returning home finds the decoded image in memory: no disk or network access
+        ImageCacheService images = app.getImageCacheService();
+        Image cached = images.getIfPresent(HERO_IMAGE_URL, 0, HERO_HEIGHT);
+        if (cached != null) {
+            showHeroImage(cached);
+            return;
+        }
+
+        // The text fallback stays up while the image loads
+        images.load(HERO_IMAGE_URL, 0, HERO_HEIGHT).whenComplete((hero, error) -> Platform.runLater(() -> {
+            if (hero != null) {
+                logger.debug("Hero image loaded successfully");
+                showHeroImage(hero);
             } else {
-                // Show text fallback initially while loading
-                heroOverlay.setVisible(true);
-                heroOverlay.setOpacity(1.0);
+                logger.debug("Hero image failed to load, showing text fallback", error);
+                showHeroFallback();
             }
-            
-        } catch (Exception e) {
-            logger.debug("Could not setup hero image: {}", e.getMessage());
-            // Show text fallback
-            heroImage.setVisible(false);
-            heroOverlay.setVisible(true);
-            heroOverlay.setOpacity(1.0);
-        }
+        }));
+    }
+
+    private void showHeroImage(Image hero) {
+        heroImage.setImage(hero);
+        heroImage.setVisible(true);
+        heroOverlay.setVisible(false);
+        setupImageHoverEffect();
     }
     
     private void setupImageHoverEffect() {
@@ -119,26 +121,51 @@ public class IndexControllerWebStyle implements Initializable, I18nController {
     }
 
     private void setupHoverEffects() {
-        // Add hover effects to sidebar buttons
-        setupButtonHover(telcButton);
-        setupButtonHover(ordersButton);
-        setupButtonHover(participantsButton);
-        setupButtonHover(examsButton);
-        setupButtonHover(needsAttentionButton);
+        // Add hover effects to sidebar buttons; hovering or focusing an
+        // entry preloads its page so the click only has to swap it in
+        setupButtonHover(telcButton, "telc");
+        setupButtonHover(ordersButton, "orders");
+        setupButtonHover(participantsButton, "participants");
+        setupButtonHover(examsButton, "exams");
+        setupButtonHover(needsAttentionButton, null);
     }
     
-    private void setupButtonHover(Button button) {
+    private void setupButtonHover(Button button, String pageName) {
         button.setOnMouseEntered(e -> {
             button.setScaleX(1.02);
             button.setScaleY(1.02);
+            preload(pageName);
         });
         
         button.setOnMouseExited(e -> {
             button.setScaleX(1.0);
             button.setScaleY(1.0);
+            cancelPreload(pageName);
+        });
+
+        button.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (focused) {
+                preload(pageName);
+            } else {
+                cancelPreload(pageName);
+            }
         });
     }
 
+    private void preload(String pageName) {
+        MainControllerWebStyle mainController = pageName != null ? getMainController() : null;
+        if (mainController != null) {
+            mainController.preloadPage(pageName);
+        }
+    }
+
+    private void cancelPreload(String pageName) {
+        MainControllerWebStyle mainController = pageName != null ? getMainController() : null;
+        if (mainController != null) {
+            mainController.cancelPreload(pageName);
+        }
+    }
+
     // Navigation Methods
     @FXML
     private void navigateToTelc() {
@@ -259,11 +286,11 @@ public class IndexControllerWebStyle implements Initializable, I18nController {
         I18nService i18n = app.getI18nService();
         
         // Update sidebar labels
-        telcLabel.setText(i18n.getText("telcArea"));
-        ordersLabel.setText(i18n.getText("orders"));
-        participantsLabel.setText(i18n.getText("manageParticipants"));
-        examsLabel.setText(i18n.getText("exams"));
-        needsAttentionLabel.setText(i18n.getText("needsAttention"));
+        telcLabel.textProperty().bind(i18n.textProperty(MessageKey.TELC_AREA));
+        ordersLabel.textProperty().bind(i18n.textProperty(MessageKey.ORDERS));
+        participantsLabel.textProperty().bind(i18n.textProperty(MessageKey.MANAGE_PARTICIPANTS));
+        examsLabel.textProperty().bind(i18n.textProperty(MessageKey.EXAMS));
+        needsAttentionLabel.textProperty().bind(i18n.textProperty(MessageKey.NEEDS_ATTENTION));
         
         // Update hero text
         heroTextLarge.setText("inlingua®");
@@ -2,6 +2,7 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
 import com.linguaops.desktop.service.ThemeService;
 import javafx.animation.FadeTransition;
 import javafx.application.Platform;
@@ -59,6 +60,8 @@ public class MainController implements Initializable, I18nController {
     @FXML private StackPane currentPageContainer;
     @FXML private StackPane themeOverlay;
 
+    private Object pageController;
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         setupInitialState();
@@ -150,6 +153,14 @@ public class MainController implements Initializable, I18nController {
             if (controller instanceof I18nController) {
                 ((I18nController) controller).updateTexts();
             }
+            // Pages are not reused here; the previous one is dropped
+            if (pageController instanceof PageLifecycleController) {
+                ((PageLifecycleController) pageController).detach();
+            }
+            pageController = controller;
+            if (controller instanceof PageLifecycleController) {
+                ((PageLifecycleController) controller).attach();
+            }
             
             // Fade transition
             if (!currentPageContainer.getChildren().isEmpty()) {
@@ -282,15 +293,15 @@ public class MainController implements Initializable, I18nController {
         I18nService i18n = application.getI18nService();
         
         // Update navigation texts
-        homeButton.setText(i18n.getText("home"));
-        historyButton.setText(i18n.getText("history"));
-        settingsButton.setText(i18n.getText("settings"));
+        homeButton.setText(i18n.getText(MessageKey.HOME));
+        historyButton.setText(i18n.getText(MessageKey.HISTORY));
+        settingsButton.setText(i18n.getText(MessageKey.SETTINGS));
         
         // Update theme button texts
-        lightThemeButton.setText(i18n.getText("light"));
-        darkThemeButton.setText(i18n.getText("dark"));
+        lightThemeButton.setText(i18n.getText(MessageKey.LIGHT));
+        darkThemeButton.setText(i18n.getText(MessageKey.DARK));
         
         // Update tooltips
-        notificationsTooltip.setText(i18n.getText("notifications"));
+        notificationsTooltip.setText(i18n.getText(MessageKey.NOTIFICATIONS));
     }
 }
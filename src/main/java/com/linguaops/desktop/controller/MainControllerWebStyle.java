@@ -2,9 +2,11 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
 import com.linguaops.desktop.service.ThemeService;
 import javafx.animation.FadeTransition;
 import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -12,7 +14,9 @@ import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import javafx.scene.shape.Circle;
 import javafx.util.Duration;
 import org.slf4j.Logger;
@@ -20,13 +24,58 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class MainControllerWebStyle implements Initializable, I18nController {
     private static final Logger logger = LoggerFactory.getLogger(MainControllerWebStyle.class);
+
+    private static final Map<String, String> PAGE_FXML = Map.of(
+        "home", "/fxml/pages/index-webapp-style.fxml",
+        "history", "/fxml/pages/history-webapp-style.fxml",
+        "settings", "/fxml/pages/settings-webapp-style.fxml",
+        "participants", "/fxml/pages/participants-webapp-style.fxml",
+        "telc", "/fxml/pages/telc.fxml",
+        "orders", "/fxml/pages/orders.fxml",
+        "exams", "/fxml/pages/exams.fxml"
+    );
+    private static final int MAX_BACK_STACK = 50;
+    private static final int DEFAULT_PAGE_CACHE_MB = 48;
+    // Hover must rest this long before a speculative load starts
+    private static final long PRELOAD_DWELL_MS = 120;
     
     private LinguaOpsApplication application;
     private String currentPage = "home";
+
+    // Pages are loaded once and reused; back navigation walks a real history
+    private PageCache pageCache;
+    private final Deque<String> backStack = new ArrayDeque<>();
+    private PageCache.Page displayedPage;
+
+    // Pages are built off the FX thread, either speculatively (hover/focus)
+    // or for a navigation; the map of loads in flight is FX thread only
+    private static final ScheduledExecutorService pageLoader = createPageLoader();
+    private final Map<String, ScheduledFuture<?>> loads = new HashMap<>();
+
+    // Controllers whose deferred content has been requested; weak so evicted pages can go
+    private final Set<Object> deferredContentLoaded = Collections.newSetFromMap(new WeakHashMap<>());
+    private Consumer<String> onPageShown;
+
+    // Kept reachable so the config service's weak references stay alive
+    private ObservableValue<String> languageSetting;
+    private ObservableValue<String> themeSetting;
     
     // Header Components
     @FXML private HBox centralNavigation;
@@ -64,12 +113,32 @@ public class MainControllerWebStyle implements Initializable, I18nController {
 
     public void setApplication(LinguaOpsApplication application) {
         this.application = application;
+        int budgetMb = application.getConfigService().getInt("pageCacheBudgetMb", DEFAULT_PAGE_CACHE_MB);
+        this.pageCache = new PageCache(budgetMb * 1024L * 1024L);
         updateTexts();
         updateThemeButtons();
         updateLanguageButtons();
-        
-        // Load initial page
-        Platform.runLater(() -> navigateToHome());
+        observeSettings();
+        // The application navigates to the first page as part of its startup sequence
+    }
+
+    /**
+     * Called on the FX thread whenever a real page (not its skeleton) has
+     * been attached to the page container; used for startup instrumentation.
+     */
+    public void setOnPageShown(Consumer<String> onPageShown) {
+        this.onPageShown = onPageShown;
+    }
+
+    private void observeSettings() {
+        // Language and theme may change from here, from settings or from an
+        // external config.json update; all of them refresh the header the same way
+        languageSetting = application.getConfigService().languageProperty();
+        // Texts are bound to I18nService and relocalize themselves
+        languageSetting.addListener((obs, oldValue, newValue) -> updateLanguageButtons());
+
+        themeSetting = application.getConfigService().themeProperty();
+        themeSetting.addListener((obs, oldValue, newValue) -> updateThemeButtons());
     }
 
     private void setupInitialState() {
@@ -89,88 +158,270 @@ public class MainControllerWebStyle implements Initializable, I18nController {
     // Navigation Methods
     @FXML
     private void navigateToHome() {
-        loadPage("home", "/fxml/pages/index-webapp-style.fxml");
+        navigateTo("home");
     }
 
     @FXML
     private void navigateToHistory() {
-        loadPage("history", "/fxml/pages/history-webapp-style.fxml");
+        navigateTo("history");
         // Hide history dot when visiting history page
         historyDot.setVisible(false);
     }
 
     @FXML
     private void navigateToSettings() {
-        loadPage("settings", "/fxml/pages/settings-webapp-style.fxml");
+        navigateTo("settings");
     }
 
     public void navigateToParticipants() {
-        loadPage("participants", "/fxml/pages/participants-webapp-style.fxml");
+        navigateTo("participants");
     }
 
     public void navigateToTelc() {
-        loadPage("telc", "/fxml/pages/telc.fxml");
+        navigateTo("telc");
     }
 
     public void navigateToOrders() {
-        loadPage("orders", "/fxml/pages/orders.fxml");
+        navigateTo("orders");
     }
 
     public void navigateToExams() {
-        loadPage("exams", "/fxml/pages/exams.fxml");
+        navigateTo("exams");
     }
     
     @FXML
     private void navigateBack() {
-        // Navigate back to home or previous page
-        navigateToHome();
-    }
-
-    private void loadPage(String pageName, String fxmlPath) {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Node page = loader.load();
-            
-            // Get controller if it implements I18nController
-            Object controller = loader.getController();
-            if (controller instanceof I18nController) {
-                ((I18nController) controller).updateTexts();
+        // Navigate to the previous page, or home when there is none
+        String previous = backStack.poll();
+        loadPage(previous != null ? previous : "home");
+    }
+
+    /**
+     * Shows {@code pageName} (a key of the page table, e.g. "orders") and
+     * records the current page for back navigation.
+     */
+    public void navigateTo(String pageName) {
+        if (displayedPage != null && displayedPage.name.equals(pageName)) return;
+
+        if ("home".equals(pageName)) {
+            // Home is the root of the history; the back button is hidden there
+            backStack.clear();
+        } else if (displayedPage != null) {
+            backStack.push(displayedPage.name);
+            if (backStack.size() > MAX_BACK_STACK) {
+                backStack.removeLast();
             }
-            
-            // Fade transition
-            if (!pageContainer.getChildren().isEmpty()) {
-                FadeTransition fadeOut = new FadeTransition(Duration.millis(150), pageContainer);
-                fadeOut.setFromValue(1.0);
-                fadeOut.setToValue(0.0);
-                fadeOut.setOnFinished(e -> {
-                    pageContainer.getChildren().clear();
-                    pageContainer.getChildren().add(page);
-                    
-                    FadeTransition fadeIn = new FadeTransition(Duration.millis(300), pageContainer);
-                    fadeIn.setFromValue(0.0);
-                    fadeIn.setToValue(1.0);
-                    fadeIn.play();
-                });
-                fadeOut.play();
-            } else {
-                pageContainer.getChildren().add(page);
+        }
+        loadPage(pageName);
+    }
+
+    /**
+     * Starts loading {@code pageName} in the background, so a following
+     * click finds it in the page cache. Cheap to call repeatedly.
+     */
+    public void preloadPage(String pageName) {
+        if (pageCache == null || pageCache.contains(pageName) || loads.containsKey(pageName)
+                || !PAGE_FXML.containsKey(pageName)) {
+            return;
+        }
+        startLoad(pageName, PRELOAD_DWELL_MS);
+    }
+
+    /**
+     * Drops a speculative load that has not started yet, e.g. when the
+     * pointer leaves the entry before the dwell time has passed.
+     */
+    public void cancelPreload(String pageName) {
+        if (isWaitingForPage(pageName)) return;
+
+        ScheduledFuture<?> future = loads.get(pageName);
+        if (future != null && future.getDelay(TimeUnit.NANOSECONDS) > 0 && future.cancel(false)) {
+            loads.remove(pageName);
+        }
+    }
+
+    private void startLoad(String pageName, long delayMs) {
+        long requested = System.nanoTime();
+        ScheduledFuture<?> future = pageLoader.schedule(() -> {
+            try {
+                // Nodes not attached to a scene may be built off the FX thread
+                PageCache.Page page = buildPage(pageName);
+                Platform.runLater(() -> pageLoaded(page, requested));
+            } catch (Throwable e) {
+                // Errors from a generated builder too; the skeleton must not stay up
+                Platform.runLater(() -> pageLoadFailed(pageName, e));
             }
-            
-            currentPage = pageName;
-            updateNavigationState();
-            updateThemeControlsVisibility();
-            updateBackButtonVisibility();
-            
-            logger.debug("Navigated to page: {}", pageName);
-            
-        } catch (IOException e) {
-            logger.error("Failed to load page: {}", pageName, e);
+        }, delayMs, TimeUnit.MILLISECONDS);
+        loads.put(pageName, future);
+    }
+
+    private void pageLoaded(PageCache.Page page, long requested) {
+        loads.remove(page.name);
+        // A page built twice was never attached; the copy is simply dropped
+        if (pageCache.contains(page.name)) return;
+
+        // Shared observables are changed on the FX thread, so pages bind to
+        // them only here and never while they are built on a loader thread
+        if (page.controller instanceof I18nController) {
+            ((I18nController) page.controller).updateTexts();
+        }
+        pageCache.put(page);
+        logger.debug("Built page {} in {} ms", page.name, (System.nanoTime() - requested) / 1_000_000);
+
+        if (isWaitingForPage(page.name)) {
+            showPage(page);
+        }
+        pageCache.trimToBudget(displayedPage != null ? displayedPage.name : null);
+    }
+
+    private void pageLoadFailed(String pageName, Throwable error) {
+        loads.remove(pageName);
+        if (isWaitingForPage(pageName)) {
+            logger.error("Failed to load page: {}", pageName, error);
             // Show error fallback
             showErrorPage(pageName);
+        } else {
+            logger.debug("Preloading page {} failed", pageName, error);
+        }
+    }
+
+    private boolean isWaitingForPage(String pageName) {
+        return displayedPage != null && displayedPage.placeholder && displayedPage.name.equals(pageName);
+    }
+
+    private void loadPage(String pageName) {
+        PageCache.Page cached = pageCache.get(pageName);
+        if (cached != null) {
+            showPage(cached);
+            pageCache.trimToBudget(pageName);
+        } else {
+            // Keep the window responsive: show a skeleton and attach the real
+            // page once the background build is done
+            ScheduledFuture<?> pending = loads.get(pageName);
+            if (pending != null && pending.getDelay(TimeUnit.NANOSECONDS) > 0 && pending.cancel(false)) {
+                // A hover preload still waiting for its dwell time
+                pending = null;
+            }
+            if (pending == null) {
+                startLoad(pageName, 0);
+            }
+            showPage(PageCache.Page.placeholder(pageName, createSkeleton()));
+        }
+
+        currentPage = pageName;
+        updateNavigationState();
+        updateThemeControlsVisibility();
+        updateBackButtonVisibility();
+
+        logger.debug("Navigated to page: {} ({})", pageName, cached != null ? "cached" : "loading");
+    }
+
+    private static ScheduledExecutorService createPageLoader() {
+        // Two threads, so a running hover preload does not hold up a click elsewhere
+        AtomicInteger threadCount = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2, r -> {
+            Thread thread = new Thread(r, "page-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static Node createSkeleton() {
+        // A few grey bars in the rough shape of a page; cheap to build on the FX thread
+        VBox skeleton = new VBox();
+        skeleton.getStyleClass().add("page-skeleton");
+        for (double width : new double[] {240, 520, 480, 360}) {
+            Region bar = new Region();
+            bar.getStyleClass().add("skeleton-bar");
+            bar.setMaxWidth(width);
+            skeleton.getChildren().add(bar);
+        }
+        return skeleton;
+    }
+
+    // Thread-agnostic: called on the page loader threads
+    private PageCache.Page buildPage(String pageName) throws IOException {
+        String fxmlPath = PAGE_FXML.get(pageName);
+        URL resource = fxmlPath != null ? getClass().getResource(fxmlPath) : null;
+        if (resource == null) {
+            throw new IOException("No page named " + pageName);
+        }
+
+        // Pages compiled to Java at build time skip XML parsing and reflection
+        CompiledFxml.Loaded compiled = CompiledFxml.load(fxmlPath);
+        if (compiled != null) {
+            return new PageCache.Page(pageName, compiled.root(), compiled.controller());
+        }
+
+        FXMLLoader loader = new FXMLLoader(resource);
+        // Controllers bind texts and shared state later, in pageLoaded()
+        Node root = loader.load();
+        return new PageCache.Page(pageName, root, loader.getController());
+    }
+
+    private void showPage(PageCache.Page page) {
+        PageCache.Page previous = displayedPage;
+        displayedPage = page;
+        attach(page);
+
+        if (previous != null && previous.placeholder && previous.name.equals(page.name)) {
+            // The real page replaces its skeleton in place; if the skeleton is
+            // not attached yet, the running fade-out picks the page up instead
+            if (pageContainer.getChildren().contains(previous.root)) {
+                pageContainer.getChildren().setAll(page.root);
+                pageAttached(page);
+            }
+            return;
+        }
+
+        // Fade transition
+        if (!pageContainer.getChildren().isEmpty()) {
+            FadeTransition fadeOut = new FadeTransition(Duration.millis(150), pageContainer);
+            fadeOut.setFromValue(1.0);
+            fadeOut.setToValue(0.0);
+            fadeOut.setOnFinished(e -> {
+                // A newer navigation may have started meanwhile
+                if (displayedPage == null || !displayedPage.name.equals(page.name)) return;
+                pageContainer.getChildren().setAll(displayedPage.root);
+                pageAttached(displayedPage);
+                
+                FadeTransition fadeIn = new FadeTransition(Duration.millis(300), pageContainer);
+                fadeIn.setFromValue(0.0);
+                fadeIn.setToValue(1.0);
+                fadeIn.play();
+            });
+            fadeOut.play();
+        } else {
+            pageContainer.getChildren().add(page.root);
+            pageAttached(page);
+        }
+    }
+
+    // A page registers with shared state when it is first shown; a hover
+    // preload only builds it, so pointing at an entry starts no downloads
+    private static void attach(PageCache.Page page) {
+        if (page.attached || !(page.controller instanceof PageLifecycleController)) return;
+        page.attached = true;
+        ((PageLifecycleController) page.controller).attach();
+    }
+
+    private void pageAttached(PageCache.Page page) {
+        if (page.placeholder) return;
+
+        if (onPageShown != null) {
+            onPageShown.accept(page.name);
+        }
+        // Remote images and the like load after the page is on screen
+        if (page.controller instanceof DeferredContentController && deferredContentLoaded.add(page.controller)) {
+            DeferredContentController controller = (DeferredContentController) page.controller;
+            Platform.runLater(controller::loadDeferredContent);
         }
     }
 
     private void showErrorPage(String pageName) {
+        displayedPage = null;
         Label errorLabel = new Label("Page not found: " + pageName);
         errorLabel.getStyleClass().add("error-message");
         pageContainer.getChildren().clear();
@@ -208,8 +459,6 @@ public class MainControllerWebStyle implements Initializable, I18nController {
     private void setLanguageGerman() {
         if (application != null) {
             application.getI18nService().setLanguage("de");
-            updateTexts();
-            updateLanguageButtons();
         }
     }
 
@@ -217,8 +466,6 @@ public class MainControllerWebStyle implements Initializable, I18nController {
     private void setLanguageEnglish() {
         if (application != null) {
             application.getI18nService().setLanguage("en");
-            updateTexts();
-            updateLanguageButtons();
         }
     }
 
@@ -242,7 +489,6 @@ public class MainControllerWebStyle implements Initializable, I18nController {
     private void setLightTheme() {
         if (application != null) {
             application.getThemeService().setTheme(ThemeService.Theme.LIGHT);
-            updateThemeButtons();
         }
     }
 
@@ -250,7 +496,6 @@ public class MainControllerWebStyle implements Initializable, I18nController {
     private void setDarkTheme() {
         if (application != null) {
             application.getThemeService().setTheme(ThemeService.Theme.DARK);
-            updateThemeButtons();
         }
     }
 
@@ -302,14 +547,14 @@ public class MainControllerWebStyle implements Initializable, I18nController {
         
         I18nService i18n = application.getI18nService();
         
-        // Update navigation texts
-        homeButton.setText(i18n.getText("home"));
-        historyButton.setText(i18n.getText("history"));
-        settingsButton.setText(i18n.getText("settings"));
-        backLabel.setText(i18n.getText("back"));
+        // Bind navigation texts
+        homeButton.textProperty().bind(i18n.textProperty(MessageKey.HOME));
+        historyButton.textProperty().bind(i18n.textProperty(MessageKey.HISTORY));
+        settingsButton.textProperty().bind(i18n.textProperty(MessageKey.SETTINGS));
+        backLabel.textProperty().bind(i18n.textProperty(MessageKey.BACK));
         
-        // Update theme button texts
-        lightThemeButton.setText(i18n.getText("light"));
-        darkThemeButton.setText(i18n.getText("dark"));
+        // Bind theme button texts
+        lightThemeButton.textProperty().bind(i18n.textProperty(MessageKey.LIGHT));
+        darkThemeButton.textProperty().bind(i18n.textProperty(MessageKey.DARK));
     }
 }
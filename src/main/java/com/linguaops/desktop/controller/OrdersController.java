@@ -3,7 +3,10 @@ package com.linguaops.desktop.controller;
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.ConfigurationService;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
 import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableValue;
 import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -24,7 +27,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import java.util.ResourceBundle;
 
-public class OrdersController implements Initializable, I18nController {
+public class OrdersController implements Initializable, I18nController, PageLifecycleController {
     private static final Logger logger = LoggerFactory.getLogger(OrdersController.class);
     
     @FXML private Label titleLabel;
@@ -43,21 +46,39 @@ public class OrdersController implements Initializable, I18nController {
     @FXML private ScrollPane resultsScrollPane;
     @FXML private ProgressIndicator progressIndicator;
 
+    private ObservableValue<String> websiteUrl;
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         updateButtonStates();
-        updateTexts();
         logger.debug("OrdersController initialized");
     }
 
+    @Override
+    public void attach() {
+        bindWebsiteUrl();
+    }
+
+    @Override
+    public void detach() {
+        openWebsiteButton.disableProperty().unbind();
+        websiteUrl = null;
+    }
+
     private void updateButtonStates() {
         // Update export button state based on available data
         boolean hasExportData = hasOrdersData();
         exportButton.setDisable(!hasExportData);
-        
-        // Update open website button state based on configured URL
-        boolean canOpenWebsite = hasWebsiteUrl();
-        openWebsiteButton.setDisable(!canOpenWebsite);
+    }
+
+    private void bindWebsiteUrl() {
+        // Open website button follows the configured URL, wherever it is changed
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app == null) return;
+
+        websiteUrl = app.getConfigService().ordersWebsiteUrlProperty();
+        openWebsiteButton.disableProperty().bind(
+            Bindings.createBooleanBinding(() -> !hasWebsiteUrl(), websiteUrl));
     }
 
     private boolean hasOrdersData() {
@@ -67,8 +88,7 @@ public class OrdersController implements Initializable, I18nController {
     }
 
     private boolean hasWebsiteUrl() {
-        ConfigurationService config = LinguaOpsApplication.getInstance().getConfigService();
-        String url = config.getOrdersWebsiteUrl();
+        String url = websiteUrl != null ? websiteUrl.getValue() : null;
         return url != null && !url.trim().isEmpty();
     }
 
@@ -105,7 +125,7 @@ public class OrdersController implements Initializable, I18nController {
     }
 
     private void performSearch(String searchTerm) {
-        showStatus("Searching for: " + searchTerm);
+        showStatus(i18n().format(MessageKey.SEARCHING_FOR, searchTerm));
         showProgress(true);
         
         // Simulate search operation
@@ -120,7 +140,7 @@ public class OrdersController implements Initializable, I18nController {
             protected void succeeded() {
                 Platform.runLater(() -> {
                     showProgress(false);
-                    showStatus("Search completed");
+                    showStatus(i18n().getText(MessageKey.SEARCH_COMPLETED));
                     showSearchResults(searchTerm);
                 });
             }
@@ -129,7 +149,7 @@ public class OrdersController implements Initializable, I18nController {
             protected void failed() {
                 Platform.runLater(() -> {
                     showProgress(false);
-                    showStatus("Search failed");
+                    showStatus(i18n().getText(MessageKey.SEARCH_FAILED));
                 });
             }
         };
@@ -179,12 +199,12 @@ public class OrdersController implements Initializable, I18nController {
             writer.write("2024-01-17,1003,completed,Customer 3\n");
             
             showAlert(Alert.AlertType.INFORMATION, "Export Complete", 
-                "Orders exported successfully to " + file.getName());
+                i18n().format(MessageKey.ORDERS_EXPORTED, file.getName()));
             
         } catch (IOException e) {
             logger.error("Failed to export orders", e);
             showAlert(Alert.AlertType.ERROR, "Export Failed", 
-                "Failed to export orders: " + e.getMessage());
+                i18n().format(MessageKey.ORDERS_EXPORT_FAILED, e.getMessage()));
         }
     }
 
@@ -205,7 +225,6 @@ public class OrdersController implements Initializable, I18nController {
             Optional<String> result = dialog.showAndWait();
             result.ifPresent(newUrl -> {
                 config.setOrdersWebsiteUrl(newUrl);
-                config.save();
                 openWebsite(newUrl);
             });
         } else {
@@ -220,15 +239,19 @@ public class OrdersController implements Initializable, I18nController {
                 logActivity("orders_open_website", "Opened website: " + url);
             } else {
                 showAlert(Alert.AlertType.WARNING, "Browser Not Supported", 
-                    "Cannot open browser. Please visit: " + url);
+                    i18n().format(MessageKey.BROWSER_NOT_SUPPORTED, url));
             }
         } catch (Exception e) {
             logger.error("Failed to open website", e);
             showAlert(Alert.AlertType.ERROR, "Failed to Open Website", 
-                "Could not open website: " + e.getMessage());
+                i18n().format(MessageKey.OPEN_WEBSITE_FAILED, e.getMessage()));
         }
     }
 
+    private I18nService i18n() {
+        return LinguaOpsApplication.getInstance().getI18nService();
+    }
+
     private void showStatus(String message) {
         statusLabel.setText(message);
         statusArea.setVisible(true);
@@ -266,11 +289,11 @@ public class OrdersController implements Initializable, I18nController {
         
         I18nService i18n = app.getI18nService();
         
-        titleLabel.setText(i18n.getText("orders"));
-        newOrdersButton.setText(i18n.getText("newOrders"));
-        searchOrdersButton.setText(i18n.getText("searchOrders"));
-        exportButton.setText(i18n.getText("export"));
-        openWebsiteButton.setText(i18n.getText("openWebsite"));
+        titleLabel.textProperty().bind(i18n.textProperty(MessageKey.ORDERS));
+        newOrdersButton.textProperty().bind(i18n.textProperty(MessageKey.NEW_ORDERS));
+        searchOrdersButton.textProperty().bind(i18n.textProperty(MessageKey.SEARCH_ORDERS));
+        exportButton.textProperty().bind(i18n.textProperty(MessageKey.EXPORT));
+        openWebsiteButton.textProperty().bind(i18n.textProperty(MessageKey.OPEN_WEBSITE));
         
         // Update button states after text update
         updateButtonStates();
@@ -0,0 +1,123 @@
+package com.linguaops.desktop.controller;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loaded pages kept for reuse, least recently used first.
+ * A cached page keeps its node tree and controller, so scroll positions,
+ * open panels and typed-in text survive navigation. Pages are evicted when
+ * the estimated footprint of all cached pages exceeds the budget. Only
+ * used on the FX thread.
+ */
+class PageCache {
+    private static final Logger logger = LoggerFactory.getLogger(PageCache.class);
+
+    // Rough per-node cost of a laid-out control (skin, css state, bounds)
+    private static final long BYTES_PER_NODE = 2 * 1024;
+
+    static final class Page {
+        final String name;
+        final Node root;
+        final Object controller;
+        // Skeleton shown while the real page is built; never cached
+        final boolean placeholder;
+        // Whether the controller was attached, i.e. the page has been shown
+        boolean attached;
+
+        Page(String name, Node root, Object controller) {
+            this(name, root, controller, false);
+        }
+
+        private Page(String name, Node root, Object controller, boolean placeholder) {
+            this.name = name;
+            this.root = root;
+            this.controller = controller;
+            this.placeholder = placeholder;
+        }
+
+        static Page placeholder(String name, Node root) {
+            return new Page(name, root, null, true);
+        }
+    }
+
+    private final LinkedHashMap<String, Page> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private final long budgetBytes;
+
+    PageCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    Page get(String name) {
+        return pages.get(name);
+    }
+
+    boolean contains(String name) {
+        return pages.containsKey(name);
+    }
+
+    void put(Page page) {
+        pages.put(page.name, page);
+    }
+
+    /**
+     * Evicts least recently used pages until the cache fits its budget and
+     * detaches the controllers of those that were shown. The page on screen
+     * is never evicted.
+     */
+    void trimToBudget(String pinned) {
+        long total = 0;
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        for (Page page : pages.values()) {
+            long size = estimateBytes(page.root);
+            sizes.put(page.name, size);
+            total += size;
+        }
+
+        Iterator<Map.Entry<String, Page>> iterator = pages.entrySet().iterator();
+        while (total > budgetBytes && iterator.hasNext()) {
+            Map.Entry<String, Page> eldest = iterator.next();
+            if (eldest.getKey().equals(pinned)) continue;
+
+            total -= sizes.get(eldest.getKey());
+            iterator.remove();
+            if (eldest.getValue().attached) {
+                ((PageLifecycleController) eldest.getValue().controller).detach();
+            }
+            logger.debug("Evicted page {} from cache ({} KB cached)", eldest.getKey(), total / 1024);
+        }
+    }
+
+    private static long estimateBytes(Node root) {
+        long[] bytes = new long[1];
+        Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+        accumulate(root, bytes, images);
+        for (Image image : images) {
+            bytes[0] += (long) image.getWidth() * (long) image.getHeight() * 4;
+        }
+        return bytes[0];
+    }
+
+    private static void accumulate(Node node, long[] bytes, Set<Image> images) {
+        bytes[0] += BYTES_PER_NODE;
+        if (node instanceof ImageView && ((ImageView) node).getImage() != null) {
+            images.add(((ImageView) node).getImage());
+        }
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                accumulate(child, bytes, images);
+            }
+        }
+    }
+}
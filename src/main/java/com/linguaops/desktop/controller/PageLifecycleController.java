@@ -0,0 +1,23 @@
+package com.linguaops.desktop.controller;
+
+/**
+ * Interface for page controllers that attach to shared state, such as
+ * configuration observables or service listeners. Pages may be built off
+ * the FX thread, so {@code initialize()} only sets up the page's own nodes;
+ * everything that registers with shared state belongs in {@link #attach()}.
+ */
+public interface PageLifecycleController {
+
+    /**
+     * Registers with shared state. Called once per page instance, on the FX
+     * thread, when the page is first shown; pages that are only preloaded
+     * are never attached.
+     */
+    void attach();
+
+    /**
+     * Undoes {@link #attach()}. Called on the FX thread when an attached page
+     * is dropped, e.g. evicted from the page cache; the page is not used again.
+     */
+    void detach();
+}
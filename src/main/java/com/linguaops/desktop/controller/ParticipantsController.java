@@ -2,6 +2,7 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
@@ -30,7 +31,7 @@ public class ParticipantsController implements Initializable, I18nController {
         
         I18nService i18n = app.getI18nService();
         
-        titleLabel.setText(i18n.getText("manageParticipants"));
-        placeholderLabel.setText(i18n.getText("participantsPlaceholder", "Participant management functionality coming soon."));
+        titleLabel.setText(i18n.getText(MessageKey.MANAGE_PARTICIPANTS));
+        placeholderLabel.setText(i18n.getText(MessageKey.PARTICIPANTS_PLACEHOLDER));
     }
 }
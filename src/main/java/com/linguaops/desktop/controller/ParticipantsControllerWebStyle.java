@@ -2,6 +2,9 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
@@ -34,10 +37,11 @@ public class ParticipantsControllerWebStyle implements Initializable, I18nContro
     @FXML private Label parsedLabel;
 
     private Section open = Section.NONE;
+    private final IntegerProperty parsedCount = new SimpleIntegerProperty();
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        updateTexts();
+        orderInput.textProperty().addListener((obs, o, n) -> updateParsed());
         updatePanel();
     }
 
@@ -67,26 +71,24 @@ public class ParticipantsControllerWebStyle implements Initializable, I18nContro
 
         switch (open) {
             case ANMELDE -> {
-                panelTitle.setText(i18n.getText("registrationConfirmation"));
-                actionButton.setText(i18n.getText("makeRegistrationConfirmation"));
+                panelTitle.textProperty().bind(i18n.textProperty(MessageKey.REGISTRATION_CONFIRMATION));
+                actionButton.textProperty().bind(i18n.textProperty(MessageKey.MAKE_REGISTRATION_CONFIRMATION));
             }
             case TEILNAHME -> {
-                panelTitle.setText(i18n.getText("participationConfirmation"));
-                actionButton.setText(i18n.getText("makeParticipationConfirmation"));
+                panelTitle.textProperty().bind(i18n.textProperty(MessageKey.PARTICIPATION_CONFIRMATION));
+                actionButton.textProperty().bind(i18n.textProperty(MessageKey.MAKE_PARTICIPATION_CONFIRMATION));
             }
             case ADDRESS -> {
-                panelTitle.setText(i18n.getText("addressPostList"));
-                actionButton.setText(i18n.getText("makeAddressPostList"));
+                panelTitle.textProperty().bind(i18n.textProperty(MessageKey.ADDRESS_POST_LIST));
+                actionButton.textProperty().bind(i18n.textProperty(MessageKey.MAKE_ADDRESS_POST_LIST));
             }
         }
         updateParsed();
-        orderInput.textProperty().removeListener((obs, o, n) -> {});
-        orderInput.textProperty().addListener((obs, o, n) -> updateParsed());
     }
 
     private void updateParsed() {
         var ids = parseOrderNumbers(orderInput.getText());
-        parsedLabel.setText("Parsed: " + ids.size());
+        parsedCount.set(ids.size());
     }
 
     @FXML
@@ -110,10 +112,10 @@ public class ParticipantsControllerWebStyle implements Initializable, I18nContro
         LinguaOpsApplication app = LinguaOpsApplication.getInstance();
         if (app == null) return;
         I18nService i18n = app.getI18nService();
-        titleLabel.setText(i18n.getText("manageParticipants"));
-        btnAnmelde.setText(i18n.getText("registrationConfirmation"));
-        btnTeilnahme.setText(i18n.getText("participationConfirmation"));
-        btnAddress.setText(i18n.getText("addressPostList"));
-        if (open != Section.NONE) updatePanel();
+        titleLabel.textProperty().bind(i18n.textProperty(MessageKey.MANAGE_PARTICIPANTS));
+        btnAnmelde.textProperty().bind(i18n.textProperty(MessageKey.REGISTRATION_CONFIRMATION));
+        btnTeilnahme.textProperty().bind(i18n.textProperty(MessageKey.PARTICIPATION_CONFIRMATION));
+        btnAddress.textProperty().bind(i18n.textProperty(MessageKey.ADDRESS_POST_LIST));
+        parsedLabel.textProperty().bind(i18n.formatBinding(MessageKey.PARSED_ORDER_NUMBERS, parsedCount));
     }
 }
@@ -2,6 +2,9 @@ package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
@@ -12,7 +15,7 @@ import org.slf4j.LoggerFactory;
 import java.net.URL;
 import java.util.ResourceBundle;
 
-public class SettingsControllerWebStyle implements Initializable, I18nController {
+public class SettingsControllerWebStyle implements Initializable, I18nController, PageLifecycleController {
     private static final Logger logger = LoggerFactory.getLogger(SettingsControllerWebStyle.class);
     
     // Header
@@ -45,12 +48,35 @@ public class SettingsControllerWebStyle implements Initializable, I18nController
     // Default content
     @FXML private VBox defaultContent;
 
+    private ObservableValue<String> telcSheetUrl;
+    private ObservableValue<String> telcSaEmail;
+    // Refresh fields on external changes unless the user is editing them
+    private final ChangeListener<String> sheetUrlListener = (obs, oldValue, newValue) -> {
+        if (!sheetUrlField.isFocused()) sheetUrlField.setText(newValue);
+    };
+    private final ChangeListener<String> saEmailListener = (obs, oldValue, newValue) -> {
+        if (!serviceEmailField.isFocused()) serviceEmailField.setText(newValue);
+    };
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        updateTexts();
         logger.debug("SettingsControllerWebStyle initialized");
     }
 
+    @Override
+    public void attach() {
+        observeGoogleSheetsConfig();
+    }
+
+    @Override
+    public void detach() {
+        if (telcSheetUrl == null) return;
+        telcSheetUrl.removeListener(sheetUrlListener);
+        telcSaEmail.removeListener(saEmailListener);
+        telcSheetUrl = null;
+        telcSaEmail = null;
+    }
+
     @FXML
     private void showLanguageSection() {
         showPanel("language", "Sprache");
@@ -160,21 +186,23 @@ public class SettingsControllerWebStyle implements Initializable, I18nController
     }
 
     // Google Sheets methods
+    private void observeGoogleSheetsConfig() {
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app == null) return;
+
+        telcSheetUrl = app.getConfigService().observeString("telcSheetUrl", "");
+        telcSaEmail = app.getConfigService().observeString("telcSaEmail", "");
+        telcSheetUrl.addListener(sheetUrlListener);
+        telcSaEmail.addListener(saEmailListener);
+    }
+
     private void loadGoogleSheetsData() {
         // Load current Google Sheets configuration
-        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
-        if (app != null) {
-            try {
-                String savedUrl = app.getConfigService().getProperty("telcSheetUrl", "");
-                String savedEmail = app.getConfigService().getProperty("telcSaEmail", "");
-                
-                sheetUrlField.setText(savedUrl);
-                serviceEmailField.setText(savedEmail);
-                privateKeyArea.setText(""); // Don't store/show private key
-            } catch (Exception e) {
-                logger.warn("Could not load Google Sheets configuration", e);
-            }
-        }
+        if (telcSheetUrl == null) return;
+
+        sheetUrlField.setText(telcSheetUrl.getValue());
+        serviceEmailField.setText(telcSaEmail.getValue());
+        privateKeyArea.setText(""); // Don't store/show private key
     }
 
     @FXML
@@ -227,10 +255,10 @@ public class SettingsControllerWebStyle implements Initializable, I18nController
         I18nService i18n = app.getI18nService();
         
         // Update button texts
-        settingsTitle.setText(i18n.getText("settings"));
-        languageButton.setText(i18n.getText("language", "Sprache"));
+        settingsTitle.textProperty().bind(i18n.textProperty(MessageKey.SETTINGS));
+        languageButton.textProperty().bind(i18n.textProperty(MessageKey.LANGUAGE));
         googleSheetsButton.setText("Google Sheets");
-        ordersSettingsButton.setText(i18n.getText("orders"));
+        ordersSettingsButton.textProperty().bind(i18n.textProperty(MessageKey.ORDERS));
         examsSettingsButton.setText("Prüfungsverwaltung");
         emailsButton.setText("Emails");
         backgroundButton.setText("Hintergrundfoto");
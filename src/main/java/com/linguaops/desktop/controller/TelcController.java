@@ -1,36 +1,185 @@
 package com.linguaops.desktop.controller;
 
 import com.linguaops.desktop.LinguaOpsApplication;
+import com.linguaops.desktop.service.ConfigurationService;
 import com.linguaops.desktop.service.I18nService;
+import com.linguaops.desktop.service.MessageKey;
+import com.linguaops.desktop.service.TelcSheetService;
+import com.linguaops.desktop.telc.TelcSheetIndex;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.util.AbstractList;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
-public class TelcController implements Initializable, I18nController {
+public class TelcController implements Initializable, I18nController, PageLifecycleController {
     private static final Logger logger = LoggerFactory.getLogger(TelcController.class);
-    
+
     @FXML private Label titleLabel;
     @FXML private Label placeholderLabel;
+    @FXML private ComboBox<String> tabBox;
+    @FXML private TextField searchField;
+    @FXML private ListView<Integer> rowList;
+
+    private final Consumer<String> indexListener = this::onIndexChanged;
+    // Index the list shows rows of; lookups and filters only ever read it
+    private TelcSheetIndex index;
+    private String watchedTab;
+    private String loadError;
+    // Between attach() and detach(); late callbacks must not watch tabs again
+    private boolean attached;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        updateTexts();
+        rowList.setCellFactory(list -> new RowCell());
+        tabBox.valueProperty().addListener((obs, oldTab, newTab) -> showTab(newTab));
+        searchField.textProperty().addListener((obs, oldText, newText) -> filter());
         logger.debug("TelcController initialized");
     }
 
+    @Override
+    public void attach() {
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app == null) return;
+
+        attached = true;
+        TelcSheetService sheets = app.getTelcSheetService();
+        sheets.addIndexListener(indexListener);
+        sheets.tabs().whenComplete((tabs, error) -> Platform.runLater(() -> {
+            if (!attached) return;
+            if (error != null) {
+                showError(error);
+                return;
+            }
+            tabBox.getItems().setAll(tabs);
+            String tab = app.getConfigService().getString("telcSheetTab", "");
+            tabBox.setValue(tabs.contains(tab) ? tab : tabs.isEmpty() ? null : tabs.get(0));
+        }));
+    }
+
+    @Override
+    public void detach() {
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app == null) return;
+
+        attached = false;
+        TelcSheetService sheets = app.getTelcSheetService();
+        sheets.removeIndexListener(indexListener);
+        if (watchedTab != null) sheets.unwatch(watchedTab);
+        watchedTab = null;
+    }
+
     @Override
     public void updateTexts() {
         LinguaOpsApplication app = LinguaOpsApplication.getInstance();
         if (app == null) return;
-        
+
         I18nService i18n = app.getI18nService();
-        
-        titleLabel.setText(i18n.getText("telcArea"));
-        placeholderLabel.setText(i18n.getText("telcPlaceholder", "Telc area functionality coming soon."));
+
+        titleLabel.textProperty().bind(i18n.textProperty(MessageKey.TELC_AREA));
+        searchField.promptTextProperty().bind(i18n.textProperty(MessageKey.TELC_SEARCH_PROMPT));
+        filter();
+    }
+
+    private void showTab(String tab) {
+        if (!attached) return;
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        TelcSheetService sheets = app.getTelcSheetService();
+        ConfigurationService config = app.getConfigService();
+        if (watchedTab != null) sheets.unwatch(watchedTab);
+        watchedTab = tab;
+        loadError = null;
+        index = tab != null ? sheets.getIndex(tab) : null;
+        if (tab != null) {
+            config.setString("telcSheetTab", tab);
+            sheets.watch(tab, config.getInt("telcSheetKeyColumn", 0));
+        }
+        filter();
+    }
+
+    // Called on the sync thread whenever a tab was indexed again
+    private void onIndexChanged(String tab) {
+        Platform.runLater(() -> {
+            if (!attached || !tab.equals(watchedTab)) return;
+            index = LinguaOpsApplication.getInstance().getTelcSheetService().getIndex(tab);
+            filter();
+        });
+    }
+
+    private void filter() {
+        LinguaOpsApplication app = LinguaOpsApplication.getInstance();
+        if (app == null) return;
+
+        I18nService i18n = app.getI18nService();
+        if (index == null) {
+            rowList.getItems().clear();
+            placeholderLabel.setText(loadError != null
+                ? i18n.format(MessageKey.TELC_LOAD_FAILED, loadError)
+                : i18n.format(MessageKey.TELC_PLACEHOLDER));
+            return;
+        }
+        int[] rows = index.find(searchField.getText());
+        rowList.setItems(FXCollections.observableList(new RowList(rows)));
+        placeholderLabel.setText(i18n.format(MessageKey.TELC_ROWS, rows.length, index.getParticipantCount()));
+    }
+
+    private void showError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.warn("Could not load the telc sheet tabs", cause);
+        loadError = cause.getMessage();
+        filter();
+    }
+
+    // Row numbers of the matches, viewed as a list without boxing them all up front
+    private static final class RowList extends AbstractList<Integer> {
+        private final int[] rows;
+
+        RowList(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Integer get(int i) {
+            return rows[i];
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+
+    private final class RowCell extends ListCell<Integer> {
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        protected void updateItem(Integer row, boolean empty) {
+            super.updateItem(row, empty);
+            if (empty || row == null || index == null || row >= index.getRowCount()) {
+                setText(null);
+                return;
+            }
+            text.setLength(0);
+            List<String> values = index.getRow(row);
+            for (String value : values) {
+                if (value.isBlank()) continue;
+                if (text.length() > 0) text.append("  ·  ");
+                text.append(value);
+            }
+            setText(text.toString());
+        }
     }
 }
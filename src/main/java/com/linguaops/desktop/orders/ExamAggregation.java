@@ -0,0 +1,176 @@
+package com.linguaops.desktop.orders;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Participants, revenue and part breakdown per exam (kind and date), kept
+ * up to date order by order. Each order's contribution is remembered, so a
+ * changed order is moved between exams by subtracting its old contribution
+ * and adding the new one; nothing is rescanned. Summaries for the Exams
+ * page are rebuilt from the per-exam views only after a change. Thread-safe.
+ */
+public class ExamAggregation {
+    // Orders in these states are kept but not counted, as on the server
+    private static final Set<String> NOT_COUNTED = Set.of("cancelled", "refunded", "failed", "trash", "checkout-draft");
+
+    private static final ExamPart[] PARTS = ExamPart.values();
+
+    /** One exam: level and date. */
+    public record ExamKey(String kind, LocalDate date) implements Comparable<ExamKey> {
+        private static final Comparator<ExamKey> ORDER = Comparator
+            .comparing(ExamKey::date)
+            .thenComparing(ExamKey::kind);
+
+        @Override
+        public int compareTo(ExamKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /** What the Exams page shows for one exam. */
+    public record ExamSummary(ExamKey exam, int participants, BigDecimal revenue, Map<ExamPart, Integer> parts) {
+    }
+
+    // Materialized view of one exam
+    private static final class View {
+        int participants;
+        long revenueCents;
+        final int[] parts = new int[PARTS.length];
+
+        boolean isEmpty() {
+            return participants == 0;
+        }
+    }
+
+    private final Map<Long, ExamOrder> orders = new HashMap<>();
+    private final Map<ExamKey, View> views = new HashMap<>();
+    private List<ExamSummary> summaries = List.of();
+    private boolean dirty;
+    private long version;
+
+    /**
+     * Adds {@code order} or replaces the earlier state of the order with the
+     * same id. Returns whether any view changed.
+     */
+    public synchronized boolean apply(ExamOrder order) {
+        ExamOrder previous = orders.put(order.id(), order);
+        if (previous != null && previous.equals(order)) return false;
+        boolean changed = subtract(previous) | add(order);
+        if (changed) changed();
+        return changed;
+    }
+
+    /**
+     * Applies {@code changed} in one step; returns whether any view changed.
+     */
+    public synchronized boolean applyAll(Collection<ExamOrder> changed) {
+        boolean any = false;
+        for (ExamOrder order : changed) {
+            ExamOrder previous = orders.put(order.id(), order);
+            if (previous != null && previous.equals(order)) continue;
+            any |= subtract(previous) | add(order);
+        }
+        if (any) changed();
+        return any;
+    }
+
+    /** Forgets the order with {@code id}; returns whether any view changed. */
+    public synchronized boolean remove(long id) {
+        boolean changed = subtract(orders.remove(id));
+        if (changed) changed();
+        return changed;
+    }
+
+    /** All exams with at least one counted order, by date and kind. */
+    public synchronized List<ExamSummary> getSummaries() {
+        if (dirty) {
+            List<ExamSummary> result = new ArrayList<>(views.size());
+            views.forEach((exam, view) -> result.add(summary(exam, view)));
+            result.sort(Comparator.comparing(ExamSummary::exam));
+            summaries = Collections.unmodifiableList(result);
+            dirty = false;
+        }
+        return summaries;
+    }
+
+    /** The summary of one exam, or {@code null} if nobody is booked. */
+    public synchronized ExamSummary getSummary(String kind, LocalDate date) {
+        ExamKey exam = new ExamKey(kind, date);
+        View view = views.get(exam);
+        return view != null ? summary(exam, view) : null;
+    }
+
+    /** Every order that was applied and not removed, counted or not. */
+    public synchronized List<ExamOrder> getOrders() {
+        return new ArrayList<>(orders.values());
+    }
+
+    /** Increases with every change of the views. */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    private void changed() {
+        dirty = true;
+        version++;
+    }
+
+    private boolean add(ExamOrder order) {
+        ExamKey exam = examOf(order);
+        if (exam == null) return false;
+        View view = views.computeIfAbsent(exam, key -> new View());
+        update(view, order, 1);
+        return true;
+    }
+
+    private boolean subtract(ExamOrder order) {
+        ExamKey exam = examOf(order);
+        if (exam == null) return false;
+        View view = views.get(exam);
+        if (view == null) return false;
+        update(view, order, -1);
+        if (view.isEmpty()) views.remove(exam);
+        return true;
+    }
+
+    private static void update(View view, ExamOrder order, int sign) {
+        view.participants += sign;
+        view.revenueCents += sign * cents(order.total());
+        view.parts[(order.part() != null ? order.part() : ExamPart.FULL).ordinal()] += sign;
+    }
+
+    // The exam an order counts for, or null if it does not count
+    private static ExamKey examOf(ExamOrder order) {
+        if (order == null || order.examDate() == null || order.kind() == null || order.kind().isEmpty()) return null;
+        if (order.status() != null && NOT_COUNTED.contains(order.status())) return null;
+        return new ExamKey(order.kind(), order.examDate());
+    }
+
+    /**
+     * {@code amount} in whole cents, rounded half up; 0 for {@code null}.
+     * Everything that stores or sums order totals rounds through here.
+     */
+    public static long cents(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue() : 0;
+    }
+
+    private static ExamSummary summary(ExamKey exam, View view) {
+        Map<ExamPart, Integer> parts = new EnumMap<>(ExamPart.class);
+        for (ExamPart part : PARTS) {
+            if (view.parts[part.ordinal()] != 0) parts.put(part, view.parts[part.ordinal()]);
+        }
+        return new ExamSummary(exam, view.participants, BigDecimal.valueOf(view.revenueCents, 2),
+            Collections.unmodifiableMap(parts));
+    }
+}
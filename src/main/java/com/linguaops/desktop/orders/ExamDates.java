@@ -0,0 +1,147 @@
+package com.linguaops.desktop.orders;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads the exam dates customers and plugins put into orders: "18.05.2024",
+ * "18.5.24", "2024-05-18", "2024-05-18T09:00:00", "18. Mai 2024",
+ * "Samstag, 18.05.2024 10:00 Uhr", "May 18, 2024" and the like. The text is
+ * scanned once for day, month (number or German/English name) and year;
+ * weekdays and times are skipped, and month names count only as whole
+ * words. Invalid dates give {@code null}, never an exception, so
+ * unparseable values cost no more than valid ones.
+ */
+public final class ExamDates {
+    private static final DateTimeFormatter GERMAN_DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final Map<String, Integer> MONTHS = createMonths();
+    private static final int LONGEST_MONTH = 9;
+
+    private ExamDates() {
+    }
+
+    /** The date in {@code text}, or {@code null} if there is no valid one. */
+    public static LocalDate parse(CharSequence text) {
+        if (text == null) return null;
+        // Up to three components; month names are stored as their number
+        int[] values = new int[3];
+        int[] digits = new int[3];
+        int monthName = -1;
+        int count = 0;
+
+        int length = text.length();
+        int i = 0;
+        while (i < length && count < 3) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int start = i;
+                int value = 0;
+                while (i < length && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                    if (i - start < 9) value = value * 10 + (text.charAt(i) - '0');
+                    i++;
+                }
+                if (i < length && text.charAt(i) == ':') {
+                    // A time such as 10:00; skip it
+                    while (i < length && (text.charAt(i) == ':' || (text.charAt(i) >= '0' && text.charAt(i) <= '9'))) i++;
+                    continue;
+                }
+                values[count] = value;
+                digits[count++] = i - start;
+            } else if (Character.isLetter(c)) {
+                // A word, hyphenated parts included: "Juni-Kurs" is no month
+                int start = i;
+                while (i < length && (Character.isLetter(text.charAt(i))
+                        || (text.charAt(i) == '-' && i + 1 < length && Character.isLetter(text.charAt(i + 1))))) i++;
+                int month = month(text, start, i);
+                if (month > 0 && monthName < 0) {
+                    monthName = count;
+                    values[count] = month;
+                    digits[count++] = 0;
+                }
+            } else {
+                i++;
+            }
+        }
+        if (count < 3) return null;
+
+        int day;
+        int month;
+        int year;
+        int yearDigits;
+        if (digits[0] == 4 && monthName != 0) {
+            // 2024-05-18, 2024 May 18
+            year = values[0];
+            month = values[1];
+            day = values[2];
+            yearDigits = 4;
+        } else if (monthName == 0) {
+            // May 18, 2024
+            month = values[0];
+            day = values[1];
+            year = values[2];
+            yearDigits = digits[2];
+        } else if (monthName < 2) {
+            // 18.05.2024, 18. Mai 2024
+            day = values[0];
+            month = values[1];
+            year = values[2];
+            yearDigits = digits[2];
+        } else {
+            return null;
+        }
+
+        if (yearDigits == 2) year += 2000;
+        else if (yearDigits != 4) return null;
+        if (month < 1 || month > 12 || year < 1900 || year > 2200) return null;
+        if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) return null;
+        return LocalDate.of(year, month, day);
+    }
+
+    /** {@code date} as dd.MM.yyyy, the format of the server and the sheets. */
+    public static String format(LocalDate date) {
+        return GERMAN_DATE.format(date);
+    }
+
+    /**
+     * Month of {@code word} if it is a whole German or English month name or
+     * abbreviation ("März", "Maerz", "Okt", "December"), else 0. Words that
+     * only start like one, such as "Marcus" or "Juni-Kurs", are no month.
+     */
+    public static int month(CharSequence word) {
+        return month(word, 0, word.length());
+    }
+
+    private static int month(CharSequence text, int start, int end) {
+        if (end - start < 3 || end - start > LONGEST_MONTH) return 0;
+        Integer month = MONTHS.get(text.subSequence(start, end).toString().toLowerCase(Locale.ROOT));
+        return month != null ? month : 0;
+    }
+
+    private static Map<String, Integer> createMonths() {
+        String[][] names = {
+            {"jan", "januar", "january", "jänner"},
+            {"feb", "februar", "february"},
+            {"mär", "mar", "mrz", "märz", "maerz", "march"},
+            {"apr", "april"},
+            {"mai", "may"},
+            {"jun", "juni", "june"},
+            {"jul", "juli", "july"},
+            {"aug", "august"},
+            {"sep", "sept", "september"},
+            {"okt", "oct", "oktober", "october"},
+            {"nov", "november"},
+            {"dez", "dec", "dezember", "december"}};
+        Map<String, Integer> months = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            for (String name : names[i]) {
+                months.put(name, i + 1);
+            }
+        }
+        return Map.copyOf(months);
+    }
+}
@@ -0,0 +1,12 @@
+package com.linguaops.desktop.orders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * What the exam views need to know about one order. Kind is the level
+ * (B1, B2, C1); kind or date are empty/{@code null} when the order could
+ * not be assigned to an exam.
+ */
+public record ExamOrder(long id, String kind, LocalDate examDate, ExamPart part, BigDecimal total, String status) {
+}
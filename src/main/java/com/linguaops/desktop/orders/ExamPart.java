@@ -0,0 +1,21 @@
+package com.linguaops.desktop.orders;
+
+/**
+ * Which part of an exam an order books, with the labels the shop and the
+ * server use for it.
+ */
+public enum ExamPart {
+    FULL("Gesamt"),
+    ORAL_ONLY("nur mündlich"),
+    WRITTEN_ONLY("nur schriftlich");
+
+    private final String label;
+
+    ExamPart(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
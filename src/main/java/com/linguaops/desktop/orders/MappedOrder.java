@@ -0,0 +1,20 @@
+package com.linguaops.desktop.orders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A WooCommerce order reduced to what the desktop lists and statistics use.
+ * {@code examDate} is {@code null} when the order's date could not be read;
+ * {@code examDateText} then holds the text as the customer entered it.
+ */
+public record MappedOrder(long id, String number, String firstName, String lastName,
+                          String examKind, LocalDate examDate, String examDateText, ExamPart examPart,
+                          String certificate, String bookingDate, String paymentMethod,
+                          BigDecimal total, String status) {
+
+    /** The order as counted by the exam statistics. */
+    public ExamOrder toExamOrder() {
+        return new ExamOrder(id, examKind, examDate, examPart, total, status);
+    }
+}
@@ -0,0 +1,62 @@
+package com.linguaops.desktop.orders;
+
+import java.util.List;
+
+/**
+ * Order fields read from WooCommerce meta data, with the meta keys the shop
+ * and its plugins have used for them, most preferred first. The lists are
+ * the ones of the server's order-mapper.ts and orders-by-exam.ts; spelling
+ * variants that normalize to the same key are listed once.
+ */
+public enum MetaField {
+    EXAM_DATE(List.of(
+        "prüfungstermin wählen",
+        "exam_date",
+        "prüfungsdatum",
+        "prüfungstermin",
+        "termin",
+        "prüfungs termin wählen",
+        "choose exam date")),
+    EXAM_PART(List.of(
+        "prüfungsteil",
+        "exam_part",
+        "teilnahmeart",
+        "teilnahme")),
+    EXAM_KIND(List.of(
+        "prüfungstyp",
+        "exam_type",
+        "exam_kind",
+        "type",
+        "typ",
+        "teilnahmeart",
+        "prüfung_art",
+        "prüfungsart")),
+    LEVEL(List.of(
+        "prüfungsniveau",
+        "exam_level",
+        "level",
+        "niveau",
+        "language_level",
+        "prüfung_level")),
+    CERTIFICATE(List.of(
+        "zertifikat",
+        "certificate",
+        "certificate_delivery",
+        "zertifikat_versand",
+        "lieferung_zertifikat",
+        "zertifikat_abholung",
+        "zertifikat/ergebnis",
+        "zertifikat / ergebnis",
+        "zertifikat/ergebniss",
+        "zertifikat / ergebniss"));
+
+    private final List<String> keys;
+
+    MetaField(List<String> keys) {
+        this.keys = keys;
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+}
@@ -0,0 +1,237 @@
+package com.linguaops.desktop.orders;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recognizes the meta keys of {@link MetaField}s however the shop spelled
+ * them. Keys are normalized like the server does (lower case, no trailing
+ * colon or "(...)" parts, umlauts folded, "._-" and runs of whitespace as
+ * one space) and the known keys are compiled into a trie, so
+ * {@link #lookup(CharSequence)} normalizes and matches a key in one pass
+ * over its characters without allocating. Umlauts match both their "ae"
+ * spelling and the bare vowel, which covers both server normalizers.
+ * Instances are immutable and shared between threads.
+ */
+public final class MetaKeyNormalizer {
+    // a-z, 0-9, space and '/' are the only characters of normalized known keys
+    private static final int ALPHABET = 38;
+    private static final int NONE = -1;
+
+    // Folded form of each character up to Latin Extended-A, null if it stays as is
+    private static final char[][] FOLD = createFoldTable();
+    // Umlauts folded to the bare vowel, for the second spelling of known keys
+    private static final char[][] FOLD_PLAIN = createPlainFoldTable();
+    private static final char[] E = {'e'};
+
+    private final int[] transitions;
+    private final int[] keyIds;
+    private final String[] keys;
+    private final int[][] keysByField;
+
+    public MetaKeyNormalizer(MetaField... fields) {
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        List<int[]> fieldKeys = new ArrayList<>();
+        TrieBuilder trie = new TrieBuilder();
+        for (MetaField field : fields) {
+            int[] order = field.getKeys().stream().mapToInt(key -> {
+                String canonical = normalize(key);
+                Integer id = ids.get(canonical);
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(canonical, id);
+                    trie.add(canonical, id);
+                    // "prufungsteil" for keys stored without the umlaut's e
+                    trie.add(normalize(key, false), id);
+                }
+                return id;
+            }).toArray();
+            fieldKeys.add(order);
+        }
+        transitions = trie.transitions();
+        keyIds = trie.keyIds();
+        keys = ids.keySet().toArray(new String[0]);
+        keysByField = new int[MetaField.values().length][];
+        Arrays.fill(keysByField, new int[0]);
+        for (int i = 0; i < fields.length; i++) {
+            keysByField[fields[i].ordinal()] = fieldKeys.get(i);
+        }
+    }
+
+    /** Number of distinct known keys; ids are 0 to {@code getKeyCount() - 1}. */
+    public int getKeyCount() {
+        return keys.length;
+    }
+
+    /** Normalized spelling of known key {@code id}. */
+    public String getKey(int id) {
+        return keys[id];
+    }
+
+    /** Ids of the keys of {@code field}, most preferred first. */
+    public int[] getKeyIds(MetaField field) {
+        return keysByField[field.ordinal()];
+    }
+
+    /** Id of the known key {@code raw} normalizes to, or -1 if it is not one. */
+    public int lookup(CharSequence raw) {
+        int state = walk(raw, true, null, this);
+        return state == NONE ? NONE : keyIds[state];
+    }
+
+    /** {@code raw} normalized, the way known keys are matched. */
+    public static String normalize(CharSequence raw) {
+        return normalize(raw, true);
+    }
+
+    private static String normalize(CharSequence raw, boolean umlautAsE) {
+        StringBuilder out = new StringBuilder(raw.length());
+        walk(raw, umlautAsE, out, null);
+        return out.toString();
+    }
+
+    // Normalizes raw into out or, given a trie, through the trie; returns the
+    // trie state reached, NONE once no known key can match
+    private static int walk(CharSequence raw, boolean umlautAsE, StringBuilder out, MetaKeyNormalizer trie) {
+        int end = raw.length();
+        while (end > 0 && Character.isWhitespace(raw.charAt(end - 1))) end--;
+        if (end > 0 && raw.charAt(end - 1) == ':') end--;
+
+        int state = 0;
+        boolean pendingSpace = false;
+        boolean emitted = false;
+        char last = 0;
+        for (int i = 0; i < end; i++) {
+            char c = raw.charAt(i);
+            if (c == '(') {
+                int close = indexOf(raw, ')', i + 1, end);
+                if (close >= 0) {
+                    i = close;
+                    continue;
+                }
+            }
+            if (c == '.' || c == '_' || c == '-' || Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+
+            char lower = Character.toLowerCase(c);
+            char[] folded;
+            if (lower >= '\u0300' && lower <= '\u036f') {
+                // Combining mark of a decomposed character; a + U+0308 folds like ä
+                if (lower != '\u0308' || !umlautAsE || (last != 'a' && last != 'o' && last != 'u')) continue;
+                folded = E;
+            } else if (lower < FOLD.length && FOLD[lower] != null) {
+                folded = umlautAsE || FOLD_PLAIN[lower] == null ? FOLD[lower] : FOLD_PLAIN[lower];
+            } else {
+                folded = null;
+            }
+
+            int count = folded != null ? folded.length : 1;
+            for (int k = 0; k < count; k++) {
+                char next = folded != null ? folded[k] : lower;
+                if (pendingSpace && emitted) {
+                    state = step(trie, state, ' ', out);
+                    if (state == NONE) return NONE;
+                }
+                pendingSpace = false;
+                emitted = true;
+                last = next;
+                state = step(trie, state, next, out);
+                if (state == NONE) return NONE;
+            }
+        }
+        return trie == null || trie.keyIds[state] != NONE ? state : NONE;
+    }
+
+    private static int step(MetaKeyNormalizer trie, int state, char c, StringBuilder out) {
+        if (trie == null) {
+            out.append(c);
+            return state;
+        }
+        int symbol = symbol(c);
+        return symbol == NONE ? NONE : trie.transitions[state * ALPHABET + symbol];
+    }
+
+    private static int symbol(char c) {
+        if (c >= 'a' && c <= 'z') return c - 'a';
+        if (c >= '0' && c <= '9') return 26 + c - '0';
+        if (c == ' ') return 36;
+        if (c == '/') return 37;
+        return NONE;
+    }
+
+    private static int indexOf(CharSequence s, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == c) return i;
+        }
+        return NONE;
+    }
+
+    private static char[][] createFoldTable() {
+        char[][] table = new char[0x180][];
+        for (char c = 0xc0; c < table.length; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}", "");
+            if (!decomposed.equals(String.valueOf(c))) table[c] = decomposed.toCharArray();
+        }
+        table['ä'] = new char[] {'a', 'e'};
+        table['ö'] = new char[] {'o', 'e'};
+        table['ü'] = new char[] {'u', 'e'};
+        table['ß'] = new char[] {'s', 's'};
+        return table;
+    }
+
+    private static char[][] createPlainFoldTable() {
+        char[][] table = new char[0x180][];
+        table['ä'] = new char[] {'a'};
+        table['ö'] = new char[] {'o'};
+        table['ü'] = new char[] {'u'};
+        return table;
+    }
+
+    // Builds the dense transition table, one row of ALPHABET states per node
+    private static final class TrieBuilder {
+        private int[] transitions = newRow(new int[0], 0);
+        private int[] keyIds = {NONE};
+        private int nodes = 1;
+
+        void add(String key, int id) {
+            int state = 0;
+            for (int i = 0; i < key.length(); i++) {
+                int symbol = symbol(key.charAt(i));
+                if (symbol == NONE) {
+                    throw new IllegalArgumentException("Unsupported character in meta key: " + key);
+                }
+                int next = transitions[state * ALPHABET + symbol];
+                if (next == NONE) {
+                    next = nodes++;
+                    transitions = newRow(transitions, next);
+                    keyIds = Arrays.copyOf(keyIds, nodes);
+                    keyIds[next] = NONE;
+                    transitions[state * ALPHABET + symbol] = next;
+                }
+                state = next;
+            }
+            keyIds[state] = id;
+        }
+
+        private static int[] newRow(int[] table, int node) {
+            int[] grown = Arrays.copyOf(table, (node + 1) * ALPHABET);
+            Arrays.fill(grown, node * ALPHABET, grown.length, NONE);
+            return grown;
+        }
+
+        int[] transitions() {
+            return transitions;
+        }
+
+        int[] keyIds() {
+            return keyIds;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.linguaops.desktop.orders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps WooCommerce REST orders to {@link MappedOrder}s like the server's
+ * order-mapper.ts and orders-by-exam.ts. Meta entries of the order and its
+ * line items are matched against the known keys of {@link MetaField} with a
+ * {@link MetaKeyNormalizer}; only values of known keys are read, and for
+ * each field the value of its most preferred key wins.
+ */
+public final class OrderMapper {
+    private static final MetaKeyNormalizer KEYS = new MetaKeyNormalizer(MetaField.values());
+    private static final String[] LEVEL_ITEM_FIELDS = {"name", "sku", "description"};
+
+    private OrderMapper() {
+    }
+
+    public static List<MappedOrder> mapAll(JsonNode orders) {
+        List<MappedOrder> result = new ArrayList<>(orders.size());
+        for (JsonNode order : orders) {
+            result.add(map(order));
+        }
+        return result;
+    }
+
+    public static MappedOrder map(JsonNode order) {
+        // Latest value per known key, as the server's meta object keeps it
+        String[] meta = new String[KEYS.getKeyCount()];
+        addMeta(meta, order.path("meta_data"));
+        JsonNode lineItems = order.path("line_items");
+        for (JsonNode item : lineItems) {
+            addMeta(meta, item.path("meta_data"));
+        }
+
+        JsonNode billing = order.path("billing");
+        long id = order.path("id").asLong();
+        String number = text(order.get("number"));
+        if (number == null) number = String.valueOf(id);
+
+        String rawDate = field(meta, MetaField.EXAM_DATE);
+        LocalDate examDate = rawDate != null ? ExamDates.parse(rawDate) : null;
+        String examDateText = examDate != null ? ExamDates.format(examDate) : rawDate != null ? rawDate.trim() : "";
+
+        String paymentMethod = text(order.get("payment_method_title"));
+        if (paymentMethod == null) paymentMethod = text(order.get("payment_method"));
+
+        return new MappedOrder(
+            id,
+            number,
+            nameCase(billing.path("first_name").asText("")),
+            nameCase(billing.path("last_name").asText("")),
+            level(meta, lineItems),
+            examDate,
+            examDateText,
+            examPart(meta),
+            orEmpty(field(meta, MetaField.CERTIFICATE)),
+            orEmpty(text(order.get("date_created"))),
+            orEmpty(paymentMethod),
+            amount(text(order.get("total"))),
+            orEmpty(text(order.get("status"))));
+    }
+
+    private static void addMeta(String[] meta, JsonNode entries) {
+        for (JsonNode entry : entries) {
+            JsonNode rawValue = first(entry, "value", "display_value", "option");
+            String value = null;
+
+            JsonNode key = first(entry, "key", "name", "display_key");
+            int id = key != null ? KEYS.lookup(key.asText()) : -1;
+            if (id >= 0) {
+                value = coerce(rawValue);
+                meta[id] = value;
+            }
+            JsonNode displayKey = entry.get("display_key");
+            if (present(displayKey) && (id = KEYS.lookup(displayKey.asText())) >= 0) {
+                meta[id] = value != null ? value : coerce(rawValue);
+            }
+            // Option objects: {"label": "Prüfungsteil", "value": "nur mündlich"}
+            if (rawValue != null && rawValue.isObject() && present(rawValue.get("label"))
+                    && (id = KEYS.lookup(rawValue.get("label").asText())) >= 0) {
+                meta[id] = coerce(first(rawValue, "value", "display_value"));
+            }
+        }
+    }
+
+    // First non-empty value of the field's keys in order of preference
+    private static String field(String[] meta, MetaField field) {
+        for (int id : KEYS.getKeyIds(field)) {
+            String value = meta[id];
+            if (value != null && !value.isBlank()) return value;
+        }
+        return null;
+    }
+
+    private static ExamPart examPart(String[] meta) {
+        ExamPart part = scanPart(field(meta, MetaField.EXAM_PART));
+        if (part == null) part = scanPart(field(meta, MetaField.EXAM_KIND));
+        return part != null ? part : ExamPart.FULL;
+    }
+
+    private static ExamPart scanPart(String value) {
+        if (value == null) return null;
+        String lower = value.toLowerCase();
+        if (lower.contains("mündlich") || lower.contains("muendlich")) return ExamPart.ORAL_ONLY;
+        if (lower.contains("schriftlich")) return ExamPart.WRITTEN_ONLY;
+        return null;
+    }
+
+    // B1, B2 or C1 from the level meta, else from the line items' name, SKU or description
+    private static String level(String[] meta, JsonNode lineItems) {
+        String level = findLevel(field(meta, MetaField.LEVEL));
+        if (level != null) return level;
+        for (JsonNode item : lineItems) {
+            for (String name : LEVEL_ITEM_FIELDS) {
+                level = findLevel(text(item.get(name)));
+                if (level != null) return level;
+            }
+        }
+        return "";
+    }
+
+    private static String findLevel(String text) {
+        if (text == null) return null;
+        for (int i = 0; i + 1 < text.length(); i++) {
+            char letter = Character.toUpperCase(text.charAt(i));
+            char digit = text.charAt(i + 1);
+            if (!isWordChar(text, i - 1) && !isWordChar(text, i + 2)) {
+                if (letter == 'B' && digit == '1') return "B1";
+                if (letter == 'B' && digit == '2') return "B2";
+                if (letter == 'C' && digit == '1') return "C1";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isWordChar(String text, int index) {
+        if (index < 0 || index >= text.length()) return false;
+        char c = text.charAt(index);
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    // Display text of a meta value, like the server's coerce()
+    private static String coerce(JsonNode value) {
+        if (value == null || value.isNull() || value.isMissingNode()) return "";
+        if (value.isValueNode()) return value.asText();
+        if (value.isArray()) {
+            StringBuilder joined = new StringBuilder();
+            for (JsonNode element : value) {
+                String text = coerce(element);
+                if (text.isEmpty()) continue;
+                if (joined.length() > 0) joined.append(", ");
+                joined.append(text);
+            }
+            return joined.toString();
+        }
+        if (isTruthy(value.get("label"))) return value.get("label").asText();
+        if (isTruthy(value.get("value"))) return coerce(value.get("value"));
+        return value.toString();
+    }
+
+    private static boolean isTruthy(JsonNode node) {
+        if (!present(node)) return false;
+        if (node.isTextual()) return !node.asText().isEmpty();
+        if (node.isNumber()) return node.asDouble() != 0;
+        if (node.isBoolean()) return node.asBoolean();
+        return true;
+    }
+
+    private static JsonNode first(JsonNode node, String... names) {
+        for (String name : names) {
+            JsonNode value = node.get(name);
+            if (present(value)) return value;
+        }
+        return null;
+    }
+
+    private static boolean present(JsonNode node) {
+        return node != null && !node.isNull() && !node.isMissingNode();
+    }
+
+    private static String text(JsonNode node) {
+        return present(node) ? node.asText() : null;
+    }
+
+    private static String orEmpty(String text) {
+        return text != null ? text : "";
+    }
+
+    // "mÜLLER-lüdenscheidt" -> "Müller-Lüdenscheidt"
+    static String nameCase(String name) {
+        StringBuilder out = new StringBuilder(name.length());
+        boolean start = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean separator = Character.isWhitespace(c) || c == '-';
+            out.append(start && !separator ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            start = separator;
+        }
+        return out.toString();
+    }
+
+    // Order totals are plain decimal strings such as "129.00"
+    private static BigDecimal amount(String text) {
+        if (text == null || text.isEmpty()) return null;
+        boolean point = false;
+        boolean digit = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else if (c != '-' || i > 0) {
+                return null;
+            }
+        }
+        return digit ? new BigDecimal(text) : null;
+    }
+}
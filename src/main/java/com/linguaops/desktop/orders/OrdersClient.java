@@ -0,0 +1,94 @@
+package com.linguaops.desktop.orders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WooCommerce orders through the server's /api/orders endpoints, which hold
+ * the shop credentials and map the orders like the web app sees them.
+ * Calls block; use them off the FX thread.
+ */
+public class OrdersClient {
+    // The server fetches every order on its own; a long history takes a while
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    private final String apiBaseUrl;
+
+    public OrdersClient(String apiBaseUrl) {
+        this.apiBaseUrl = apiBaseUrl.endsWith("/") ? apiBaseUrl.substring(0, apiBaseUrl.length() - 1) : apiBaseUrl;
+    }
+
+    /** Orders created or changed in the shop after {@code since}, as the exam statistics count them. */
+    public List<ExamOrder> examOrdersModifiedSince(Instant since) throws IOException {
+        JsonNode response = post("/orders/recent-detailed", Map.of("modifiedSince", since.toString()));
+        List<ExamOrder> orders = new ArrayList<>();
+        for (JsonNode result : response.path("results")) {
+            orders.add(toExamOrder(result));
+        }
+        return orders;
+    }
+
+    /** One entry of the results of /api/orders/recent-detailed. */
+    static ExamOrder toExamOrder(JsonNode result) {
+        String examDate = result.path("examDate").asText("");
+        return new ExamOrder(
+            result.path("id").asLong(),
+            result.path("examKind").asText(""),
+            examDate.isBlank() ? null : ExamDates.parse(examDate),
+            part(result.path("examPart").asText("")),
+            total(result.path("price").asText("")),
+            result.path("status").asText(""));
+    }
+
+    private static ExamPart part(String label) {
+        for (ExamPart part : ExamPart.values()) {
+            if (part.getLabel().equals(label)) return part;
+        }
+        return null;
+    }
+
+    // Totals are plain decimal strings such as "129.00"; an empty one counts as no revenue
+    private static BigDecimal total(String price) {
+        try {
+            return price.isBlank() ? null : new BigDecimal(price.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private JsonNode post(String path, Object body) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiBaseUrl + path))
+            .header("Content-Type", "application/json")
+            .timeout(REQUEST_TIMEOUT)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        }
+        JsonNode json = response.body().length > 0 ? objectMapper.readTree(response.body()) : objectMapper.createObjectNode();
+        if (response.statusCode() != 200) {
+            throw new IOException(json.path("message").asText("Orders request failed with " + response.statusCode()));
+        }
+        return json;
+    }
+}
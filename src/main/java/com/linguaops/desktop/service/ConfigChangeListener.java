@@ -0,0 +1,16 @@
+package com.linguaops.desktop.service;
+
+/**
+ * Listener for changes of a single configuration key.
+ * Notifications are delivered on the JavaFX Application Thread, after
+ * all changes made since the previous pulse have been coalesced.
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called when the value stored under {@code key} has changed.
+     * Either value may be {@code null} if the key was added or removed.
+     */
+    void configChanged(String key, Object oldValue, Object newValue);
+}
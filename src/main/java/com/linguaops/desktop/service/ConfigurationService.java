@@ -2,38 +2,87 @@ package com.linguaops.desktop.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.util.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public class ConfigurationService {
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationService.class);
     private static final String CONFIG_DIR = System.getProperty("user.home") + "/.linguaops";
     private static final String CONFIG_FILE = "config.json";
-    
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long SAVE_DEBOUNCE_MS = 500;
+    private static final long RELOAD_DEBOUNCE_MS = 200;
+
     private final ObjectMapper objectMapper;
-    private Map<String, Object> config;
+    private final Map<String, Object> config;
     private final Path configPath;
 
+    // Write-behind: setters only mark the config dirty, a single background
+    // writer persists the coalesced state after SAVE_DEBOUNCE_MS of quiet
+    private final ScheduledExecutorService writer;
+    private final Object saveLock = new Object();
+    private ScheduledFuture<?> pendingSave;
+
+    // Last state known to be on disk; the common base for merging external edits
+    private Map<String, Object> persisted = Collections.emptyMap();
+    private WatchService watchService;
+    private ScheduledFuture<?> pendingReload;
+
+    // Observed keys: one FX-thread-owned property per key that someone has
+    // bound to. Changed keys are collected and delivered in one runLater.
+    private final Map<String, ReadOnlyObjectWrapper<Object>> observedKeys = new ConcurrentHashMap<>();
+    private final Set<String> pendingChanges = new LinkedHashSet<>();
+    private boolean deliveryScheduled;
+
     public ConfigurationService() {
         this.objectMapper = new ObjectMapper();
         this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
         this.configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
-        this.config = new HashMap<>();
+        this.config = new ConcurrentHashMap<>();
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "config-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public void initialize() {
         try {
             // Create config directory if it doesn't exist
             Files.createDirectories(Paths.get(CONFIG_DIR));
-            
+
             // Load existing config or create default
             if (Files.exists(configPath)) {
                 loadConfig();
@@ -41,7 +90,7 @@ public class ConfigurationService {
                 createDefaultConfig();
                 save();
             }
-            
+
             logger.info("Configuration service initialized");
         } catch (Exception e) {
             logger.error("Failed to initialize configuration service", e);
@@ -49,8 +98,16 @@ public class ConfigurationService {
         }
     }
 
+    @SuppressWarnings("unchecked")
     private void loadConfig() throws IOException {
-        config = objectMapper.readValue(configPath.toFile(), Map.class);
+        Map<String, Object> loaded = objectMapper.readValue(configPath.toFile(), Map.class);
+        config.clear();
+        loaded.forEach((key, value) -> {
+            if (value != null) {
+                config.put(key, value);
+            }
+        });
+        persisted = new TreeMap<>(config);
         logger.debug("Configuration loaded from {}", configPath);
     }
 
@@ -63,22 +120,323 @@ public class ConfigurationService {
         config.put("apiBaseUrl", "http://localhost:8080/api");
         config.put("ordersWebsiteUrl", "");
         config.put("currentUserName", "User");
-        
+
         logger.debug("Default configuration created");
     }
 
+    /**
+     * Writes the current configuration immediately, cancelling any pending
+     * background save. Prefer letting setters schedule the write; call this
+     * only where the caller must know the file is on disk (e.g. on exit).
+     */
     public void save() {
+        synchronized (saveLock) {
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+                pendingSave = null;
+            }
+        }
+        writeToDisk();
+    }
+
+    /**
+     * Flushes pending changes and stops the background writer.
+     */
+    public void shutdown() {
+        stopWatching();
+        save();
+        writer.shutdown();
+    }
+
+    /**
+     * Starts merging external edits of config.json into the running
+     * configuration. Pushed config files replace config.json, so the whole
+     * directory is watched. Not needed for the first frame, so it is started
+     * as a deferred service.
+     */
+    public void startWatching() {
+        try {
+            watchService = configPath.getFileSystem().newWatchService();
+            configPath.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.warn("Could not watch configuration directory, external changes need a restart", e);
+            watchService = null;
+            return;
+        }
+
+        Thread watcher = new Thread(this::watchLoop, "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.debug("Watching {} for external changes", configPath.getParent());
+    }
+
+    private void stopWatching() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Could not close configuration watcher", e);
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean touched = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || configPath.getFileName().equals(event.context())) {
+                        touched = true;
+                    }
+                }
+                if (touched) {
+                    scheduleReload();
+                }
+                if (!key.reset()) {
+                    logger.warn("Configuration directory is no longer watchable");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Service shut down
+        }
+    }
+
+    private void scheduleReload() {
+        synchronized (saveLock) {
+            if (pendingReload != null) {
+                pendingReload.cancel(false);
+            }
+            if (writer.isShutdown()) return;
+            // Runs on the writer thread, so reloads never interleave with saves
+            pendingReload = writer.schedule(this::mergeExternalChanges, RELOAD_DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Three-way merge of config.json into memory, using the last persisted
+     * state as the base. Keys changed only on disk are applied; keys changed
+     * only locally are kept for the next save. When both sides changed a key
+     * to different values, the file wins, as it is how rollouts are pushed.
+     */
+    private synchronized void mergeExternalChanges() {
+        Map<String, Object> disk = readDisk();
+        if (disk == null || disk.equals(persisted)) return;
+
+        Set<String> keys = new LinkedHashSet<>(persisted.keySet());
+        keys.addAll(disk.keySet());
+
+        int applied = 0;
+        for (String key : keys) {
+            Object base = persisted.get(key);
+            Object external = disk.get(key);
+            if (Objects.equals(base, external)) continue;
+
+            Object local = config.get(key);
+            if (!Objects.equals(local, base) && !Objects.equals(local, external)) {
+                logger.warn("Configuration conflict on '{}': local value {} replaced by external value {}",
+                    key, local, external);
+            }
+            if (store(key, external)) {
+                applied++;
+            }
+        }
+        persisted = disk;
+
+        if (applied > 0) {
+            logger.info("Applied {} external configuration change(s) from {}", applied, configPath);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readDisk() {
+        if (!Files.exists(configPath)) return null;
+        try {
+            Map<String, Object> loaded = objectMapper.readValue(configPath.toFile(), Map.class);
+            Map<String, Object> disk = new TreeMap<>();
+            loaded.forEach((key, value) -> {
+                if (value != null) {
+                    disk.put(key, value);
+                }
+            });
+            return disk;
+        } catch (IOException e) {
+            // Possibly caught mid-write by a non-atomic writer; the next event retries
+            logger.debug("Could not read configuration from {}", configPath, e);
+            return null;
+        }
+    }
+
+    private void scheduleSave() {
+        synchronized (saveLock) {
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+            }
+            if (writer.isShutdown()) {
+                pendingSave = null;
+                return;
+            }
+            pendingSave = writer.schedule(this::writeToDisk, SAVE_DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Temp file + fsync + atomic rename, so a crash leaves either the old or
+    // the new config on disk, never a truncated one
+    private synchronized void writeToDisk() {
+        // Never clobber an external edit that has not been picked up yet
+        mergeExternalChanges();
+
+        Map<String, Object> snapshot = new TreeMap<>(config);
+        if (snapshot.equals(persisted) && Files.exists(configPath)) return;
+
         try {
-            objectMapper.writeValue(configPath.toFile(), config);
+            writeAtomically(configPath, objectMapper.writeValueAsBytes(snapshot));
+            persisted = snapshot;
             logger.debug("Configuration saved to {}", configPath);
         } catch (IOException e) {
             logger.error("Failed to save configuration", e);
         }
     }
 
+    /**
+     * Replaces {@code target} with {@code bytes} through a synced temp file
+     * next to it, so a crash leaves either the old or the new file.
+     */
+    static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path tempPath = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempPath, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(tempPath);
+            } catch (IOException ignored) {
+                // Leftover temp file is overwritten by the next save
+            }
+            throw e;
+        }
+    }
+
+    private void put(String key, Object value) {
+        if (store(key, value)) {
+            scheduleSave();
+        }
+    }
+
+    private boolean store(String key, Object value) {
+        Object previous = value == null ? config.remove(key) : config.put(key, value);
+        if (Objects.equals(previous, value)) return false;
+
+        queueChange(key);
+        return true;
+    }
+
+    private void queueChange(String key) {
+        if (!observedKeys.containsKey(key)) return;
+
+        synchronized (pendingChanges) {
+            pendingChanges.add(key);
+            if (deliveryScheduled) return;
+            deliveryScheduled = true;
+        }
+
+        try {
+            Platform.runLater(this::deliverChanges);
+        } catch (IllegalStateException e) {
+            // FX toolkit not running (e.g. during early init): nothing is on screen yet
+            deliverChanges();
+        }
+    }
+
+    private void deliverChanges() {
+        Set<String> keys;
+        synchronized (pendingChanges) {
+            keys = new LinkedHashSet<>(pendingChanges);
+            pendingChanges.clear();
+            deliveryScheduled = false;
+        }
+
+        // Only keys that actually differ from what observers last saw fire
+        for (String key : keys) {
+            ReadOnlyObjectWrapper<Object> property = observedKeys.get(key);
+            Object value = config.get(key);
+            if (property != null && !Objects.equals(property.get(), value)) {
+                property.set(value);
+            }
+        }
+    }
+
+    private ReadOnlyObjectWrapper<Object> observedKey(String key) {
+        return observedKeys.computeIfAbsent(key, k -> new ReadOnlyObjectWrapper<>(this, k, config.get(k)));
+    }
+
+    // Observable settings
+    /**
+     * Returns a typed, observable view of a configuration key. Values that are
+     * missing or of another type read as {@code defaultValue}. The returned
+     * value only holds a weak reference from the service, so callers must
+     * keep it (or a binding to it) reachable for as long as they observe it.
+     */
+    public <T> ObservableValue<T> observe(String key, Class<T> type, T defaultValue) {
+        ReadOnlyObjectWrapper<Object> property = observedKey(key);
+        return Bindings.createObjectBinding(() -> coerce(property.get(), type, defaultValue),
+            property.getReadOnlyProperty());
+    }
+
+    public ObservableValue<String> observeString(String key, String defaultValue) {
+        return observe(key, String.class, defaultValue);
+    }
+
+    public ObservableValue<Integer> observeInt(String key, int defaultValue) {
+        return observe(key, Integer.class, defaultValue);
+    }
+
+    public ObservableValue<Boolean> observeBoolean(String key, boolean defaultValue) {
+        return observe(key, Boolean.class, defaultValue);
+    }
+
+    /**
+     * Subscribes to changes of a single key. The listener is held strongly
+     * until the returned subscription is unsubscribed.
+     */
+    public Subscription subscribe(String key, ConfigChangeListener listener) {
+        ReadOnlyObjectWrapper<Object> property = observedKey(key);
+        ChangeListener<Object> adapter = (obs, oldValue, newValue) -> listener.configChanged(key, oldValue, newValue);
+        property.getReadOnlyProperty().addListener(adapter);
+        return () -> property.getReadOnlyProperty().removeListener(adapter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T coerce(Object value, Class<T> type, T defaultValue) {
+        if (type.isInstance(value)) {
+            return (T) value;
+        }
+        if (type == Integer.class && value instanceof Number) {
+            return (T) Integer.valueOf(((Number) value).intValue());
+        }
+        return defaultValue;
+    }
+
     // Generic getters and setters
     public String getString(String key, String defaultValue) {
-        return (String) config.getOrDefault(key, defaultValue);
+        Object value = config.get(key);
+        return value instanceof String ? (String) value : defaultValue;
     }
 
     public int getInt(String key, int defaultValue) {
@@ -92,29 +450,32 @@ public class ConfigurationService {
     }
 
     public void setString(String key, String value) {
-        config.put(key, value);
+        put(key, value);
     }
 
     public void setInt(String key, int value) {
-        config.put(key, value);
+        put(key, value);
     }
 
     public void setBoolean(String key, boolean value) {
-        config.put(key, value);
+        put(key, value);
     }
 
     // Convenience methods for common settings
     public String getLanguage() { return getString("language", "de"); }
     public void setLanguage(String language) { setString("language", language); }
+    public ObservableValue<String> languageProperty() { return observeString("language", "de"); }
 
     public String getTheme() { return getString("theme", "dark"); }
     public void setTheme(String theme) { setString("theme", theme); }
+    public ObservableValue<String> themeProperty() { return observeString("theme", "dark"); }
 
     public String getApiBaseUrl() { return getString("apiBaseUrl", "http://localhost:8080/api"); }
     public void setApiBaseUrl(String url) { setString("apiBaseUrl", url); }
 
     public String getOrdersWebsiteUrl() { return getString("ordersWebsiteUrl", ""); }
     public void setOrdersWebsiteUrl(String url) { setString("ordersWebsiteUrl", url); }
+    public ObservableValue<String> ordersWebsiteUrlProperty() { return observeString("ordersWebsiteUrl", ""); }
 
     public String getCurrentUserName() { return getString("currentUserName", "User"); }
     public void setCurrentUserName(String name) { setString("currentUserName", name); }
@@ -133,6 +494,6 @@ public class ConfigurationService {
     }
 
     public void setProperty(String key, Object value) {
-        config.put(key, value);
+        put(key, value);
     }
 }
@@ -0,0 +1,235 @@
+package com.linguaops.desktop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linguaops.desktop.LinguaOpsApplication;
+import com.linguaops.desktop.orders.ExamAggregation;
+import com.linguaops.desktop.orders.ExamOrder;
+import com.linguaops.desktop.orders.ExamPart;
+import com.linguaops.desktop.orders.OrdersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exam statistics for the Exams page. Every few minutes (the
+ * "examStatisticsSyncMinutes" setting) the orders changed in the shop since
+ * the last sync are fetched through the server and folded into an
+ * {@link ExamAggregation}; the first sync goes back
+ * "examStatisticsHistoryDays". The per-order contributions are saved to
+ * {@code ~/.linguaops/exam-statistics.json} with the time of the last sync,
+ * so the page has its numbers at startup without going through the order
+ * history again. Orders moved to the shop's trash are not reported by it
+ * and keep counting as they were.
+ */
+public class ExamStatisticsService {
+    private static final Logger logger = LoggerFactory.getLogger(ExamStatisticsService.class);
+
+    private static final Path STATISTICS_FILE = Paths.get(System.getProperty("user.home"), ".linguaops", "exam-statistics.json");
+    private static final long SAVE_DELAY_MS = 2000;
+    // Orders changed this close before a sync may be missing from it (shop clock, slow writes)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(5);
+
+    /** One order's contribution; serialized to exam-statistics.json. */
+    public static class Contribution {
+        public long id;
+        public String kind;
+        public String examDate;
+        public String part;
+        public long totalCents;
+        public String status;
+    }
+
+    /** Contents of exam-statistics.json. */
+    public static class Statistics {
+        /** Orders changed before this instant are included; {@code null} before the first sync. */
+        public String syncedAt;
+        public List<Contribution> orders = new ArrayList<>();
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExamAggregation aggregation = new ExamAggregation();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    // Syncs and saves; one thread, so a save never overlaps a sync
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "exam-statistics");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> pendingSave;
+    private boolean unsaved;
+    private Instant syncedAt;
+
+    public void initialize() {
+        long start = System.nanoTime();
+        List<ExamOrder> orders = load();
+        aggregation.applyAll(orders);
+        logger.info("Exam statistics initialized with {} orders in {} exams in {} ms", orders.size(),
+            aggregation.getSummaries().size(), (System.nanoTime() - start) / 1_000_000);
+        notifyListeners();
+
+        ConfigurationService config = LinguaOpsApplication.getInstance().getConfigService();
+        long minutes = Math.max(1, config.getInt("examStatisticsSyncMinutes", 15));
+        worker.scheduleWithFixedDelay(this::syncQuietly, 0, minutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Fetches the orders changed since the last sync and folds them in.
+     * Blocks; runs on the worker thread.
+     */
+    private void sync() throws IOException {
+        ConfigurationService config = LinguaOpsApplication.getInstance().getConfigService();
+        Instant started = Instant.now();
+        Instant since;
+        synchronized (this) {
+            since = syncedAt != null
+                ? syncedAt
+                : started.minus(Duration.ofDays(Math.max(1, config.getInt("examStatisticsHistoryDays", 365))));
+        }
+        List<ExamOrder> changed = new OrdersClient(config.getApiBaseUrl()).examOrdersModifiedSince(since);
+        synchronized (this) {
+            syncedAt = started.minus(SYNC_OVERLAP);
+        }
+        update(changed, List.of());
+        // The new sync time is worth saving even if no order changed
+        scheduleSave();
+        logger.debug("Exam statistics synced {} orders changed since {}", changed.size(), since);
+    }
+
+    /**
+     * Folds synced order changes into the statistics: {@code changed} holds
+     * new and updated orders, {@code removedIds} orders that are gone.
+     */
+    public void update(Collection<ExamOrder> changed, Collection<Long> removedIds) {
+        if (changed.isEmpty() && removedIds.isEmpty()) return;
+        boolean any = aggregation.applyAll(changed);
+        for (long id : removedIds) {
+            any |= aggregation.remove(id);
+        }
+        // Uncounted orders are saved too, they may count after their next change
+        scheduleSave();
+        if (any) notifyListeners();
+    }
+
+    public List<ExamAggregation.ExamSummary> getSummaries() {
+        return aggregation.getSummaries();
+    }
+
+    public ExamAggregation.ExamSummary getSummary(String kind, LocalDate date) {
+        return aggregation.getSummary(kind, date);
+    }
+
+    /** Called on a background thread after the summaries changed. */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /** Writes pending changes and stops the writer thread. */
+    public void shutdown() {
+        synchronized (this) {
+            if (pendingSave != null) pendingSave.cancel(false);
+        }
+        worker.shutdown();
+        save();
+    }
+
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warn("Exam statistics listener failed", e);
+            }
+        }
+    }
+
+    // Saves at most once per SAVE_DELAY_MS while orders keep coming in
+    private synchronized void scheduleSave() {
+        unsaved = true;
+        if (pendingSave != null && !pendingSave.isDone()) return;
+        pendingSave = worker.schedule(this::save, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException | RuntimeException e) {
+            // Keep the schedule; the next sync asks for everything since the last good one
+            logger.warn("Exam statistics sync failed: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void save() {
+        if (!unsaved) return;
+        unsaved = false;
+        Statistics statistics = new Statistics();
+        statistics.syncedAt = syncedAt != null ? syncedAt.toString() : null;
+        for (ExamOrder order : aggregation.getOrders()) {
+            statistics.orders.add(toContribution(order));
+        }
+        try {
+            Files.createDirectories(STATISTICS_FILE.getParent());
+            ConfigurationService.writeAtomically(STATISTICS_FILE, objectMapper.writeValueAsBytes(statistics));
+        } catch (IOException e) {
+            logger.warn("Could not save exam statistics", e);
+        }
+    }
+
+    private List<ExamOrder> load() {
+        List<ExamOrder> orders = new ArrayList<>();
+        if (!Files.exists(STATISTICS_FILE)) return orders;
+        try (InputStream in = Files.newInputStream(STATISTICS_FILE)) {
+            Statistics statistics = objectMapper.readValue(in, Statistics.class);
+            for (Contribution contribution : statistics.orders) {
+                orders.add(toOrder(contribution));
+            }
+            synchronized (this) {
+                syncedAt = statistics.syncedAt != null ? Instant.parse(statistics.syncedAt) : null;
+            }
+        } catch (IOException | DateTimeParseException | IllegalArgumentException e) {
+            logger.warn("Exam statistics are unreadable, starting empty", e);
+            orders.clear();
+        }
+        return orders;
+    }
+
+    private static Contribution toContribution(ExamOrder order) {
+        Contribution contribution = new Contribution();
+        contribution.id = order.id();
+        contribution.kind = order.kind();
+        contribution.examDate = order.examDate() != null ? order.examDate().toString() : null;
+        contribution.part = order.part() != null ? order.part().name() : null;
+        contribution.totalCents = ExamAggregation.cents(order.total());
+        contribution.status = order.status();
+        return contribution;
+    }
+
+    private static ExamOrder toOrder(Contribution contribution) {
+        return new ExamOrder(contribution.id, contribution.kind,
+            contribution.examDate != null ? LocalDate.parse(contribution.examDate) : null,
+            contribution.part != null ? ExamPart.valueOf(contribution.part) : null,
+            BigDecimal.valueOf(contribution.totalCents, 2), contribution.status);
+    }
+}
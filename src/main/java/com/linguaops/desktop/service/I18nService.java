@@ -2,42 +2,81 @@ package com.linguaops.desktop.service;
 
 import com.linguaops.desktop.LinguaOpsApplication;
 import com.linguaops.desktop.controller.I18nController;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.value.ObservableValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Currency;
 import java.util.Locale;
-import java.util.Map;
 import java.util.ResourceBundle;
 
 public class I18nService {
     private static final Logger logger = LoggerFactory.getLogger(I18nService.class);
     
+    // Dense message tables indexed by MessageKey ordinal, one per language
+    private static final String[][] COMPILED_TABLES = compileTables();
+
+    private static final Currency EURO = Currency.getInstance("EUR");
+
     private ResourceBundle bundle;
     private String currentLanguage;
-    private final Map<String, String> fallbackTranslations;
+    private Locale locale = Locale.GERMAN;
+    private volatile String[] messages = COMPILED_TABLES[MessageKey.languageIndex("de")];
+
+    // One observable text per key, created on first bind; a language switch
+    // updates each distinct key once and bound labels follow on their own
+    private final ReadOnlyStringWrapper[] textProperties = new ReadOnlyStringWrapper[MessageKey.values().length];
+
+    // Parsed templates per language, compiled on the first switch to it
+    private final MessageTemplate[][] templateCache = new MessageTemplate[MessageKey.LANGUAGES.length][];
+    private volatile MessageTemplate[] templates = compiledTemplates("de", messages);
 
-    public I18nService() {
-        this.fallbackTranslations = createFallbackTranslations();
+    private static String[][] compileTables() {
+        MessageKey[] keys = MessageKey.values();
+        String[][] tables = new String[MessageKey.LANGUAGES.length][keys.length];
+        for (int language = 0; language < tables.length; language++) {
+            for (MessageKey key : keys) {
+                tables[language][key.ordinal()] = key.getTranslation(language);
+            }
+        }
+        return tables;
     }
 
     public void initialize() {
         ConfigurationService configService = LinguaOpsApplication.getInstance().getConfigService();
         setLanguage(configService.getLanguage());
+
+        // Follow language changes pushed through config.json
+        configService.subscribe("language", (key, oldValue, newValue) -> {
+            if (newValue instanceof String && !newValue.equals(currentLanguage)) {
+                setLanguage((String) newValue);
+            }
+        });
         logger.info("I18n service initialized with language: {}", currentLanguage);
     }
 
     public void setLanguage(String language) {
         this.currentLanguage = language;
+        this.locale = "de".equals(language) ? Locale.GERMAN : Locale.ENGLISH;
         
         try {
-            Locale locale = "de".equals(language) ? Locale.GERMAN : Locale.ENGLISH;
             this.bundle = ResourceBundle.getBundle("i18n.messages", locale);
             logger.debug("Language set to: {}", language);
         } catch (Exception e) {
             logger.warn("Could not load resource bundle for language: {}, using fallback", language, e);
             this.bundle = null;
         }
+
+        this.messages = buildMessageTable(language, bundle);
+        this.templates = compiledTemplates(language, messages);
+        relocalize();
         
         // Save to config
         LinguaOpsApplication.getInstance().getConfigService().setLanguage(language);
@@ -47,11 +86,124 @@ public class I18nService {
         return currentLanguage;
     }
 
+    // Bundle entries override compiled translations; merged once per switch
+    private static String[] buildMessageTable(String language, ResourceBundle bundle) {
+        String[] compiled = COMPILED_TABLES[MessageKey.languageIndex(language)];
+        if (bundle == null) {
+            return compiled;
+        }
+
+        String[] table = compiled.clone();
+        for (MessageKey key : MessageKey.values()) {
+            if (bundle.containsKey(key.getKey())) {
+                table[key.ordinal()] = bundle.getString(key.getKey());
+            }
+        }
+        return table;
+    }
+
+    private synchronized MessageTemplate[] compiledTemplates(String language, String[] table) {
+        int languageIndex = MessageKey.languageIndex(language);
+        MessageTemplate[] compiled = templateCache[languageIndex];
+        if (compiled == null) {
+            compiled = new MessageTemplate[table.length];
+            for (int i = 0; i < table.length; i++) {
+                // Plain texts need no template; format() appends them as-is
+                if (table[i].indexOf('{') >= 0) {
+                    compiled[i] = MessageTemplate.compile(table[i]);
+                }
+            }
+            templateCache[languageIndex] = compiled;
+        }
+        return compiled;
+    }
+
+    public String getText(MessageKey key) {
+        return messages[key.ordinal()];
+    }
+
+    /**
+     * {@code amount} in euros, grouped and with the sign placed the way the
+     * current language writes money: "1.234,50 €", "€1,234.50".
+     */
+    public String formatEuros(BigDecimal amount) {
+        NumberFormat format = NumberFormat.getCurrencyInstance(locale);
+        format.setCurrency(EURO);
+        return format.format(amount);
+    }
+
+    public String format(MessageKey key, Object... args) {
+        return format(new StringBuilder(), key, args).toString();
+    }
+
+    /**
+     * Appends the formatted message to {@code out}, which callers updating
+     * a label at high frequency can clear and reuse between calls.
+     */
+    public StringBuilder format(StringBuilder out, MessageKey key, Object... args) {
+        MessageTemplate template = templates[key.ordinal()];
+        return template != null ? template.appendTo(out, args) : out.append(messages[key.ordinal()]);
+    }
+
+    public StringBuilder format(StringBuilder out, MessageKey key, long number) {
+        MessageTemplate template = templates[key.ordinal()];
+        return template != null ? template.appendTo(out, number) : out.append(messages[key.ordinal()]);
+    }
+
+    /**
+     * Formatted text that follows both the language and {@code argument}.
+     */
+    public StringBinding formatBinding(MessageKey key, ObservableValue<?> argument) {
+        return Bindings.createStringBinding(() -> format(key, argument.getValue()), textProperty(key), argument);
+    }
+
+    /**
+     * Observable text for {@code key} in the current language. Nodes bound to
+     * it are updated on language switches without their controllers having
+     * to re-run {@code updateTexts()}. Values change on the FX thread; pages
+     * built in the background re-bind once they are attached.
+     */
+    public synchronized ReadOnlyStringProperty textProperty(MessageKey key) {
+        ReadOnlyStringWrapper property = textProperties[key.ordinal()];
+        if (property == null) {
+            property = new ReadOnlyStringWrapper(this, key.getKey(), getText(key));
+            textProperties[key.ordinal()] = property;
+        }
+        return property.getReadOnlyProperty();
+    }
+
+    private void relocalize() {
+        if (!Platform.isFxApplicationThread()) {
+            try {
+                Platform.runLater(this::relocalize);
+                return;
+            } catch (IllegalStateException e) {
+                // FX toolkit not running yet, so nothing can be bound
+            }
+        }
+
+        long start = System.nanoTime();
+        String[] table = messages;
+        int updated = 0;
+        for (int i = 0; i < textProperties.length; i++) {
+            if (textProperties[i] != null) {
+                textProperties[i].set(table[i]);
+                updated++;
+            }
+        }
+        logger.debug("Relocalized {} bound message(s) in {} µs", updated, (System.nanoTime() - start) / 1000);
+    }
+
     public String getText(String key) {
         return getText(key, key);
     }
 
     public String getText(String key, String fallback) {
+        MessageKey messageKey = MessageKey.fromKey(key);
+        if (messageKey != null) {
+            return getText(messageKey);
+        }
+
         try {
             if (bundle != null && bundle.containsKey(key)) {
                 return bundle.getString(key);
@@ -59,13 +211,7 @@ public class I18nService {
         } catch (Exception e) {
             logger.debug("Could not get translation for key: {}", key, e);
         }
-        
-        // Try fallback translations
-        String fallbackValue = fallbackTranslations.get(key + "_" + currentLanguage);
-        if (fallbackValue != null) {
-            return fallbackValue;
-        }
-        
+
         return fallback;
     }
 
@@ -74,72 +220,4 @@ public class I18nService {
             controller.updateTexts();
         }
     }
-
-    private Map<String, String> createFallbackTranslations() {
-        Map<String, String> translations = new HashMap<>();
-        
-        // Navigation
-        translations.put("home_de", "Start");
-        translations.put("home_en", "Home");
-        translations.put("history_de", "Verlauf");
-        translations.put("history_en", "History");
-        translations.put("settings_de", "Einstellungen");
-        translations.put("settings_en", "Settings");
-        translations.put("orders_de", "Bestellungen");
-        translations.put("orders_en", "Orders");
-        translations.put("telcArea_de", "telc Bereich");
-        translations.put("telcArea_en", "Telc Area");
-        translations.put("manageParticipants_de", "Teilnehmer verwalten");
-        translations.put("manageParticipants_en", "Manage Participants");
-        translations.put("exams_de", "Prüfungen");
-        translations.put("exams_en", "Exams");
-        translations.put("needsAttention_de", "Braucht Aufmerksamkeit");
-        translations.put("needsAttention_en", "Needs Attention");
-        
-        // Buttons and Actions
-        translations.put("newOrders_de", "Neue Bestellungen");
-        translations.put("newOrders_en", "New Orders");
-        translations.put("searchOrders_de", "Bestellungen suchen");
-        translations.put("searchOrders_en", "Search Orders");
-        translations.put("export_de", "Exportieren");
-        translations.put("export_en", "Export");
-        translations.put("openWebsite_de", "Website öffnen");
-        translations.put("openWebsite_en", "Open Website");
-        translations.put("back_de", "Zurück");
-        translations.put("back_en", "Back");
-        translations.put("notifications_de", "Mitteilungen");
-        translations.put("notifications_en", "Notifications");
-        translations.put("light_de", "Hell");
-        translations.put("light_en", "Light");
-        translations.put("dark_de", "Dunkel");
-        translations.put("dark_en", "Dark");
-        
-        // Form and Dialog
-        translations.put("addPerson_de", "Person hinzufügen");
-        translations.put("addPerson_en", "Add Person");
-        translations.put("orderNumber_de", "Bestellnummer");
-        translations.put("orderNumber_en", "Order Number");
-        translations.put("lastName_de", "Nachname");
-        translations.put("lastName_en", "Last name");
-        translations.put("firstName_de", "Vorname");
-        translations.put("firstName_en", "First name");
-        translations.put("email_de", "Email");
-        translations.put("email_en", "Email");
-        translations.put("phone_de", "Tel.Nr.");
-        translations.put("phone_en", "Phone");
-        translations.put("save_de", "Speichern");
-        translations.put("save_en", "Save");
-        translations.put("cancel_de", "Abbrechen");
-        translations.put("cancel_en", "Cancel");
-        
-        // Messages
-        translations.put("loading_de", "Laden...");
-        translations.put("loading_en", "Loading...");
-        translations.put("error_de", "Fehler");
-        translations.put("error_en", "Error");
-        translations.put("success_de", "Erfolgreich");
-        translations.put("success_en", "Success");
-        
-        return translations;
-    }
 }
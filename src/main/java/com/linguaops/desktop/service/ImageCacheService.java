@@ -0,0 +1,391 @@
+package com.linguaops.desktop.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javafx.scene.image.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Central registry for images: remote ones such as the home page hero image
+ * and classpath assets such as icons.
+ * Downloaded bytes are kept in a content-addressed store under
+ * {@code ~/.linguaops/image-cache} and revalidated with ETag/Last-Modified
+ * once they are older than {@link #REVALIDATE_AFTER}. Images are decoded
+ * once per displayed size (times the screen's output scale, so they stay
+ * sharp on HiDPI screens) and the shared instances are kept in memory,
+ * least recently used first, within a byte budget. Returning to a page
+ * shows its images without decoding or touching disk or network.
+ */
+public class ImageCacheService {
+    private static final Logger logger = LoggerFactory.getLogger(ImageCacheService.class);
+
+    private static final Path CACHE_DIR = Paths.get(System.getProperty("user.home"), ".linguaops", "image-cache");
+    private static final String INDEX_FILE = "index.json";
+    private static final Duration REVALIDATE_AFTER = Duration.ofHours(12);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(20);
+    private static final long DEFAULT_MEMORY_BUDGET = 32L * 1024 * 1024;
+    private static final long DISK_BUDGET = 64L * 1024 * 1024;
+
+    /** Index entry for one URL; serialized to index.json. */
+    public static class Entry {
+        public String sha256;
+        public String etag;
+        public String lastModified;
+        public long fetchedAt;
+        public long size;
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    // Disk index and blob store are only touched on this thread
+    private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "image-cache");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Map<String, Entry> index = new LinkedHashMap<>();
+    private boolean indexLoaded;
+
+    // Decoded images, least recently used first
+    private final LinkedHashMap<String, Image> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private volatile long memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+    // Coalesces concurrent requests for the same URL and size
+    private final Map<String, CompletableFuture<Image>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> missingResources = ConcurrentHashMap.newKeySet();
+    private volatile double outputScale = 1.0;
+
+    public void initialize() {
+        io.submit(this::loadIndex);
+        logger.info("Image cache service initialized");
+    }
+
+    public void setMemoryBudget(long bytes) {
+        memoryBudget = bytes;
+        synchronized (memory) {
+            trimMemory();
+        }
+    }
+
+    /**
+     * Render scale of the window (2.0 on a typical HiDPI screen). Images
+     * requested afterwards are decoded with that many pixels per point.
+     */
+    public void setOutputScale(double scale) {
+        outputScale = Math.max(1.0, scale);
+    }
+
+    /**
+     * The decoded image for {@code url} if it is in memory, otherwise
+     * {@code null}. Never blocks; use it to show images on page return.
+     * A width or height of 0 means the image's own size in that dimension.
+     */
+    public Image getIfPresent(String url, double width, double height) {
+        synchronized (memory) {
+            return memory.get(key(url, width, height));
+        }
+    }
+
+    /**
+     * Loads {@code url} from memory, disk or network, in that order, decoded
+     * to fit {@code width} x {@code height} points with its aspect ratio
+     * kept. The future completes on a background thread; callers hop to the
+     * FX thread themselves. A disk copy is used right away even when it is
+     * due for revalidation; a changed image is picked up on the next load.
+     */
+    public CompletableFuture<Image> load(String url, double width, double height) {
+        String key = key(url, width, height);
+        Image cached = getIfPresent(url, width, height);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        Size size = new Size(width, height, outputScale);
+        return inFlight.computeIfAbsent(key, k -> CompletableFuture
+            .supplyAsync(() -> loadFromDisk(url, key, size), io)
+            .thenCompose(image -> image != null ? CompletableFuture.completedFuture(image) : download(url, key, size, null))
+            .whenComplete((image, error) -> inFlight.remove(k)));
+    }
+
+    /**
+     * A classpath image such as an icon, decoded once at the given size and
+     * shared by everyone asking for it; {@code null} if there is no such
+     * resource. Small assets are decoded synchronously on the calling thread.
+     */
+    public Image getResource(String path, double width, double height) {
+        String key = key("classpath:" + path, width, height);
+        synchronized (memory) {
+            Image cached = memory.get(key);
+            if (cached != null) return cached;
+        }
+        if (missingResources.contains(path)) return null;
+
+        try (InputStream in = ImageCacheService.class.getResourceAsStream(path)) {
+            if (in == null) {
+                missingResources.add(path);
+                logger.debug("Image resource {} not found", path);
+                return null;
+            }
+            Image image = decode(path, in, new Size(width, height, outputScale));
+            if (image != null) {
+                remember(key, image);
+            }
+            return image;
+        } catch (IOException e) {
+            logger.debug("Could not read image resource {}", path, e);
+            return null;
+        }
+    }
+
+    public void shutdown() {
+        io.shutdown();
+    }
+
+    // Requested size in points and the scale it is decoded at
+    private record Size(double width, double height, double scale) {
+    }
+
+    private String key(String url, double width, double height) {
+        if (width <= 0 && height <= 0) return url;
+        double scale = outputScale;
+        return url + "@" + (long) Math.ceil(width * scale) + "x" + (long) Math.ceil(height * scale);
+    }
+
+    // Runs on the io thread
+    private Image loadFromDisk(String url, String key, Size size) {
+        loadIndex();
+        Entry entry = index.get(url);
+        if (entry == null) return null;
+
+        try {
+            Image image = decodeCached(url, key, size, entry);
+            if (image == null) return null;
+
+            if (System.currentTimeMillis() - entry.fetchedAt > REVALIDATE_AFTER.toMillis()) {
+                download(url, key, size, entry).whenComplete((revalidated, error) -> {
+                    // Nobody waits for this one; the disk copy stays in use
+                    if (error != null) logger.warn("Revalidating image {} failed: {}", url, error.getMessage());
+                });
+            }
+            logger.debug("Image {} served from disk cache", url);
+            return image;
+        } catch (IOException e) {
+            logger.debug("Cached image for {} is unreadable, downloading it again", url, e);
+            index.remove(url);
+            return null;
+        }
+    }
+
+    /**
+     * Fetches {@code url}, conditionally if {@code cached} is given. The
+     * future holds the decoded image; for a revalidation that finds the
+     * image unchanged it holds the image in memory, or the disk copy decoded
+     * again if that was evicted in the meantime.
+     */
+    private CompletableFuture<Image> download(String url, String key, Size size, Entry cached) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET();
+        if (cached != null && cached.etag != null) {
+            request.header("If-None-Match", cached.etag);
+        }
+        if (cached != null && cached.lastModified != null) {
+            request.header("If-Modified-Since", cached.lastModified);
+        }
+
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+            .thenApplyAsync(response -> {
+                if (response.statusCode() == 304 && cached != null) {
+                    cached.fetchedAt = System.currentTimeMillis();
+                    saveIndex();
+                    logger.debug("Image {} not modified", url);
+                    synchronized (memory) {
+                        Image image = memory.get(key);
+                        if (image != null) return image;
+                    }
+                    try {
+                        Image image = decodeCached(url, key, size, cached);
+                        if (image == null) {
+                            throw new IllegalStateException("Unsupported image format at " + url);
+                        }
+                        return image;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("HTTP " + response.statusCode() + " for " + url);
+                }
+
+                byte[] bytes = response.body();
+                Image image = decode(url, new ByteArrayInputStream(bytes), size);
+                if (image == null) {
+                    throw new IllegalStateException("Unsupported image format at " + url);
+                }
+                store(url, bytes, response);
+                remember(key, image);
+                logger.debug("Image {} downloaded ({} KB)", url, bytes.length / 1024);
+                return image;
+            }, io);
+    }
+
+    // Decodes the disk copy of {@code entry} and keeps it in memory; null if it is not an image
+    private Image decodeCached(String url, String key, Size size, Entry entry) throws IOException {
+        byte[] bytes = Files.readAllBytes(CACHE_DIR.resolve(entry.sha256));
+        Image image = decode(url, new ByteArrayInputStream(bytes), size);
+        if (image != null) remember(key, image);
+        return image;
+    }
+
+    private Image decode(String source, InputStream in, Size size) {
+        // Decode-time downsampling: only the pixels that are displayed are kept
+        Image image = new Image(in, size.width() * size.scale(), size.height() * size.scale(), true, true);
+        if (image.isError()) {
+            logger.debug("Could not decode image {}", source, image.getException());
+            return null;
+        }
+        return image;
+    }
+
+    private void store(String url, byte[] bytes, HttpResponse<?> response) {
+        try {
+            String sha256 = sha256(bytes);
+            Path blob = CACHE_DIR.resolve(sha256);
+            if (!Files.exists(blob)) {
+                Files.createDirectories(CACHE_DIR);
+                Path temp = CACHE_DIR.resolve(sha256 + ".tmp");
+                Files.write(temp, bytes);
+                Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Entry entry = new Entry();
+            entry.sha256 = sha256;
+            entry.etag = response.headers().firstValue("ETag").orElse(null);
+            entry.lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+            entry.fetchedAt = System.currentTimeMillis();
+            entry.size = bytes.length;
+            index.remove(url);
+            index.put(url, entry);
+
+            trimDisk();
+            saveIndex();
+        } catch (IOException e) {
+            logger.warn("Could not store image {} in the disk cache", url, e);
+        }
+    }
+
+    private void remember(String key, Image image) {
+        synchronized (memory) {
+            Image previous = memory.put(key, image);
+            if (previous != null) {
+                memoryBytes -= decodedBytes(previous);
+            }
+            memoryBytes += decodedBytes(image);
+            trimMemory();
+        }
+    }
+
+    // Caller holds the memory lock
+    private void trimMemory() {
+        Iterator<Map.Entry<String, Image>> iterator = memory.entrySet().iterator();
+        while (memoryBytes > memoryBudget && memory.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Image> eldest = iterator.next();
+            memoryBytes -= decodedBytes(eldest.getValue());
+            iterator.remove();
+            logger.debug("Evicted decoded image {} ({} KB in memory)", eldest.getKey(), memoryBytes / 1024);
+        }
+    }
+
+    private static long decodedBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+
+    private void trimDisk() throws IOException {
+        long total = 0;
+        for (Entry entry : index.values()) {
+            total += entry.size;
+        }
+        // Index order is insertion order, and store() re-inserts, so the
+        // oldest downloads go first
+        Iterator<Entry> iterator = index.values().iterator();
+        while (total > DISK_BUDGET && index.size() > 1 && iterator.hasNext()) {
+            total -= iterator.next().size;
+            iterator.remove();
+        }
+
+        Set<String> referenced = new HashSet<>();
+        for (Entry entry : index.values()) {
+            referenced.add(entry.sha256);
+        }
+        try (var blobs = Files.list(CACHE_DIR)) {
+            for (Path blob : (Iterable<Path>) blobs::iterator) {
+                String name = blob.getFileName().toString();
+                if (!name.equals(INDEX_FILE) && !referenced.contains(name)) {
+                    Files.deleteIfExists(blob);
+                }
+            }
+        }
+    }
+
+    private void loadIndex() {
+        if (indexLoaded) return;
+        indexLoaded = true;
+
+        Path indexPath = CACHE_DIR.resolve(INDEX_FILE);
+        if (!Files.exists(indexPath)) return;
+        try (InputStream in = Files.newInputStream(indexPath)) {
+            index = objectMapper.readValue(in, new TypeReference<LinkedHashMap<String, Entry>>() { });
+        } catch (IOException e) {
+            logger.warn("Image cache index is unreadable, starting empty", e);
+            index = new LinkedHashMap<>();
+        }
+    }
+
+    private void saveIndex() {
+        try {
+            Files.createDirectories(CACHE_DIR);
+            Path temp = CACHE_DIR.resolve(INDEX_FILE + ".tmp");
+            objectMapper.writeValue(temp.toFile(), index);
+            Files.move(temp, CACHE_DIR.resolve(INDEX_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Could not save the image cache index", e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.linguaops.desktop.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiled message table for the desktop UI.
+ * Every constant carries one translation per supported language, so a
+ * missing translation is a compile error rather than a key shown at runtime.
+ * {@link I18nService} turns these into one dense array per language and
+ * looks messages up by ordinal.
+ */
+public enum MessageKey {
+    // Navigation
+    HOME("home", "Start", "Home"),
+    HISTORY("history", "Verlauf", "History"),
+    SETTINGS("settings", "Einstellungen", "Settings"),
+    ORDERS("orders", "Bestellungen", "Orders"),
+    TELC_AREA("telcArea", "telc Bereich", "Telc Area"),
+    MANAGE_PARTICIPANTS("manageParticipants", "Teilnehmer verwalten", "Manage Participants"),
+    EXAMS("exams", "Prüfungen", "Exams"),
+    NEEDS_ATTENTION("needsAttention", "Braucht Aufmerksamkeit", "Needs Attention"),
+
+    // Buttons and Actions
+    NEW_ORDERS("newOrders", "Neue Bestellungen", "New Orders"),
+    SEARCH_ORDERS("searchOrders", "Bestellungen suchen", "Search Orders"),
+    EXPORT("export", "Exportieren", "Export"),
+    OPEN_WEBSITE("openWebsite", "Website öffnen", "Open Website"),
+    BACK("back", "Zurück", "Back"),
+    NOTIFICATIONS("notifications", "Mitteilungen", "Notifications"),
+    LIGHT("light", "Hell", "Light"),
+    DARK("dark", "Dunkel", "Dark"),
+    CLEAR("clear", "Löschen", "Clear"),
+    LANGUAGE("language", "Sprache", "Language"),
+
+    // Participants
+    REGISTRATION_CONFIRMATION("registrationConfirmation", "Anmeldebestätigung", "Registration Confirmation"),
+    PARTICIPATION_CONFIRMATION("participationConfirmation", "Teilnahmebestätigung", "Participation Confirmation"),
+    ADDRESS_POST_LIST("addressPostList", "Adress-Post-Liste", "Address Post List"),
+    MAKE_REGISTRATION_CONFIRMATION("makeRegistrationConfirmation", "Anmeldebestätigungen erzeugen", "Make Registration Confirmation"),
+    MAKE_PARTICIPATION_CONFIRMATION("makeParticipationConfirmation", "Teilnahmebestätigungen erzeugen", "Make Participation Confirmation"),
+    MAKE_ADDRESS_POST_LIST("makeAddressPostList", "Adress-Post-Liste erzeugen", "Make Address Post List"),
+
+    // Form and Dialog
+    ADD_PERSON("addPerson", "Person hinzufügen", "Add Person"),
+    ORDER_NUMBER("orderNumber", "Bestellnummer", "Order Number"),
+    LAST_NAME("lastName", "Nachname", "Last name"),
+    FIRST_NAME("firstName", "Vorname", "First name"),
+    EMAIL("email", "Email", "Email"),
+    PHONE("phone", "Tel.Nr.", "Phone"),
+    SAVE("save", "Speichern", "Save"),
+    CANCEL("cancel", "Abbrechen", "Cancel"),
+
+    // Messages
+    LOADING("loading", "Laden...", "Loading..."),
+    ERROR("error", "Fehler", "Error"),
+    SUCCESS("success", "Erfolgreich", "Success"),
+    NO_RECENT_ACTIVITY("noRecentActivity", "Noch keine Aktivitäten.", "No recent activity yet."),
+
+    // Parameterized messages, see MessageTemplate for the syntax
+    SEARCHING_FOR("searchingFor", "Suche nach: {0}", "Searching for: {0}"),
+    SEARCH_COMPLETED("searchCompleted", "Suche abgeschlossen", "Search completed"),
+    SEARCH_FAILED("searchFailed", "Suche fehlgeschlagen", "Search failed"),
+    ORDERS_EXPORTED("ordersExported", "Bestellungen erfolgreich exportiert nach {0}", "Orders exported successfully to {0}"),
+    ORDERS_EXPORT_FAILED("ordersExportFailed", "Export der Bestellungen fehlgeschlagen: {0}", "Failed to export orders: {0}"),
+    OPEN_WEBSITE_FAILED("openWebsiteFailed", "Website konnte nicht geöffnet werden: {0}", "Could not open website: {0}"),
+    BROWSER_NOT_SUPPORTED("browserNotSupported", "Browser kann nicht geöffnet werden. Bitte besuchen: {0}", "Cannot open browser. Please visit: {0}"),
+    EXAM_SUMMARY("examSummary",
+        "{0} am {1}: {2,plural,one{# Teilnehmer} other{# Teilnehmer}}, {3}",
+        "{0} on {1}: {2,plural,one{# participant} other{# participants}}, {3}"),
+    TELC_ROWS("telcRows",
+        "{0} von {1,plural,one{# Teilnehmer} other{# Teilnehmern}}",
+        "{0} of {1,plural,one{# participant} other{# participants}}"),
+    TELC_LOAD_FAILED("telcLoadFailed", "telc Tabelle konnte nicht geladen werden: {0}", "Could not load the telc sheet: {0}"),
+    PARSED_ORDER_NUMBERS("parsedOrderNumbers",
+        "{0,plural,=0{Keine Bestellnummern erkannt} one{# Bestellnummer erkannt} other{# Bestellnummern erkannt}}",
+        "{0,plural,=0{No order numbers parsed} one{Parsed # order number} other{Parsed # order numbers}}"),
+
+    // Placeholders
+    TELC_PLACEHOLDER("telcPlaceholder", "Die telc Tabelle wird geladen…", "Loading the telc sheet…"),
+    TELC_SEARCH_PROMPT("telcSearchPrompt", "Nummer, Name oder Prüfungsdatum", "Number, name or exam date"),
+    EXAMS_PLACEHOLDER("examsPlaceholder", "Die Prüfungsverwaltung folgt in Kürze.", "Exam management functionality coming soon."),
+    PARTICIPANTS_PLACEHOLDER("participantsPlaceholder", "Die Teilnehmerverwaltung folgt in Kürze.", "Participant management functionality coming soon."),
+    SETTINGS_PLACEHOLDER("settingsPlaceholder", "Die Einstellungen folgen in Kürze.", "Settings configuration coming soon.");
+
+    /** Supported languages, in the order translations are declared above. */
+    public static final String[] LANGUAGES = {"de", "en"};
+
+    private static final Map<String, MessageKey> BY_KEY = new HashMap<>();
+
+    static {
+        for (MessageKey messageKey : values()) {
+            if (BY_KEY.put(messageKey.key, messageKey) != null) {
+                throw new IllegalStateException("Duplicate message key: " + messageKey.key);
+            }
+        }
+    }
+
+    private final String key;
+    private final String[] translations;
+
+    MessageKey(String key, String de, String en) {
+        this.key = key;
+        this.translations = new String[] {de, en};
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    String getTranslation(int languageIndex) {
+        return translations[languageIndex];
+    }
+
+    /**
+     * Resolves a legacy string key, or {@code null} if it is not compiled in.
+     */
+    public static MessageKey fromKey(String key) {
+        return BY_KEY.get(key);
+    }
+
+    /**
+     * Index of {@code language} in {@link #LANGUAGES}; unknown languages map to English.
+     */
+    public static int languageIndex(String language) {
+        for (int i = 0; i < LANGUAGES.length; i++) {
+            if (LANGUAGES[i].equals(language)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,261 @@
+package com.linguaops.desktop.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message pattern parsed once and rendered many times.
+ * Supports {@code {0}} placeholders and plural blocks of the form
+ * {@code {0,plural,=0{none} one{# order} other{# orders}}}, where {@code #}
+ * stands for the number. Templates are immutable and safe to share; they
+ * append into a caller-supplied {@link StringBuilder}, so hot paths such as
+ * progress labels can reuse one builder instead of creating a formatter.
+ */
+public final class MessageTemplate {
+
+    private final String pattern;
+    private final Part[] parts;
+
+    private MessageTemplate(String pattern, Part[] parts) {
+        this.pattern = pattern;
+        this.parts = parts;
+    }
+
+    /**
+     * Parses {@code pattern}; malformed patterns fail with an
+     * {@link IllegalArgumentException} naming the offending position.
+     */
+    public static MessageTemplate compile(String pattern) {
+        Parser parser = new Parser(pattern);
+        Part[] parts = parser.parseParts(false, -1);
+        if (parser.pos != pattern.length()) {
+            throw parser.error("unexpected '}'");
+        }
+        return new MessageTemplate(pattern, parts);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public StringBuilder appendTo(StringBuilder out, Object... args) {
+        appendParts(parts, out, args, 0);
+        return out;
+    }
+
+    /**
+     * Renders a single numeric argument {@code {0}} without boxing it.
+     */
+    public StringBuilder appendTo(StringBuilder out, long number) {
+        appendParts(parts, out, null, number);
+        return out;
+    }
+
+    private static void appendParts(Part[] parts, StringBuilder out, Object[] args, long number) {
+        for (Part part : parts) {
+            part.append(out, args, number);
+        }
+    }
+
+    // Both shipped languages (de, en) use the same cardinal rule
+    private static boolean isSingular(long n) {
+        return n == 1;
+    }
+
+    private interface Part {
+        void append(StringBuilder out, Object[] args, long number);
+    }
+
+    private record Literal(String text) implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, long number) {
+            out.append(text);
+        }
+    }
+
+    private record Argument(int index) implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, long number) {
+            if (args == null) {
+                if (index == 0) {
+                    out.append(number);
+                } else {
+                    out.append('{').append(index).append('}');
+                }
+                return;
+            }
+            if (index >= args.length) {
+                out.append('{').append(index).append('}');
+                return;
+            }
+
+            Object value = args[index];
+            if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+                out.append(((Number) value).longValue());
+            } else {
+                out.append(value);
+            }
+        }
+    }
+
+    private record Plural(int index, long[] exactValues, Part[][] exactForms, Part[] one, Part[] other)
+            implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, long number) {
+            long n;
+            if (args == null) {
+                n = index == 0 ? number : 0;
+            } else {
+                Object value = index < args.length ? args[index] : null;
+                n = value instanceof Number ? ((Number) value).longValue() : 0;
+            }
+
+            for (int i = 0; i < exactValues.length; i++) {
+                if (exactValues[i] == n) {
+                    appendParts(exactForms[i], out, args, number);
+                    return;
+                }
+            }
+            appendParts(one != null && isSingular(n) ? one : other, out, args, number);
+        }
+    }
+
+    private static final class Parser {
+        private final String source;
+        private int pos;
+
+        Parser(String source) {
+            this.source = source;
+        }
+
+        Part[] parseParts(boolean inPlural, int pluralIndex) {
+            List<Part> parts = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+
+            while (pos < source.length()) {
+                char c = source.charAt(pos);
+                if (c == '}') {
+                    break;
+                }
+                if (c == '{') {
+                    flush(literal, parts);
+                    parts.add(parseArgument());
+                } else if (c == '#' && inPlural) {
+                    flush(literal, parts);
+                    parts.add(new Argument(pluralIndex));
+                    pos++;
+                } else {
+                    literal.append(c);
+                    pos++;
+                }
+            }
+
+            flush(literal, parts);
+            return parts.toArray(new Part[0]);
+        }
+
+        private Part parseArgument() {
+            expect('{');
+            int index = parseIndex();
+            skipSpaces();
+            if (peek() == '}') {
+                pos++;
+                return new Argument(index);
+            }
+
+            expect(',');
+            skipSpaces();
+            int typeStart = pos;
+            while (pos < source.length() && Character.isLetter(source.charAt(pos))) pos++;
+            if (!"plural".equals(source.substring(typeStart, pos))) {
+                throw error("only plural arguments are supported");
+            }
+            skipSpaces();
+            expect(',');
+
+            List<Long> exactValues = new ArrayList<>();
+            List<Part[]> exactForms = new ArrayList<>();
+            Part[] one = null;
+            Part[] other = null;
+
+            while (true) {
+                skipSpaces();
+                if (peek() == '}') {
+                    pos++;
+                    break;
+                }
+
+                int selectorStart = pos;
+                while (pos < source.length() && source.charAt(pos) != '{' && !Character.isWhitespace(source.charAt(pos))) {
+                    pos++;
+                }
+                String selector = source.substring(selectorStart, pos);
+                skipSpaces();
+                expect('{');
+                Part[] form = parseParts(true, index);
+                expect('}');
+
+                if (selector.startsWith("=")) {
+                    try {
+                        exactValues.add(Long.parseLong(selector.substring(1)));
+                    } catch (NumberFormatException e) {
+                        throw error("invalid plural selector '" + selector + "'");
+                    }
+                    exactForms.add(form);
+                } else if ("one".equals(selector)) {
+                    one = form;
+                } else if ("other".equals(selector)) {
+                    other = form;
+                } else {
+                    throw error("unknown plural selector '" + selector + "'");
+                }
+            }
+
+            if (other == null) {
+                throw error("plural argument needs an 'other' form");
+            }
+            long[] values = exactValues.stream().mapToLong(Long::longValue).toArray();
+            return new Plural(index, values, exactForms.toArray(new Part[0][]), one, other);
+        }
+
+        private int parseIndex() {
+            skipSpaces();
+            int start = pos;
+            while (pos < source.length() && Character.isDigit(source.charAt(pos))) pos++;
+            if (start == pos) {
+                throw error("expected argument index");
+            }
+            return Integer.parseInt(source.substring(start, pos));
+        }
+
+        private void flush(StringBuilder literal, List<Part> parts) {
+            if (literal.length() > 0) {
+                parts.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+        }
+
+        private char peek() {
+            if (pos >= source.length()) {
+                throw error("unexpected end of pattern");
+            }
+            return source.charAt(pos);
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw error("expected '" + expected + "'");
+            }
+            pos++;
+        }
+
+        private void skipSpaces() {
+            while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) pos++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                "Invalid message pattern at " + pos + " (" + message + "): " + source);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.linguaops.desktop.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Initializes application services in dependency order.
+ * Services without a dependency between them start in parallel. STARTUP
+ * services must be ready before the first window is built, DEFERRED ones
+ * are started after the stage is shown. Each service is timed and the
+ * breakdown is logged once a phase completes; services whose dependency
+ * failed are not started and are reported as skipped. On shutdown,
+ * services are shut down in reverse registration order, so dependencies
+ * go last.
+ */
+public class ServiceRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRegistry.class);
+
+    public enum Phase { STARTUP, DEFERRED }
+
+    @FunctionalInterface
+    public interface Initializer {
+        void initialize() throws Exception;
+    }
+
+    private static final class Entry {
+        final String name;
+        final Phase phase;
+        final Initializer initializer;
+        final List<String> dependencies;
+        Runnable shutdown;
+        CompletableFuture<Void> future;
+        long startNanos;
+        long durationNanos;
+        boolean failed;
+
+        Entry(String name, Phase phase, Initializer initializer, List<String> dependencies) {
+            this.name = name;
+            this.phase = phase;
+            this.initializer = initializer;
+            this.dependencies = dependencies;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final ExecutorService executor;
+    private final long createdNanos = System.nanoTime();
+
+    public ServiceRegistry() {
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "service-init-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a service. Dependencies must already be registered, which
+     * also rules out cycles; a STARTUP service cannot depend on a DEFERRED one,
+     * and no service can depend on one registered with {@link #registerShutdown}.
+     */
+    public synchronized ServiceRegistry register(String name, Phase phase, Initializer initializer, String... dependsOn) {
+        if (entries.containsKey(name)) {
+            throw new IllegalArgumentException("Service already registered: " + name);
+        }
+        for (String dependency : dependsOn) {
+            Entry entry = entries.get(dependency);
+            if (entry == null) {
+                throw new IllegalArgumentException("Service " + name + " depends on unknown service " + dependency);
+            }
+            if (entry.phase == null) {
+                throw new IllegalArgumentException("Service " + name + " cannot depend on shutdown-only service " + dependency);
+            }
+            if (phase == Phase.STARTUP && entry.phase == Phase.DEFERRED) {
+                throw new IllegalArgumentException("Startup service " + name + " cannot depend on deferred service " + dependency);
+            }
+        }
+        entries.put(name, new Entry(name, phase, initializer, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Registers a service that needs no initialization, only {@code shutdown}.
+     */
+    public synchronized ServiceRegistry registerShutdown(String name, Runnable shutdown) {
+        if (entries.containsKey(name)) {
+            throw new IllegalArgumentException("Service already registered: " + name);
+        }
+        Entry entry = new Entry(name, null, null, List.of());
+        entry.shutdown = shutdown;
+        entries.put(name, entry);
+        return this;
+    }
+
+    /** Runs {@code shutdown} when the registry shuts down service {@code name}. */
+    public synchronized ServiceRegistry onShutdown(String name, Runnable shutdown) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown service " + name);
+        }
+        entry.shutdown = shutdown;
+        return this;
+    }
+
+    /**
+     * Starts every service of {@code phase}; the future completes when all
+     * of them are initialized, or exceptionally with the first failure.
+     */
+    public synchronized CompletableFuture<Void> start(Phase phase) {
+        long phaseStart = System.nanoTime();
+        List<CompletableFuture<Void>> started = new ArrayList<>();
+
+        for (Entry entry : entries.values()) {
+            if (entry.phase != phase || entry.future != null) continue;
+
+            CompletableFuture<?>[] dependencies = entry.dependencies.stream()
+                .map(dependency -> entries.get(dependency).future)
+                .toArray(CompletableFuture<?>[]::new);
+            entry.future = CompletableFuture.allOf(dependencies)
+                .thenRunAsync(() -> run(entry), executor);
+            started.add(entry.future);
+        }
+
+        return CompletableFuture.allOf(started.toArray(new CompletableFuture<?>[0]))
+            .whenComplete((ignored, error) -> logReport(phase, phaseStart));
+    }
+
+    /**
+     * Starts {@code phase} and blocks until it is done, rethrowing the first failure.
+     */
+    public void startAndWait(Phase phase) throws Exception {
+        try {
+            start(phase).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /** Stops initialization and shuts the services down, last registered first. */
+    public void shutdown() {
+        executor.shutdownNow();
+        List<Entry> reversed;
+        synchronized (this) {
+            reversed = new ArrayList<>(entries.values());
+        }
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            Entry entry = reversed.get(i);
+            if (entry.shutdown == null) continue;
+            try {
+                entry.shutdown.run();
+            } catch (RuntimeException e) {
+                // One failing service must not keep the others from saving their state
+                logger.warn("Failed to shut down service {}", entry.name, e);
+            }
+        }
+    }
+
+    private void run(Entry entry) {
+        entry.startNanos = System.nanoTime();
+        try {
+            entry.initializer.initialize();
+        } catch (Exception e) {
+            entry.failed = true;
+            logger.error("Failed to initialize service {}", entry.name, e);
+            throw new CompletionException(e);
+        } finally {
+            entry.durationNanos = System.nanoTime() - entry.startNanos;
+        }
+    }
+
+    private synchronized void logReport(Phase phase, long phaseStart) {
+        StringBuilder report = new StringBuilder();
+        for (Entry entry : entries.values()) {
+            if (entry.phase != phase || entry.future == null) continue;
+            if (entry.startNanos == 0) {
+                // Never ran because a dependency failed
+                report.append(String.format("%n  %-16s SKIPPED", entry.name));
+                continue;
+            }
+            report.append(String.format("%n  %-16s %6.1f ms  (started at +%.1f ms)%s",
+                entry.name, entry.durationNanos / 1e6, (entry.startNanos - createdNanos) / 1e6,
+                entry.failed ? "  FAILED" : ""));
+        }
+        logger.info("{} services finished in {} ms:{}",
+            phase, (System.nanoTime() - phaseStart) / 1_000_000, report);
+    }
+}
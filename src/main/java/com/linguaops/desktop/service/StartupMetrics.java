@@ -0,0 +1,71 @@
+package com.linguaops.desktop.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Startup milestones in milliseconds since the JVM process started, so
+ * time-to-first-frame is a number that can be compared across releases.
+ */
+public class StartupMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(StartupMetrics.class);
+
+    public static final String SERVICES_READY = "services-ready";
+    public static final String STAGE_SHOWN = "stage-shown";
+    public static final String FIRST_FRAME = "first-frame";
+    // First real page attached and laid out, not just the shell or a skeleton
+    public static final String INTERACTIVE = "interactive";
+
+    private final long processStartMillis = ProcessHandle.current().info().startInstant()
+        .map(Instant::toEpochMilli)
+        .orElseGet(System::currentTimeMillis);
+    private final Map<String, Long> milestones = new LinkedHashMap<>();
+
+    public synchronized long mark(String milestone) {
+        long elapsed = System.currentTimeMillis() - processStartMillis;
+        milestones.putIfAbsent(milestone, elapsed);
+        logger.info("Startup milestone {} at {} ms", milestone, elapsed);
+        return elapsed;
+    }
+
+    /**
+     * Warns and returns {@code false} if {@code milestone} was reached later
+     * than {@code budgetMillis} after process start.
+     */
+    public boolean checkBudget(String milestone, long budgetMillis) {
+        long millis = getMillis(milestone);
+        if (millis > budgetMillis) {
+            logger.warn("Startup milestone {} at {} ms exceeds its {} ms budget", milestone, millis, budgetMillis);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Milliseconds from process start to {@code milestone}, or -1 if not reached yet.
+     */
+    public synchronized long getMillis(String milestone) {
+        return milestones.getOrDefault(milestone, -1L);
+    }
+
+    public synchronized Map<String, Long> getMilestones() {
+        return Map.copyOf(milestones);
+    }
+
+    /**
+     * One line such as {@code services-ready=210 stage-shown=480}, in the
+     * order the milestones were reached; parsed by the startup benchmark.
+     */
+    public synchronized String summary() {
+        StringBuilder summary = new StringBuilder();
+        milestones.forEach((milestone, millis) -> {
+            if (summary.length() > 0) summary.append(' ');
+            summary.append(milestone).append('=').append(millis);
+        });
+        return summary.toString();
+    }
+}
@@ -0,0 +1,259 @@
+package com.linguaops.desktop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linguaops.desktop.LinguaOpsApplication;
+import com.linguaops.desktop.telc.SheetRow;
+import com.linguaops.desktop.telc.SheetSnapshot;
+import com.linguaops.desktop.telc.SheetSync;
+import com.linguaops.desktop.telc.SheetsClient;
+import com.linguaops.desktop.telc.TelcSheetIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the tabs of the telc participant sheet (the "telcSheetUrl" setting)
+ * in line with the participants of the desktop. Each tab has a local
+ * snapshot under {@code ~/.linguaops/telc-sheets}, so a sync only sends
+ * what changed since the last one. Syncs run one after another on a
+ * background thread.
+ * <p>
+ * Watched tabs are downloaded again in the background every few minutes
+ * (the "telcSheetRefreshMinutes" setting) and published as a
+ * {@link TelcSheetIndex}, so the Telc page looks participants up in memory
+ * instead of asking the sheet.
+ */
+public class TelcSheetService {
+    private static final Logger logger = LoggerFactory.getLogger(TelcSheetService.class);
+
+    private static final Path SNAPSHOT_DIR = Paths.get(System.getProperty("user.home"), ".linguaops", "telc-sheets");
+    private static final Pattern SPREADSHEET_ID = Pattern.compile("/spreadsheets/d/([A-Za-z0-9_-]+)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "telc-sheet-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Spreadsheet id + tab title -> sync; only touched on the worker thread
+    private final Map<String, SheetSync> syncs = new HashMap<>();
+    // Spreadsheet id + tab title -> latest index of the tab
+    private final Map<String, TelcSheetIndex> indexes = new ConcurrentHashMap<>();
+    // Tab title -> background refresh
+    private final Map<String, ScheduledFuture<?>> watched = new HashMap<>();
+    private final List<Consumer<String>> indexListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Makes tab {@code title} of the telc sheet contain {@code rows}. Rows
+     * are matched by their key, the cell in {@code keyColumn} of the sheet.
+     */
+    public CompletableFuture<SheetSync.Result> sync(String title, int keyColumn, List<SheetRow> rows) {
+        return CompletableFuture.supplyAsync(() -> {
+            SheetSync sync = null;
+            try {
+                sync = syncFor(title, keyColumn);
+                SheetSync.Result result = sync.sync(rows);
+                if (!result.isEmpty()) {
+                    save(sync.getSnapshot());
+                    publish(sync);
+                }
+                return result;
+            } catch (IOException e) {
+                // The snapshot holds every request that went through; keep them
+                if (sync != null) save(sync.getSnapshot());
+                throw new CompletionException(e);
+            }
+        }, worker);
+    }
+
+    /** Downloads tab {@code title} again, e.g. after it was edited by hand. */
+    public CompletableFuture<Void> refresh(String title, int keyColumn) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                SheetSync sync = syncFor(title, keyColumn);
+                if (sync.refresh() > 0) {
+                    save(sync.getSnapshot());
+                    publish(sync);
+                }
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, worker);
+    }
+
+    /** Titles of the tabs of the telc sheet, in sheet order. */
+    public CompletableFuture<List<String>> tabs() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                ConfigurationService config = LinguaOpsApplication.getInstance().getConfigService();
+                return new SheetsClient(config.getApiBaseUrl()).tabs(spreadsheetId(requireSheetUrl(config))).stream()
+                    .map(SheetsClient.Tab::title)
+                    .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, worker);
+    }
+
+    /**
+     * Keeps tab {@code title} indexed: the saved snapshot is published right
+     * away, then the tab is downloaded again by range in the background
+     * every few minutes. Listeners hear of every new index.
+     */
+    public synchronized void watch(String title, int keyColumn) {
+        ScheduledFuture<?> previous = watched.remove(title);
+        if (previous != null) previous.cancel(false);
+
+        ConfigurationService config = LinguaOpsApplication.getInstance().getConfigService();
+        long minutes = Math.max(1, config.getInt("telcSheetRefreshMinutes", 5));
+        watched.put(title, worker.scheduleWithFixedDelay(() -> refreshWatched(title, keyColumn, minutes),
+            0, minutes, TimeUnit.MINUTES));
+    }
+
+    public synchronized void unwatch(String title) {
+        ScheduledFuture<?> future = watched.remove(title);
+        if (future != null) future.cancel(false);
+    }
+
+    /** Latest index of tab {@code title}, or {@code null} if it was not loaded yet. */
+    public TelcSheetIndex getIndex(String title) {
+        ConfigurationService config = LinguaOpsApplication.getInstance().getConfigService();
+        String sheetUrl = config.getProperty("telcSheetUrl", "");
+        return sheetUrl.isBlank() ? null : indexes.get(spreadsheetId(sheetUrl) + "/" + title);
+    }
+
+    /** Called with the tab title whenever a tab gets a new index, on the worker thread. */
+    public void addIndexListener(Consumer<String> listener) {
+        indexListeners.add(listener);
+    }
+
+    public void removeIndexListener(Consumer<String> listener) {
+        indexListeners.remove(listener);
+    }
+
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    private void refreshWatched(String title, int keyColumn, long minutes) {
+        try {
+            SheetSync sync = syncFor(title, keyColumn);
+            // A snapshot downloaded a moment ago, e.g. by syncFor itself, is fresh enough
+            long age = System.currentTimeMillis() - sync.getSnapshot().getFetchedAt();
+            if (age < TimeUnit.MINUTES.toMillis(minutes) / 2) return;
+            if (sync.refresh() > 0) {
+                save(sync.getSnapshot());
+                publish(sync);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Keep the schedule; the last index stays valid until the next refresh
+            logger.warn("Background refresh of sheet tab {} failed: {}", title, e.getMessage());
+        }
+    }
+
+    private void publish(SheetSync sync) {
+        SheetSnapshot snapshot = sync.getSnapshot();
+        long start = System.nanoTime();
+        TelcSheetIndex index = TelcSheetIndex.build(snapshot.getRows(), snapshot.getKeyColumn());
+        indexes.put(snapshot.getSpreadsheetId() + "/" + snapshot.getTitle(), index);
+        logger.debug("Indexed sheet tab {}: {} rows in {} ms", snapshot.getTitle(), index.getRowCount(),
+            (System.nanoTime() - start) / 1_000_000);
+        for (Consumer<String> listener : indexListeners) {
+            listener.accept(snapshot.getTitle());
+        }
+    }
+
+    /** The spreadsheet id in a Google Sheets URL, or the text itself if it is an id. */
+    static String spreadsheetId(String sheetUrl) {
+        Matcher matcher = SPREADSHEET_ID.matcher(sheetUrl);
+        return matcher.find() ? matcher.group(1) : sheetUrl.trim();
+    }
+
+    private SheetSync syncFor(String title, int keyColumn) throws IOException {
+        ConfigurationService config = LinguaOpsApplication.getInstance().getConfigService();
+        String spreadsheetId = spreadsheetId(requireSheetUrl(config));
+        String name = spreadsheetId + "/" + title;
+
+        SheetSync sync = syncs.get(name);
+        if (sync != null && sync.getSnapshot().getKeyColumn() == keyColumn) return sync;
+
+        SheetsClient client = new SheetsClient(config.getApiBaseUrl());
+        SheetSnapshot snapshot = load(spreadsheetId, title, keyColumn);
+        if (snapshot == null) {
+            String gid = client.tabs(spreadsheetId).stream()
+                .filter(tab -> tab.title().equals(title))
+                .map(SheetsClient.Tab::gid)
+                .findFirst()
+                .orElseThrow(() -> new IOException("The telc sheet has no tab " + title));
+            sync = new SheetSync(client, new SheetSnapshot(spreadsheetId, title, gid, keyColumn));
+            sync.refresh();
+            save(sync.getSnapshot());
+        } else {
+            sync = new SheetSync(client, snapshot);
+        }
+        syncs.put(name, sync);
+        publish(sync);
+        return sync;
+    }
+
+    private static String requireSheetUrl(ConfigurationService config) throws IOException {
+        String sheetUrl = config.getProperty("telcSheetUrl", "");
+        if (sheetUrl.isBlank()) {
+            throw new IOException("No telc sheet configured");
+        }
+        return sheetUrl;
+    }
+
+    private SheetSnapshot load(String spreadsheetId, String title, int keyColumn) {
+        Path file = snapshotFile(spreadsheetId, title);
+        if (!Files.exists(file)) return null;
+        try {
+            SheetSnapshot.Data data = objectMapper.readValue(file.toFile(), SheetSnapshot.Data.class);
+            if (data.keyColumn != keyColumn || !title.equals(data.title)) return null;
+            return SheetSnapshot.fromData(data);
+        } catch (IOException e) {
+            logger.warn("Snapshot of sheet tab {} is unreadable, downloading it again", title, e);
+            return null;
+        }
+    }
+
+    private void save(SheetSnapshot snapshot) {
+        Path file = snapshotFile(snapshot.getSpreadsheetId(), snapshot.getTitle());
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot.toData());
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Could not save the snapshot of sheet tab {}", snapshot.getTitle(), e);
+        }
+    }
+
+    // Tab titles may contain any character, so the file is named after their hex form
+    private static Path snapshotFile(String spreadsheetId, String title) {
+        String name = HexFormat.of().formatHex(title.getBytes(StandardCharsets.UTF_8));
+        return SNAPSHOT_DIR.resolve(spreadsheetId).resolve(name + ".json");
+    }
+}
@@ -1,14 +1,25 @@
 package com.linguaops.desktop.service;
 
 import com.linguaops.desktop.LinguaOpsApplication;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.css.PseudoClass;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.stage.PopupWindow;
+import javafx.stage.Window;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.util.List;
 
 public class ThemeService {
     private static final Logger logger = LoggerFactory.getLogger(ThemeService.class);
+
+    // Webapp-style sheets stay loaded in both themes; the dark palette is scoped to :dark
+    private static final PseudoClass DARK_PSEUDO_CLASS = PseudoClass.getPseudoClass("dark");
+    private static final long FRAME_BUDGET_NANOS = 16_666_667L;
     
     public enum Theme {
         LIGHT("light"),
@@ -35,10 +46,19 @@ public class ThemeService {
     }
     
     private Theme currentTheme;
+    // Set once popups follow the theme; only touched on the FX thread
+    private boolean popupsTracked;
 
     public void initialize() {
         ConfigurationService configService = LinguaOpsApplication.getInstance().getConfigService();
         setTheme(Theme.fromString(configService.getTheme()));
+
+        // Follow theme changes pushed through config.json
+        configService.subscribe("theme", (key, oldValue, newValue) -> {
+            if (newValue instanceof String && Theme.fromString((String) newValue) != currentTheme) {
+                setTheme(Theme.fromString((String) newValue));
+            }
+        });
         logger.info("Theme service initialized with theme: {}", currentTheme.getName());
     }
 
@@ -71,23 +91,25 @@ public class ThemeService {
     public void applyTheme(Scene scene) {
         if (scene == null) return;
         
-        // Clear existing stylesheets
-        scene.getStylesheets().clear();
-        
         try {
             // Try webapp-style CSS first (new style)
-            URL baseStylesheetUrl = getClass().getResource("/css/webapp-base.css");
-            URL themeStylesheetUrl = getClass().getResource("/css/webapp-" + getCurrentTheme().getName() + ".css");
+            URL baseStylesheetUrl = stylesheet("webapp-base");
+            URL darkStylesheetUrl = stylesheet("webapp-dark");
 
-            if (baseStylesheetUrl != null && themeStylesheetUrl != null) {
-                // Use webapp-style CSS
-                scene.getStylesheets().add(baseStylesheetUrl.toExternalForm());
-                scene.getStylesheets().add(themeStylesheetUrl.toExternalForm());
+            if (baseStylesheetUrl != null && darkStylesheetUrl != null) {
+                // Install both sheets once; later switches only flip the pseudo-class
+                List<String> stylesheets = List.of(baseStylesheetUrl.toExternalForm(), darkStylesheetUrl.toExternalForm());
+                if (!scene.getStylesheets().equals(stylesheets)) {
+                    scene.getStylesheets().setAll(stylesheets);
+                }
+                trackPopups();
+                togglePseudoClass(scene);
                 logger.debug("Applied webapp-style {} theme to scene", getCurrentTheme().getName());
             } else {
                 // Fallback to original CSS
-                URL originalBaseUrl = getClass().getResource("/css/base.css");
-                URL originalThemeUrl = getClass().getResource("/css/" + getCurrentTheme().getName() + ".css");
+                scene.getStylesheets().clear();
+                URL originalBaseUrl = stylesheet("base");
+                URL originalThemeUrl = stylesheet(getCurrentTheme().getName());
 
                 if (originalBaseUrl != null && originalThemeUrl != null) {
                     scene.getStylesheets().add(originalBaseUrl.toExternalForm());
@@ -107,6 +129,67 @@ public class ThemeService {
         }
     }
 
+    // Prefer the binary form compiled at build time, it skips CSS parsing on first use
+    private URL stylesheet(String name) {
+        URL binary = getClass().getResource("/css/" + name + ".bss");
+        if (binary != null) {
+            return binary;
+        }
+        logger.debug("No compiled stylesheet for {}, loading text CSS", name);
+        return getClass().getResource("/css/" + name + ".css");
+    }
+
+    // Popups (tooltips, menus, combo box lists) copy the owner's stylesheets
+    // into a scene of their own, whose root needs the pseudo-class as well
+    private void trackPopups() {
+        if (popupsTracked) return;
+        popupsTracked = true;
+        Window.getWindows().addListener((ListChangeListener<Window>) change -> {
+            while (change.next()) {
+                for (Window window : change.getAddedSubList()) {
+                    if (window instanceof PopupWindow && window.getScene() != null) {
+                        window.getScene().getRoot().pseudoClassStateChanged(DARK_PSEUDO_CLASS, isDarkTheme());
+                    }
+                }
+            }
+        });
+    }
+
+    private void togglePseudoClass(Scene scene) {
+        Parent root = scene.getRoot();
+        boolean dark = isDarkTheme();
+        if (root.getPseudoClassStates().contains(DARK_PSEUDO_CLASS) == dark) return;
+
+        long start = System.nanoTime();
+        root.pseudoClassStateChanged(DARK_PSEUDO_CLASS, dark);
+        for (Window window : Window.getWindows()) {
+            if (window instanceof PopupWindow && window.getScene() != null) {
+                window.getScene().getRoot().pseudoClassStateChanged(DARK_PSEUDO_CLASS, dark);
+            }
+        }
+
+        // Initial application is part of the first layout; only time live switches
+        if (scene.getWindow() == null || !scene.getWindow().isShowing()) return;
+
+        // CSS is re-applied in the next pulse; measure until its layout is done
+        boolean[] measured = new boolean[1];
+        Runnable[] probe = new Runnable[1];
+        probe[0] = () -> {
+            if (measured[0]) return;
+            measured[0] = true;
+            // Not removed inline: the scene is iterating its pulse listeners
+            Platform.runLater(() -> scene.removePostLayoutPulseListener(probe[0]));
+            long elapsed = System.nanoTime() - start;
+            if (elapsed > FRAME_BUDGET_NANOS) {
+                logger.warn("Theme switch to {} took {} ms, over the one-frame budget",
+                    getCurrentTheme().getName(), elapsed / 1_000_000);
+            } else {
+                logger.debug("Theme switch to {} took {} µs", getCurrentTheme().getName(), elapsed / 1000);
+            }
+        };
+        scene.addPostLayoutPulseListener(probe[0]);
+    }
+
     private void applyFallbackStyling(Scene scene) {
         // Apply basic inline styling as fallback
         String fallbackStyle = "";
@@ -0,0 +1,9 @@
+package com.linguaops.desktop.telc;
+
+/**
+ * Background, text color and weight of a sheet row, as the server's
+ * format-row endpoint applies them. Colors are hex strings such as
+ * "#0b3d91".
+ */
+public record RowFormat(String background, String text, boolean bold) {
+}
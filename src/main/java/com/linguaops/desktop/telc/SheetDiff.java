@@ -0,0 +1,52 @@
+package com.linguaops.desktop.telc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * What has to be sent to make a sheet tab contain a set of rows: rows to
+ * append, existing rows whose values changed and existing rows whose format
+ * changed. Rows of the tab that are not in the set are left alone; the
+ * sheet is shared and may hold rows added by hand.
+ */
+public record SheetDiff(List<SheetRow> appends, Map<Integer, List<String>> updates, Map<Integer, RowFormat> formats) {
+
+    /**
+     * Compares {@code desired} with {@code snapshot} by key. Rows without a
+     * key, and repeated keys after their first row, are not synced.
+     */
+    public static SheetDiff compute(SheetSnapshot snapshot, List<SheetRow> desired) {
+        List<SheetRow> appends = new ArrayList<>();
+        Map<Integer, List<String>> updates = new TreeMap<>();
+        Map<Integer, RowFormat> formats = new TreeMap<>();
+        Set<String> seen = new HashSet<>();
+
+        for (SheetRow row : desired) {
+            String key = row.key() != null ? row.key().trim() : "";
+            if (key.isEmpty() || !seen.add(key)) continue;
+
+            int index = snapshot.indexOf(key);
+            if (index < 0) {
+                appends.add(row);
+                continue;
+            }
+            if (!snapshot.contentEquals(index, row.values())) {
+                updates.put(index, row.values());
+            }
+            if (row.format() != null && !snapshot.formatEquals(index, row.format())) {
+                formats.put(index, row.format());
+            }
+        }
+        return new SheetDiff(Collections.unmodifiableList(appends), Collections.unmodifiableMap(updates),
+            Collections.unmodifiableMap(formats));
+    }
+
+    public boolean isEmpty() {
+        return appends.isEmpty() && updates.isEmpty() && formats.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.linguaops.desktop.telc;
+
+import java.util.List;
+
+/**
+ * A row the sheet should contain. {@code key} identifies the row across
+ * syncs (e.g. the participant number); {@code format} may be {@code null}
+ * to leave the row's format alone.
+ */
+public record SheetRow(String key, List<String> values, RowFormat format) {
+}
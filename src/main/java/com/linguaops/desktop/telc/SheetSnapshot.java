@@ -0,0 +1,214 @@
+package com.linguaops.desktop.telc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local copy of one sheet tab: the cell values of every row, a content
+ * hash per row and per row format, and the row of each key. Row indexes are
+ * zero-based, row 0 usually being the header. Rows are compared by hash, so
+ * diffing a tab against the rows it should contain touches no strings
+ * except for rows that actually changed.
+ */
+public class SheetSnapshot {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long CELL_SEPARATOR = 0x1f;
+
+    /** Persisted form of a snapshot. */
+    public static class Data {
+        public String spreadsheetId;
+        public String title;
+        public String gid;
+        public int keyColumn;
+        public List<List<String>> rows;
+        public long[] formatHashes;
+        public long fetchedAt;
+    }
+
+    private final String spreadsheetId;
+    private final String title;
+    private final String gid;
+    private final int keyColumn;
+    private final List<List<String>> rows = new ArrayList<>();
+    private long[] hashes = new long[16];
+    // 0 means the row's format is not known
+    private long[] formatHashes = new long[16];
+    private final Map<String, Integer> rowsByKey = new HashMap<>();
+    private long fetchedAt;
+
+    public SheetSnapshot(String spreadsheetId, String title, String gid, int keyColumn) {
+        this.spreadsheetId = spreadsheetId;
+        this.title = title;
+        this.gid = gid;
+        this.keyColumn = keyColumn;
+    }
+
+    public static SheetSnapshot fromData(Data data) {
+        SheetSnapshot snapshot = new SheetSnapshot(data.spreadsheetId, data.title, data.gid, data.keyColumn);
+        snapshot.replaceRows(data.rows != null ? data.rows : List.of(), data.fetchedAt);
+        if (data.formatHashes != null) {
+            int count = Math.min(data.formatHashes.length, snapshot.rows.size());
+            System.arraycopy(data.formatHashes, 0, snapshot.formatHashes, 0, count);
+        }
+        return snapshot;
+    }
+
+    public Data toData() {
+        Data data = new Data();
+        data.spreadsheetId = spreadsheetId;
+        data.title = title;
+        data.gid = gid;
+        data.keyColumn = keyColumn;
+        data.rows = new ArrayList<>(rows);
+        data.formatHashes = Arrays.copyOf(formatHashes, rows.size());
+        data.fetchedAt = fetchedAt;
+        return data;
+    }
+
+    public String getSpreadsheetId() { return spreadsheetId; }
+    public String getTitle() { return title; }
+    public String getGid() { return gid; }
+    public int getKeyColumn() { return keyColumn; }
+    public long getFetchedAt() { return fetchedAt; }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public List<String> getRow(int index) {
+        return rows.get(index);
+    }
+
+    /** All rows as an immutable list; rows themselves are immutable too. */
+    public List<List<String>> getRows() {
+        return List.copyOf(rows);
+    }
+
+    /** Row of {@code key}, or -1; the first row wins if a key repeats. */
+    public int indexOf(String key) {
+        Integer index = rowsByKey.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Replaces all rows with freshly downloaded values and returns how many
+     * rows changed, were added or went away. The sheet moves formats along
+     * with their rows, so known formats are kept by key; the format of any
+     * other row becomes unknown.
+     */
+    public int replaceRows(List<List<String>> values, long fetchedAt) {
+        int changed = Math.abs(rows.size() - values.size());
+        for (int i = 0; i < Math.min(rows.size(), values.size()); i++) {
+            if (hashes[i] != hash(values.get(i), Integer.MAX_VALUE)) changed++;
+        }
+
+        Map<String, Long> formatsByKey = new HashMap<>();
+        rowsByKey.forEach((key, index) -> {
+            if (formatHashes[index] != 0) formatsByKey.put(key, formatHashes[index]);
+        });
+
+        rows.clear();
+        rowsByKey.clear();
+        hashes = new long[Math.max(16, values.size())];
+        formatHashes = new long[hashes.length];
+        for (List<String> row : values) {
+            append(row);
+        }
+        formatsByKey.forEach((key, format) -> {
+            Integer index = rowsByKey.get(key);
+            if (index != null) formatHashes[index] = format;
+        });
+        this.fetchedAt = fetchedAt;
+        return changed;
+    }
+
+    public void setFetchedAt(long fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+
+    public void append(List<String> values) {
+        int index = rows.size();
+        ensureCapacity(index + 1);
+        rows.add(List.copyOf(values));
+        hashes[index] = hash(values, Integer.MAX_VALUE);
+        String key = keyOf(values);
+        if (key != null) rowsByKey.putIfAbsent(key, index);
+    }
+
+    /**
+     * Sets the first {@code values.size()} cells of row {@code index}; cells
+     * to the right, such as notes added in the sheet, are kept.
+     */
+    public void update(int index, List<String> values) {
+        List<String> old = rows.get(index);
+        List<String> merged = new ArrayList<>(values);
+        for (int i = values.size(); i < old.size(); i++) merged.add(old.get(i));
+        while (!merged.isEmpty() && merged.get(merged.size() - 1).isEmpty()) merged.remove(merged.size() - 1);
+
+        String oldKey = keyOf(old);
+        if (oldKey != null) rowsByKey.remove(oldKey, index);
+        rows.set(index, List.copyOf(merged));
+        hashes[index] = hash(merged, Integer.MAX_VALUE);
+        String key = keyOf(merged);
+        if (key != null) rowsByKey.putIfAbsent(key, index);
+    }
+
+    public void setFormat(int index, RowFormat format) {
+        formatHashes[index] = hash(format);
+    }
+
+    /**
+     * Whether the first {@code values.size()} cells of row {@code index}
+     * already hold {@code values}; trailing empty cells count as missing.
+     */
+    public boolean contentEquals(int index, List<String> values) {
+        List<String> row = rows.get(index);
+        if (row.size() <= values.size()) {
+            // The stored hash covers the whole row
+            return hashes[index] == hash(values, Integer.MAX_VALUE);
+        }
+        return hash(row, values.size()) == hash(values, Integer.MAX_VALUE);
+    }
+
+    public boolean formatEquals(int index, RowFormat format) {
+        return formatHashes[index] == hash(format);
+    }
+
+    String keyOf(List<String> values) {
+        if (keyColumn >= values.size()) return null;
+        String key = values.get(keyColumn).trim();
+        return key.isEmpty() ? null : key;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= hashes.length) return;
+        int capacity = Math.max(size, hashes.length * 2);
+        hashes = Arrays.copyOf(hashes, capacity);
+        formatHashes = Arrays.copyOf(formatHashes, capacity);
+    }
+
+    // FNV-1a over the first limit cells, ignoring trailing empty cells
+    static long hash(List<String> values, int limit) {
+        int end = Math.min(limit, values.size());
+        while (end > 0 && values.get(end - 1).isEmpty()) end--;
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < end; i++) {
+            String cell = values.get(i);
+            for (int c = 0; c < cell.length(); c++) {
+                hash = (hash ^ cell.charAt(c)) * FNV_PRIME;
+            }
+            hash = (hash ^ CELL_SEPARATOR) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    static long hash(RowFormat format) {
+        long hash = hash(List.of(format.background().toLowerCase(), format.text().toLowerCase(),
+            format.bold() ? "b" : ""), Integer.MAX_VALUE);
+        return hash != 0 ? hash : 1;
+    }
+}
@@ -0,0 +1,190 @@
+package com.linguaops.desktop.telc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Brings one sheet tab in line with a set of rows. The rows are diffed
+ * against the local {@link SheetSnapshot} and only the difference is sent:
+ * all appends in one request, all value changes in one and all format
+ * changes in one, split into chunks of {@link #BATCH_SIZE} rows. Before
+ * rows are overwritten or formatted, the tab's key column is read once and
+ * the snapshot reloaded if the rows moved. A sync of unchanged rows sends
+ * nothing. Not thread-safe; the owner runs syncs of a tab one after
+ * another.
+ */
+public class SheetSync {
+    private static final Logger logger = LoggerFactory.getLogger(SheetSync.class);
+
+    static final int BATCH_SIZE = 500;
+    static final int REFRESH_CHUNK = 5000;
+
+    /** What a sync sent. */
+    public record Result(int appended, int updated, int formatted, int requests) {
+        public boolean isEmpty() {
+            return appended == 0 && updated == 0 && formatted == 0;
+        }
+    }
+
+    private final SheetsClient client;
+    private final SheetSnapshot snapshot;
+
+    public SheetSync(SheetsClient client, SheetSnapshot snapshot) {
+        this.client = client;
+        this.snapshot = snapshot;
+    }
+
+    public SheetSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Downloads the tab into the snapshot range by range, e.g. when there is
+     * none yet or the sheet was changed by hand, and returns how many rows
+     * changed. Rows keep their known format by key, so sorting the sheet
+     * does not make every moved row look unformatted.
+     */
+    public int refresh() throws IOException {
+        long start = System.nanoTime();
+        List<List<String>> rows = new ArrayList<>();
+        for (int from = 0; ; from += REFRESH_CHUNK) {
+            List<List<String>> values = client.values(snapshot.getSpreadsheetId(), snapshot.getTitle(),
+                "A" + (from + 1) + ":ZZ" + (from + REFRESH_CHUNK));
+            // Each range ends at its last non-empty row, so blank rows at the end
+            // of a range may still be followed by rows; only an empty range ends the tab
+            if (values.isEmpty()) break;
+            while (rows.size() < from) rows.add(List.of());
+            rows.addAll(values);
+        }
+        int changed = snapshot.replaceRows(rows, System.currentTimeMillis());
+        logger.info("Refreshed sheet tab {}: {} rows, {} changed in {} ms", snapshot.getTitle(), rows.size(), changed,
+            (System.nanoTime() - start) / 1_000_000);
+        return changed;
+    }
+
+    public Result sync(List<SheetRow> rows) throws IOException {
+        long start = System.nanoTime();
+        List<SheetRow> desired = sanitize(rows);
+        SheetDiff diff = SheetDiff.compute(snapshot, desired);
+        int requests = 0;
+        if (!diff.updates().isEmpty() || !diff.formats().isEmpty()) {
+            // Updates and formats address rows by number; a sort or a deleted
+            // row in the sheet would put them on someone else's row
+            requests++;
+            if (!keysMatch()) {
+                logger.info("Rows of sheet tab {} moved outside the sync, reloading", snapshot.getTitle());
+                refresh();
+                requests++;
+                diff = SheetDiff.compute(snapshot, desired);
+            }
+        }
+        if (diff.isEmpty()) {
+            logger.debug("Sheet tab {} is up to date ({} rows)", snapshot.getTitle(), rows.size());
+            return new Result(0, 0, 0, requests);
+        }
+
+        Map<Integer, RowFormat> formats = new LinkedHashMap<>(diff.formats());
+
+        for (Map<Integer, List<String>> chunk : chunks(diff.updates())) {
+            client.updateRows(snapshot.getSpreadsheetId(), snapshot.getTitle(), chunk);
+            chunk.forEach(snapshot::update);
+            requests++;
+        }
+
+        List<SheetRow> appends = diff.appends();
+        for (int from = 0; from < appends.size(); from += BATCH_SIZE) {
+            List<SheetRow> chunk = appends.subList(from, Math.min(appends.size(), from + BATCH_SIZE));
+            List<List<String>> values = new ArrayList<>(chunk.size());
+            for (SheetRow row : chunk) values.add(row.values());
+
+            int expected = snapshot.getRowCount();
+            int first = client.append(snapshot.getSpreadsheetId(), snapshot.getTitle(), values);
+            requests++;
+            if (first >= 0 && first != expected) {
+                // Someone added or removed rows in the sheet; the snapshot is stale
+                logger.info("Sheet tab {} changed outside the sync (append at row {}, expected {}), reloading",
+                    snapshot.getTitle(), first, expected);
+                refresh();
+                requests++;
+                // Row numbers from before the reload may belong to other rows now
+                formats.clear();
+                formats.putAll(SheetDiff.compute(snapshot, desired).formats());
+                continue;
+            }
+            for (SheetRow row : chunk) {
+                int index = snapshot.getRowCount();
+                snapshot.append(row.values());
+                if (row.format() != null) formats.put(index, row.format());
+            }
+        }
+
+        for (Map<Integer, RowFormat> chunk : chunks(formats)) {
+            client.formatRows(snapshot.getSpreadsheetId(), snapshot.getGid(), chunk);
+            chunk.forEach(snapshot::setFormat);
+            requests++;
+        }
+
+        Result result = new Result(appends.size(), diff.updates().size(), formats.size(), requests);
+        logger.info("Synced sheet tab {}: {} appended, {} updated, {} formatted in {} requests, {} ms",
+            snapshot.getTitle(), result.appended(), result.updated(), result.formatted(), requests,
+            (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    // Whether the key column of the tab still holds the snapshot's keys, row by row
+    private boolean keysMatch() throws IOException {
+        String column = columnName(snapshot.getKeyColumn());
+        List<List<String>> keys = client.values(snapshot.getSpreadsheetId(), snapshot.getTitle(),
+            column + "1:" + column);
+        int rowCount = Math.max(keys.size(), snapshot.getRowCount());
+        for (int i = 0; i < rowCount; i++) {
+            String key = i < keys.size() && !keys.get(i).isEmpty() ? keys.get(i).get(0).trim() : "";
+            String expected = i < snapshot.getRowCount() ? snapshot.keyOf(snapshot.getRow(i)) : null;
+            if (!key.equals(expected != null ? expected : "")) return false;
+        }
+        return true;
+    }
+
+    // 0 -> "A", 25 -> "Z", 26 -> "AA"
+    static String columnName(int column) {
+        StringBuilder name = new StringBuilder();
+        for (int n = column + 1; n > 0; n = (n - 1) / 26) {
+            name.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    // Cells must not be null; the sheet has no null cells either
+    private static List<SheetRow> sanitize(List<SheetRow> rows) {
+        List<SheetRow> result = new ArrayList<>(rows.size());
+        for (SheetRow row : rows) {
+            List<String> values = null;
+            for (int i = 0; i < row.values().size(); i++) {
+                if (row.values().get(i) != null) continue;
+                if (values == null) values = new ArrayList<>(row.values());
+                values.set(i, "");
+            }
+            result.add(values == null ? row : new SheetRow(row.key(), values, row.format()));
+        }
+        return result;
+    }
+
+    private static <V> List<Map<Integer, V>> chunks(Map<Integer, V> rows) {
+        List<Map<Integer, V>> chunks = new ArrayList<>();
+        Map<Integer, V> chunk = null;
+        for (Map.Entry<Integer, V> entry : rows.entrySet()) {
+            if (chunk == null || chunk.size() == BATCH_SIZE) {
+                chunk = new LinkedHashMap<>();
+                chunks.add(chunk);
+            }
+            chunk.put(entry.getKey(), entry.getValue());
+        }
+        return chunks;
+    }
+}
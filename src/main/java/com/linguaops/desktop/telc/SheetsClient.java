@@ -0,0 +1,149 @@
+package com.linguaops.desktop.telc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Google Sheets access through the server's /api/sheets endpoints, which
+ * hold the service account. Values are written raw, not parsed as if typed
+ * in, so "00123" or "12.03.2025" read back exactly as written and snapshots
+ * stay comparable. Calls block; use them off the FX thread.
+ */
+public class SheetsClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    /** A tab of a spreadsheet; {@code gid} is its numeric sheet id. */
+    public record Tab(String title, String gid, int index) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    private final String apiBaseUrl;
+
+    public SheetsClient(String apiBaseUrl) {
+        this.apiBaseUrl = apiBaseUrl.endsWith("/") ? apiBaseUrl.substring(0, apiBaseUrl.length() - 1) : apiBaseUrl;
+    }
+
+    public List<Tab> tabs(String spreadsheetId) throws IOException {
+        JsonNode response = get("/sheets/tabs?id=" + encode(spreadsheetId));
+        List<Tab> tabs = new ArrayList<>();
+        for (JsonNode sheet : response.path("sheets")) {
+            tabs.add(new Tab(sheet.path("title").asText(), sheet.path("gid").asText(), sheet.path("index").asInt()));
+        }
+        return tabs;
+    }
+
+    /**
+     * Cell values of {@code range} (A1 notation without the tab) as
+     * formatted text; rows and cells end at their last non-empty cell.
+     */
+    public List<List<String>> values(String spreadsheetId, String title, String range) throws IOException {
+        JsonNode response = get("/sheets/values?id=" + encode(spreadsheetId) + "&title=" + encode(title)
+            + "&range=" + encode(range));
+        List<List<String>> rows = new ArrayList<>();
+        for (JsonNode row : response.path("values")) {
+            List<String> cells = new ArrayList<>(row.size());
+            for (JsonNode cell : row) cells.add(cell.asText());
+            rows.add(cells);
+        }
+        return rows;
+    }
+
+    /**
+     * Appends {@code rows} below the last row of the tab in one request and
+     * returns the zero-based index of the first appended row, or -1 if the
+     * server did not say.
+     */
+    public int append(String spreadsheetId, String title, List<List<String>> rows) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", spreadsheetId);
+        body.put("title", title);
+        body.put("rows", rows);
+        body.put("raw", true);
+        JsonNode response = post("/sheets/append", body);
+        return firstRow(response.path("updates").path("updatedRange").asText(""));
+    }
+
+    /** Overwrites the given rows (zero-based index to values) in one request. */
+    public void updateRows(String spreadsheetId, String title, Map<Integer, List<String>> rows) throws IOException {
+        List<Map<String, Object>> updates = new ArrayList<>(rows.size());
+        rows.forEach((rowIndex, values) -> updates.add(Map.of("rowIndex", rowIndex, "values", values)));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", spreadsheetId);
+        body.put("title", title);
+        body.put("rows", updates);
+        body.put("raw", true);
+        post("/sheets/update-rows", body);
+    }
+
+    /** Formats the given rows (zero-based index to format) in one request. */
+    public void formatRows(String spreadsheetId, String gid, Map<Integer, RowFormat> rows) throws IOException {
+        List<Map<String, Object>> formats = new ArrayList<>(rows.size());
+        rows.forEach((rowIndex, format) -> formats.add(Map.of(
+            "rowIndex", rowIndex,
+            "background", format.background(),
+            "text", format.text(),
+            "bold", format.bold())));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", spreadsheetId);
+        body.put("gid", gid);
+        body.put("rows", formats);
+        post("/sheets/format-row", body);
+    }
+
+    // "Teilnehmer!A12:K14" -> 11
+    static int firstRow(String updatedRange) {
+        int i = updatedRange.lastIndexOf('!') + 1;
+        while (i < updatedRange.length() && Character.isLetter(updatedRange.charAt(i))) i++;
+        int row = 0;
+        int start = i;
+        while (i < updatedRange.length() && Character.isDigit(updatedRange.charAt(i))) {
+            row = row * 10 + (updatedRange.charAt(i++) - '0');
+        }
+        return i > start ? row - 1 : -1;
+    }
+
+    private JsonNode get(String path) throws IOException {
+        return send(HttpRequest.newBuilder(URI.create(apiBaseUrl + path)).GET());
+    }
+
+    private JsonNode post(String path, Object body) throws IOException {
+        return send(HttpRequest.newBuilder(URI.create(apiBaseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+    }
+
+    private JsonNode send(HttpRequest.Builder request) throws IOException {
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        }
+        JsonNode json = response.body().length > 0 ? objectMapper.readTree(response.body()) : objectMapper.createObjectNode();
+        if (response.statusCode() != 200) {
+            throw new IOException(json.path("error").asText("Sheets request failed with " + response.statusCode()));
+        }
+        return json;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
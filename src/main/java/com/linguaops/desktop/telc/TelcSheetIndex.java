@@ -0,0 +1,306 @@
+package com.linguaops.desktop.telc;
+
+import com.linguaops.desktop.bank.FuzzyNameMatcher;
+import com.linguaops.desktop.orders.ExamDates;
+import com.linguaops.desktop.orders.MetaKeyNormalizer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Participant lookup over the rows of a telc sheet tab. The participant
+ * number, name and exam date columns are found by their header in row 0;
+ * numbers and name words go into sorted term tables searched by prefix,
+ * dates into a map, so a query costs a few binary searches no matter how
+ * many rows the tab has. Instances are immutable and safe to share between
+ * threads; a changed tab gets a new index.
+ */
+public final class TelcSheetIndex {
+    private static final Set<String> NUMBER_HEADERS = Set.of("nr", "no", "id", "nummer", "number",
+        "teilnehmernummer", "teilnehmer nr", "teilnehmer nummer", "tn nr", "tnnr", "participant number",
+        "participant no", "participant id", "kandidatennummer", "kandidaten nr", "candidate number");
+    private static final int[] NO_ROWS = new int[0];
+
+    private final List<List<String>> rows;
+    // Row of the first participant; 1 when row 0 is a header
+    private final int firstRow;
+    private final int numberColumn;
+    private final int[] nameColumns;
+    private final int dateColumn;
+    private final Terms numbers;
+    private final Terms names;
+    private final Map<LocalDate, int[]> rowsByDate;
+
+    private TelcSheetIndex(List<List<String>> rows, int keyColumn) {
+        this.rows = rows;
+        List<String> header = rows.isEmpty() ? List.of() : rows.get(0);
+        int number = -1;
+        int date = -1;
+        List<Integer> nameList = new ArrayList<>();
+        for (int column = 0; column < header.size(); column++) {
+            String name = MetaKeyNormalizer.normalize(header.get(column));
+            if (number < 0 && NUMBER_HEADERS.contains(name)) {
+                number = column;
+            } else if (name.contains("name")) {
+                nameList.add(column);
+            } else if (date < 0 && isExamDateHeader(name)) {
+                date = column;
+            }
+        }
+        this.firstRow = number >= 0 || date >= 0 || !nameList.isEmpty() ? 1 : 0;
+        this.numberColumn = number >= 0 ? number : keyColumn;
+        this.nameColumns = nameList.stream().mapToInt(Integer::intValue).toArray();
+        this.dateColumn = date;
+
+        Terms.Builder numberTerms = new Terms.Builder();
+        Terms.Builder nameTerms = new Terms.Builder();
+        Map<LocalDate, List<Integer>> dates = new HashMap<>();
+        StringBuilder name = new StringBuilder();
+        for (int row = firstRow; row < rows.size(); row++) {
+            List<String> values = rows.get(row);
+            String numberText = numberKey(cell(values, numberColumn));
+            if (!numberText.isEmpty()) {
+                numberTerms.add(numberText, row);
+                // "tn000123" is also found as "000123" and "123"
+                String digits = trailingDigits(numberText);
+                if (!digits.isEmpty() && digits.length() < numberText.length()) numberTerms.add(digits, row);
+                String significant = stripLeadingZeros(digits);
+                if (!significant.isEmpty() && significant.length() < digits.length()) numberTerms.add(significant, row);
+            }
+
+            name.setLength(0);
+            for (int column : nameColumns) name.append(cell(values, column)).append(' ');
+            for (String word : FuzzyNameMatcher.signature(name.toString()).split(" ")) {
+                if (!word.isEmpty()) nameTerms.add(word, row);
+            }
+
+            LocalDate examDate = dateColumn >= 0 ? ExamDates.parse(cell(values, dateColumn)) : null;
+            if (examDate != null) dates.computeIfAbsent(examDate, d -> new ArrayList<>()).add(row);
+        }
+        this.numbers = numberTerms.build();
+        this.names = nameTerms.build();
+        this.rowsByDate = new HashMap<>(dates.size() * 2);
+        dates.forEach((d, list) -> rowsByDate.put(d, list.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Index over {@code rows}, which must not change afterwards; the
+     * participant number falls back to {@code keyColumn} if no header names it.
+     */
+    public static TelcSheetIndex build(List<List<String>> rows, int keyColumn) {
+        return new TelcSheetIndex(List.copyOf(rows), keyColumn);
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public List<String> getRow(int index) {
+        return rows.get(index);
+    }
+
+    /** Number of participant rows, i.e. rows below the header. */
+    public int getParticipantCount() {
+        return Math.max(0, rows.size() - firstRow);
+    }
+
+    /**
+     * Rows matching every word of {@code query}, in sheet order. A date
+     * ("12.03.2025", "2025-03-12", "12. März 2025") matches the exam date,
+     * digits the start of the participant number and any other word the
+     * start of a name word. A blank query matches every participant.
+     */
+    public int[] find(String query) {
+        String text = query != null ? query.trim() : "";
+        if (text.isEmpty()) return allRows();
+
+        String[] tokens = text.split("\\s+");
+        // The date is picked out first, so names such as "Marc" or "Julia" stay names
+        QueryDate date = findDate(tokens);
+        BitSet result = date != null ? toBitSet(byDate(date.date())) : null;
+        for (int i = 0; i < tokens.length; i++) {
+            if (date != null && i >= date.from() && i < date.to()) continue;
+            BitSet matches = matches(tokens[i]);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+            if (result.isEmpty()) return NO_ROWS;
+        }
+        return result.stream().toArray();
+    }
+
+    // A date in the query and the words from .. to (exclusive) it takes up
+    private record QueryDate(LocalDate date, int from, int to) {
+    }
+
+    // First date of the query: one numeric word such as 12.03.2025 or
+    // 2025-03-12, or day, month name and year as in "12. März 2025" or
+    // "March 12, 2025"; null if there is none
+    private static QueryDate findDate(String[] tokens) {
+        for (int i = 0; i < tokens.length; i++) {
+            if (isNumericDate(tokens[i])) {
+                LocalDate date = ExamDates.parse(tokens[i]);
+                if (date != null) return new QueryDate(date, i, i + 1);
+            }
+            if (i + 2 < tokens.length && isNumber(tokens[i + 2])
+                    && ((isNumber(tokens[i]) && isMonth(tokens[i + 1]))
+                        || (isMonth(tokens[i]) && isNumber(tokens[i + 1])))) {
+                LocalDate date = ExamDates.parse(tokens[i] + " " + tokens[i + 1] + " " + tokens[i + 2]);
+                if (date != null) return new QueryDate(date, i, i + 3);
+            }
+        }
+        return null;
+    }
+
+    // Digits with '.', '-' or '/' between them; bare digits are participant numbers
+    private static boolean isNumericDate(String token) {
+        boolean separator = false;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.' || c == '-' || c == '/') {
+                separator |= i > 0 && i < token.length() - 1;
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return separator;
+    }
+
+    // "12", "12." or "12,"
+    private static boolean isNumber(String token) {
+        String digits = trimPunctuation(token);
+        return !digits.isEmpty() && isDigits(digits);
+    }
+
+    private static boolean isMonth(String token) {
+        return ExamDates.month(trimPunctuation(token)) > 0;
+    }
+
+    private static String trimPunctuation(String token) {
+        int end = token.length();
+        while (end > 0 && (token.charAt(end - 1) == '.' || token.charAt(end - 1) == ',')) end--;
+        return token.substring(0, end);
+    }
+
+    private BitSet matches(String token) {
+        String number = numberKey(token);
+        if (!number.isEmpty() && isDigits(number)) return numbers.prefix(number);
+
+        BitSet result = null;
+        for (String word : FuzzyNameMatcher.signature(token).split(" ")) {
+            if (word.isEmpty()) continue;
+            BitSet matches = names.prefix(word);
+            // Participant numbers may contain letters too
+            if (!number.isEmpty()) matches.or(numbers.prefix(number));
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    private int[] byDate(LocalDate date) {
+        return rowsByDate.getOrDefault(date, NO_ROWS);
+    }
+
+    private int[] allRows() {
+        int[] all = new int[getParticipantCount()];
+        for (int i = 0; i < all.length; i++) all[i] = firstRow + i;
+        return all;
+    }
+
+    private static BitSet toBitSet(int[] rows) {
+        BitSet set = new BitSet();
+        for (int row : rows) set.set(row);
+        return set;
+    }
+
+    private static boolean isExamDateHeader(String header) {
+        if (header.contains("geburt") || header.contains("birth")) return false;
+        return header.contains("datum") || header.contains("date") || header.contains("termin");
+    }
+
+    private static boolean isDigits(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') return false;
+        }
+        return true;
+    }
+
+    // "TN-0042 " -> "tn0042"; numbers are compared without separators
+    private static String numberKey(String text) {
+        StringBuilder key = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) key.append(c);
+        }
+        return key.toString();
+    }
+
+    private static String trailingDigits(String key) {
+        int start = key.length();
+        while (start > 0 && key.charAt(start - 1) >= '0' && key.charAt(start - 1) <= '9') start--;
+        return key.substring(start);
+    }
+
+    private static String stripLeadingZeros(String digits) {
+        int start = 0;
+        while (start < digits.length() - 1 && digits.charAt(start) == '0') start++;
+        return digits.substring(start);
+    }
+
+    private static String cell(List<String> values, int column) {
+        return column >= 0 && column < values.size() ? values.get(column) : "";
+    }
+
+    /** Sorted distinct terms with the rows holding each, for prefix search. */
+    private static final class Terms {
+        private final String[] terms;
+        private final int[][] postings;
+
+        private Terms(String[] terms, int[][] postings) {
+            this.terms = terms;
+            this.postings = postings;
+        }
+
+        BitSet prefix(String prefix) {
+            BitSet rows = new BitSet();
+            int i = Arrays.binarySearch(terms, prefix);
+            if (i < 0) i = -i - 1;
+            for (; i < terms.length && terms[i].startsWith(prefix); i++) {
+                for (int row : postings[i]) rows.set(row);
+            }
+            return rows;
+        }
+
+        static final class Builder {
+            private final Map<String, List<Integer>> rowsByTerm = new HashMap<>();
+
+            void add(String term, int row) {
+                List<Integer> rows = rowsByTerm.computeIfAbsent(term, t -> new ArrayList<>(1));
+                // Rows come in ascending order; a word repeated in a row counts once
+                if (rows.isEmpty() || rows.get(rows.size() - 1) != row) rows.add(row);
+            }
+
+            Terms build() {
+                String[] terms = rowsByTerm.keySet().toArray(new String[0]);
+                Arrays.sort(terms);
+                int[][] postings = new int[terms.length][];
+                for (int i = 0; i < terms.length; i++) {
+                    postings[i] = rowsByTerm.get(terms[i]).stream().mapToInt(Integer::intValue).toArray();
+                }
+                return new Terms(terms, postings);
+            }
+        }
+    }
+}
@@ -6,18 +6,23 @@ module linguaops.desktop {
     
     requires java.net.http;
     requires java.desktop;
+    requires java.xml;
     
     requires com.fasterxml.jackson.databind;
     requires com.fasterxml.jackson.datatype.jsr310;
-    requires org.apache.httpcomponents.httpclient5;
+    requires org.apache.httpcomponents.client5.httpclient5;
     requires org.slf4j;
     requires ch.qos.logback.classic;
     
     exports com.linguaops.desktop;
     exports com.linguaops.desktop.controller;
+    exports com.linguaops.desktop.bank;
+    exports com.linguaops.desktop.orders;
     exports com.linguaops.desktop.service;
+    exports com.linguaops.desktop.telc;
     
     opens com.linguaops.desktop to javafx.fxml;
     opens com.linguaops.desktop.controller to javafx.fxml;
     opens com.linguaops.desktop.service to com.fasterxml.jackson.databind;
+    opens com.linguaops.desktop.telc to com.fasterxml.jackson.databind;
 }
@@ -0,0 +1,65 @@
+package com.linguaops.desktop.bank;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BankStatementImportTest {
+
+    @Test
+    void detectsFormatByContent() throws Exception {
+        assertEquals(BankStatementImport.Format.CAMT053, BankStatementImport.detect(fixture("statement-camt053.xml")));
+        assertEquals(BankStatementImport.Format.MT940, BankStatementImport.detect(fixture("statement.mt940")));
+        assertEquals(BankStatementImport.Format.PDF, BankStatementImport.detect(fixture("statement-classic-xref.pdf")));
+    }
+
+    @Test
+    void detectionIgnoresFileName(@TempDir Path directory) throws Exception {
+        Path renamed = Files.copy(fixture("statement.mt940"), directory.resolve("statement.xml"));
+        assertEquals(BankStatementImport.Format.MT940, BankStatementImport.detect(renamed));
+    }
+
+    @Test
+    void rejectsUnknownFormat(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("statement.csv"), "Datum;Betrag;Verwendungszweck\n");
+        assertThrows(IOException.class, () -> BankStatementImport.detect(file));
+        assertThrows(IOException.class, () -> BankStatementImport.readAll(file));
+    }
+
+    @Test
+    void readsEveryFormatThroughItsReader() throws Exception {
+        List<BankTransaction> camt = BankStatementImport.readAll(fixture("statement-camt053.xml"));
+        List<BankTransaction> mt940 = BankStatementImport.readAll(fixture("statement.mt940"));
+        List<BankTransaction> pdf = BankStatementImport.readAll(fixture("statement-object-streams.pdf"));
+
+        assertEquals(5, camt.size());
+        assertEquals(5, mt940.size());
+        assertEquals(4, pdf.size());
+        // The same booking in all three formats
+        for (List<BankTransaction> transactions : List.of(camt, mt940, pdf)) {
+            assertEquals("12.03.2025", transactions.get(0).date());
+            assertEquals(0, transactions.get(0).amount().compareTo(new BigDecimal("189")));
+        }
+    }
+
+    @Test
+    void readCountsTransactions() throws Exception {
+        int[] seen = new int[1];
+        int count = BankStatementImport.read(fixture("statement.mt940"), transaction -> seen[0]++);
+        assertEquals(5, count);
+        assertEquals(5, seen[0]);
+    }
+
+    private static Path fixture(String name) throws URISyntaxException {
+        return Path.of(BankStatementImportTest.class.getResource("/bank/" + name).toURI());
+    }
+}
@@ -0,0 +1,58 @@
+package com.linguaops.desktop.bank;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Camt053ReaderTest {
+
+    @Test
+    void readsStatementFixture() throws IOException {
+        List<BankTransaction> transactions = new ArrayList<>();
+        int count;
+        try (InputStream in = Camt053ReaderTest.class.getResourceAsStream("/bank/statement-camt053.xml")) {
+            count = Camt053Reader.read(in, transactions::add);
+        }
+
+        assertEquals(5, count);
+        assertEquals(List.of(
+            new BankTransaction("12.03.2025", "Anna Müller", new BigDecimal("189.00"),
+                "Bestellung 10234 telc B1\n10234"),
+            // A batch entry becomes one transaction per detail, with the detail's amount
+            new BankTransaction("14.03.2025", "Jan Kowalski", new BigDecimal("230.00"), "Pruefung 10235"),
+            new BankTransaction("14.03.2025", "Mehmet Yilmaz", new BigDecimal("230.00"), "RF18539007547034"),
+            new BankTransaction("15.03.2025", null, new BigDecimal("-12.50"), "Kontofuehrung 03/2025"),
+            new BankTransaction("18.03.2025", "telc gGmbH", new BigDecimal("-49.90"), "Rechnung 2025-117")),
+            transactions);
+    }
+
+    @Test
+    void rejectsExternalEntities() {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE d [<!ENTITY x SYSTEM \"file:///etc/passwd\">]>"
+            + "<Document><Ntry><Amt>1.00</Amt><AddtlNtryInf>&x;</AddtlNtryInf></Ntry></Document>";
+        assertThrows(IOException.class, () -> Camt053Reader.read(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), transaction -> { }));
+    }
+
+    @Test
+    void rejectsInvalidAmount() {
+        String xml = "<Document><Ntry><Amt>12,50</Amt></Ntry></Document>";
+        assertThrows(IOException.class, () -> Camt053Reader.read(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), transaction -> { }));
+    }
+
+    @Test
+    void convertsIsoDates() {
+        assertEquals("05.01.2025", Camt053Reader.germanDate("2025-01-05"));
+        assertEquals("20250105", Camt053Reader.germanDate("20250105"));
+    }
+}
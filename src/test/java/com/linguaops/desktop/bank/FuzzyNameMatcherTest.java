@@ -0,0 +1,148 @@
+package com.linguaops.desktop.bank;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyNameMatcherTest {
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz0123456789 ";
+
+    @Test
+    void signatureFoldsUmlautsAndSortsWords() {
+        assertEquals("anna mueller", FuzzyNameMatcher.signature("Müller, Anna"));
+        assertEquals("anna mueller", FuzzyNameMatcher.signature("  Anna   MUELLER "));
+        assertEquals("francois strasse", FuzzyNameMatcher.signature("François Straße"));
+        assertEquals("", FuzzyNameMatcher.signature(null));
+    }
+
+    @Test
+    void signatureFoldsDecomposedUmlautsLikeComposedOnes() {
+        assertEquals(FuzzyNameMatcher.signature("M\u00fcller"), FuzzyNameMatcher.signature("Mu\u0308ller"));
+        assertEquals("mueller", FuzzyNameMatcher.signature("Mu\u0308ller"));
+        assertEquals("boehm", FuzzyNameMatcher.signature("Bo\u0308hm"));
+    }
+
+    @Test
+    void myersDistanceEqualsNaiveLevenshtein() {
+        Random random = new Random(42);
+        for (int run = 0; run < 20_000; run++) {
+            // Up to 64 characters takes the bit-parallel path, longer ones the DP
+            String a = randomText(random, 1 + random.nextInt(70));
+            String b = random.nextBoolean() ? randomText(random, random.nextInt(70)) : edit(random, a, random.nextInt(6));
+            assertEquals(naiveLevenshtein(a, b), FuzzyNameMatcher.distance(a, b), a + " / " + b);
+        }
+    }
+
+    @Test
+    void myersDistanceAtWordBoundary() {
+        String a = "a".repeat(64);
+        assertEquals(0, FuzzyNameMatcher.distance(a, a));
+        assertEquals(1, FuzzyNameMatcher.distance(a, a.substring(1)));
+        assertEquals(64, FuzzyNameMatcher.distance(a, ""));
+        assertEquals(64, FuzzyNameMatcher.distance(a, "b".repeat(64)));
+    }
+
+    @Test
+    void findsSpellingVariants() {
+        FuzzyNameMatcher<String> matcher = new FuzzyNameMatcher<>(
+            List.of("Anna Müller", "Jan Kowalski", "Petra Schmidt"), Function.identity());
+
+        List<FuzzyNameMatcher.Match<String>> matches = matcher.match("Mueller Anna");
+        assertEquals(1, matches.size());
+        assertEquals("Anna Müller", matches.get(0).item());
+        assertEquals(0, matches.get(0).distance());
+
+        assertEquals("Jan Kowalski", matcher.match("Jan Kowalsky").get(0).item());
+        assertTrue(matcher.match("Hans Meier").isEmpty());
+    }
+
+    @Test
+    void trigramFilterKeepsEveryMatchAboveThreshold() {
+        Random random = new Random(7);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            names.add(randomName(random));
+        }
+        // Near duplicates, so that many pairs are close to the threshold
+        for (int i = 0; i < 2_000; i++) {
+            names.add(edit(random, FuzzyNameMatcher.signature(names.get(random.nextInt(2_000))), 1 + random.nextInt(3)));
+        }
+        FuzzyNameMatcher<String> matcher = new FuzzyNameMatcher<>(names, Function.identity());
+
+        for (int q = 0; q < 300; q++) {
+            String query = edit(random, FuzzyNameMatcher.signature(names.get(random.nextInt(names.size()))), random.nextInt(4));
+            String signature = FuzzyNameMatcher.signature(query);
+            if (signature.isEmpty()) continue;
+
+            Set<String> expected = new HashSet<>();
+            for (String name : names) {
+                String candidate = FuzzyNameMatcher.signature(name);
+                if (candidate.isEmpty()) continue;
+                double score = 1.0 - (double) naiveLevenshtein(signature, candidate)
+                    / Math.max(signature.length(), candidate.length());
+                if (score >= FuzzyNameMatcher.DEFAULT_THRESHOLD) expected.add(name);
+            }
+            Set<String> found = new HashSet<>();
+            for (FuzzyNameMatcher.Match<String> match : matcher.match(query)) {
+                found.add(match.item());
+            }
+            assertEquals(expected, found, query);
+        }
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int words = 2 + random.nextInt(2);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) name.append(' ');
+            int length = 3 + random.nextInt(8);
+            for (int i = 0; i < length; i++) name.append((char) ('a' + random.nextInt(26)));
+        }
+        return name.toString();
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) text.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        return text.toString();
+    }
+
+    // Random inserts, deletes and substitutions
+    private static String edit(Random random, String text, int edits) {
+        StringBuilder result = new StringBuilder(text);
+        for (int e = 0; e < edits; e++) {
+            int op = result.length() == 0 ? 0 : random.nextInt(3);
+            int at = random.nextInt(result.length() + (op == 0 ? 1 : 0));
+            char c = (char) ('a' + random.nextInt(26));
+            if (op == 0) {
+                result.insert(at, c);
+            } else if (op == 1) {
+                result.deleteCharAt(at);
+            } else {
+                result.setCharAt(at, c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static int naiveLevenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(d[i - 1][j - 1] + cost, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
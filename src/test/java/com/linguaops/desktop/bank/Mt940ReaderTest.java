@@ -0,0 +1,80 @@
+package com.linguaops.desktop.bank;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Mt940ReaderTest {
+
+    @Test
+    void readsStatementFixture() throws IOException {
+        List<BankTransaction> transactions = new ArrayList<>();
+        int count;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                Mt940ReaderTest.class.getResourceAsStream("/bank/statement.mt940"), StandardCharsets.ISO_8859_1))) {
+            count = Mt940Reader.read(in, transactions::add);
+        }
+
+        assertEquals(5, count);
+        assertEquals(List.of(
+            new BankTransaction("12.03.2025", "Anna Müller", new BigDecimal("189.00"),
+                "EREF+10234\nSVWZ+Bestellung 10234 telc B1 Pruefung Maerz"),
+            new BankTransaction("14.03.2025", null, new BigDecimal("230.00"),
+                "Jan Kowalski Pruefung 10235 telc Deutsch B2"),
+            new BankTransaction("15.03.2025", null, new BigDecimal("-12.50"), "Kontofuehrung 03/2025"),
+            new BankTransaction("17.03.2025", null, new BigDecimal("-95.50"), "2503170317RC95,50NMSCNONREF"),
+            new BankTransaction("20.03.2025", "YILMAZ MEHMET", new BigDecimal("230.00"), "SVWZ+10238 Mehmet Yilmaz")),
+            transactions);
+    }
+
+    @Test
+    void terminatorLinesEndTheInformation() throws IOException {
+        List<BankTransaction> transactions = read(String.join("\n",
+            ":20:STARTUMS",
+            ":61:2503120312CR189,00NMSCNONREF",
+            ":86:Anna Mueller",
+            "Bestellung 10234",
+            "-",
+            ":20:STARTUMS",
+            ":61:2503140314CR230,00NMSCNONREF",
+            ":86:166?00GUTSCHRIFT?20Pruefung 10235?32KOWALSKI JAN",
+            "-}"));
+
+        assertEquals(2, transactions.size());
+        assertEquals("Anna Mueller Bestellung 10234", transactions.get(0).reference());
+        assertEquals("Pruefung 10235", transactions.get(1).reference());
+        assertEquals("KOWALSKI JAN", transactions.get(1).senderName());
+    }
+
+    @Test
+    void bookingWithoutInformationKeepsStatementLine() throws IOException {
+        List<BankTransaction> transactions = read(":61:2503150315D12,50NMSCNONREF\n:62F:C250320EUR2056,00");
+
+        assertEquals(1, transactions.size());
+        assertEquals(new BigDecimal("-12.50"), transactions.get(0).amount());
+        assertEquals("2503150315D12,50NMSCNONREF", transactions.get(0).reference());
+    }
+
+    @Test
+    void rejectsInvalidStatementLine() {
+        IOException error = assertThrows(IOException.class, () -> read(":20:X\n:61:NOTADATE\n:86:x"));
+        assertTrue(error.getMessage().contains("line 3"));
+    }
+
+    private static List<BankTransaction> read(String statement) throws IOException {
+        List<BankTransaction> transactions = new ArrayList<>();
+        Mt940Reader.read(new BufferedReader(new StringReader(statement)), transactions::add);
+        return transactions;
+    }
+}
@@ -0,0 +1,121 @@
+package com.linguaops.desktop.bank;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfDocumentTest {
+    private static final String FIRST_PAGE = String.join("\n",
+        "Kontoauszug 3/2025",
+        "Auszug (Seite 1)",
+        "Sparkasse Musterstadt",
+        "12.03.2025 12.03.2025 Anna Müller Bestellung 10234 telc B1 189,00",
+        "14.03.2025 Jan Kowalski Pruefung 10235 230,00",
+        "17.03.2025 Olga Nowak");
+    private static final String SECOND_PAGE = String.join("\n",
+        "Verwendungszweck 10237 95,50",
+        "20.03.2025 Mehmet Yilmaz 10238 230,00");
+
+    // Helvetica strings, one hex string, inherited resources, a page with two content streams
+    static Path classicXref() throws URISyntaxException {
+        return fixture("statement-classic-xref.pdf");
+    }
+
+    // Written by PDFBox: page tree in an object stream, xref stream, subset Identity-H font
+    static Path objectStreams() throws URISyntaxException {
+        return fixture("statement-object-streams.pdf");
+    }
+
+    @Test
+    void readsClassicXrefFile() throws Exception {
+        try (PdfDocument document = new PdfDocument(classicXref())) {
+            assertEquals(2, document.getPageCount());
+            assertEquals(FIRST_PAGE, document.pageText(0));
+            assertEquals(SECOND_PAGE, document.pageText(1));
+        }
+    }
+
+    @Test
+    void readsObjectStreamsAndCidFonts() throws Exception {
+        try (PdfDocument document = new PdfDocument(objectStreams())) {
+            assertEquals(2, document.getPageCount());
+            assertEquals(FIRST_PAGE, document.pageText(0));
+            assertEquals(SECOND_PAGE, document.pageText(1));
+        }
+    }
+
+    @Test
+    void bothLayoutsGiveTheSameTransactions() throws Exception {
+        List<BankTransaction> classic = BankStatementPdf.readTransactions(classicXref());
+        List<BankTransaction> compressed = BankStatementPdf.readTransactions(objectStreams());
+
+        assertEquals(classic, compressed);
+        assertEquals(4, classic.size());
+        assertEquals("12.03.2025", classic.get(0).date());
+        assertEquals("Anna Müller Bestellung", classic.get(0).senderName());
+        assertEquals(new BigDecimal("189.00"), classic.get(0).amount());
+        // The booking continues on the next page
+        assertEquals("17.03.2025 Olga Nowak\nVerwendungszweck 10237 95,50", classic.get(2).reference());
+        assertEquals("20.03.2025", classic.get(3).date());
+    }
+
+    @Test
+    void rejectsOtherFiles(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("statement.pdf"), ":20:STARTUMS\n");
+        IOException error = assertThrows(IOException.class, () -> new PdfDocument(file));
+        assertTrue(error.getMessage().contains("not a PDF"));
+    }
+
+    @Test
+    void refusesReadsAfterClose() throws Exception {
+        PdfDocument document = new PdfDocument(classicXref());
+        document.close();
+        assertThrows(IllegalStateException.class, () -> document.pageText(0));
+    }
+
+    @Test
+    void decodesHexStringsAndSkipsDictionaries() {
+        StringBuilder out = new StringBuilder();
+        PdfDocument.extractText(bytes("/Span << /MCID 0 /ActualText (x) >> BDC <48 65 6C6C6f2> Tj EMC"), Map.of(), out);
+        assertEquals("Hello", out.toString());
+    }
+
+    @Test
+    void decodesTwoByteCodesThroughToUnicode() {
+        Map<Integer, String> unicode = PdfDocument.parseCMap(bytes(String.join("\n",
+            "2 beginbfchar <0003> <0020> <0010> <00FC> endbfchar",
+            "2 beginbfrange <0020> <0022> <0041> <0030> <0031> [<0078> <00660069>] endbfrange")));
+        PdfDocument.Font font = new PdfDocument.Font(true, unicode);
+
+        StringBuilder out = new StringBuilder();
+        PdfDocument.extractText(bytes("/F1 9 Tf <0020002100220003001000300031> Tj"), Map.of("F1", font), out);
+        assertEquals("ABC üxfi", out.toString());
+    }
+
+    @Test
+    void joinsTjArraysWithSpacesAtWordGaps() {
+        StringBuilder out = new StringBuilder();
+        PdfDocument.extractText(bytes("[(Ab) 15 (er) -300 (ich)] TJ (\\(1\\) \\344\\\n) Tj"), Map.of(), out);
+        assertEquals("Aber ich\n(1) ä", out.toString());
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static Path fixture(String name) throws URISyntaxException {
+        return Path.of(PdfDocumentTest.class.getResource("/bank/" + name).toURI());
+    }
+}
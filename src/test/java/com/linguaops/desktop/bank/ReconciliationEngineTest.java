@@ -0,0 +1,113 @@
+package com.linguaops.desktop.bank;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReconciliationEngineTest {
+    private static final List<Order> ORDERS = List.of(
+        new Order(1, "10234", new BigDecimal("189.00"), "Anna Müller", "pending"),
+        new Order(2, "10235", new BigDecimal("230.00"), "Jan Kowalski", "pending"),
+        new Order(3, "#10236", new BigDecimal("189.00"), "Petra Schmidt", "pending"),
+        new Order(4, "10237", new BigDecimal("95.50"), "Olga Nowak", "pending"),
+        new Order(5, "10238", new BigDecimal("230.00"), "Mehmet Yilmaz", "pending"));
+
+    private final ReconciliationEngine engine = new ReconciliationEngine(ORDERS);
+
+    @Test
+    void orderNumberAndAmountIsHighConfidence() {
+        List<MatchCandidate> candidates = engine.match(
+            new BankTransaction("2025-03-12", "Someone Else", new BigDecimal("230.00"), "Bestellung 10235 telc B1"));
+
+        MatchCandidate best = candidates.get(0);
+        assertEquals(2, best.order().id());
+        assertEquals(MatchCandidate.CONFIDENCE_HIGH, best.confidence());
+        assertTrue(best.orderNumberInReference());
+        assertTrue(best.amountMatch());
+    }
+
+    @Test
+    void orderNumberWithOtherAmountIsMediumConfidence() {
+        List<MatchCandidate> candidates = engine.match(
+            new BankTransaction(null, null, new BigDecimal("100.00"), "Order #10236"));
+
+        assertEquals(1, candidates.size());
+        assertEquals(3, candidates.get(0).order().id());
+        assertEquals(MatchCandidate.CONFIDENCE_MEDIUM, candidates.get(0).confidence());
+        assertFalse(candidates.get(0).amountMatch());
+    }
+
+    @Test
+    void uniqueAmountIsLowConfidenceFallback() {
+        List<MatchCandidate> candidates = engine.match(
+            new BankTransaction(null, null, new BigDecimal("95.5"), "telc Pruefung"));
+
+        assertEquals(1, candidates.size());
+        assertEquals(4, candidates.get(0).order().id());
+        assertEquals(MatchCandidate.CONFIDENCE_LOW, candidates.get(0).confidence());
+        assertEquals("Amount match", candidates.get(0).reason());
+    }
+
+    @Test
+    void sharedAmountAloneIsNoMatch() {
+        // Orders 1 and 3 both cost 189.00; the amount bucket is ambiguous
+        assertTrue(engine.match(new BankTransaction(null, null, new BigDecimal("189.00"), "telc")).isEmpty());
+        assertTrue(engine.match(new BankTransaction(null, null, new BigDecimal("12.00"), "telc")).isEmpty());
+    }
+
+    @Test
+    void amountBucketRanksNameMatches() {
+        List<MatchCandidate> candidates = engine.match(
+            new BankTransaction(null, "MUELLER ANNA", new BigDecimal("189.00"), "Pruefungsgebuehr"));
+
+        assertEquals(1, candidates.get(0).order().id());
+        assertEquals(MatchCandidate.CONFIDENCE_MEDIUM, candidates.get(0).confidence());
+        assertTrue(candidates.get(0).amountMatch());
+    }
+
+    @Test
+    void fuzzyNameWithoutAmountIsLowConfidence() {
+        List<MatchCandidate> candidates = engine.match(
+            new BankTransaction(null, "Jan Kowalsky", new BigDecimal("50.00"), ""));
+
+        assertEquals(1, candidates.size());
+        assertEquals(2, candidates.get(0).order().id());
+        assertEquals(MatchCandidate.CONFIDENCE_LOW, candidates.get(0).confidence());
+        assertTrue(candidates.get(0).reason().startsWith("Fuzzy name match"));
+    }
+
+    @Test
+    void namesInReferenceAreMatched() {
+        List<MatchCandidate> candidates = engine.match(
+            new BankTransaction(null, "Eltern Konto", new BigDecimal("230.00"), "Pruefung fuer Mehmet Yilmaz"));
+
+        assertEquals(5, candidates.get(0).order().id());
+        assertEquals(List.of("Mehmet Yilmaz"), candidates.get(0).referenceNames());
+    }
+
+    @Test
+    void reconcileKeepsStatementOrder() {
+        BankTransaction first = new BankTransaction(null, null, new BigDecimal("95.50"), "");
+        BankTransaction second = new BankTransaction(null, null, null, "10234");
+        List<ReconciliationEngine.Result> results = engine.reconcile(List.of(first, second));
+
+        assertEquals(List.of(first, second), results.stream().map(ReconciliationEngine.Result::transaction).toList());
+        assertEquals(1, results.get(1).candidates().get(0).order().id());
+        assertEquals(5, engine.getOrderCount());
+    }
+
+    @Test
+    void identicalTransactionsGetAResultEach() {
+        BankTransaction fee = new BankTransaction(null, "Anna Müller", new BigDecimal("189.00"), "telc B1");
+        List<ReconciliationEngine.Result> results = engine.reconcile(List.of(fee, fee));
+
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(0).candidates().get(0).order().id());
+        assertEquals(1, results.get(1).candidates().get(0).order().id());
+    }
+}
@@ -0,0 +1,58 @@
+package com.linguaops.desktop.orders;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExamAggregationTest {
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 12);
+    private static final LocalDate APRIL = LocalDate.of(2025, 4, 9);
+
+    @Test
+    void centsRoundHalfUp() {
+        assertEquals(18900, ExamAggregation.cents(new BigDecimal("189")));
+        assertEquals(1, ExamAggregation.cents(new BigDecimal("0.005")));
+        assertEquals(0, ExamAggregation.cents(new BigDecimal("0.0049")));
+        assertEquals(23000, ExamAggregation.cents(new BigDecimal("229.999")));
+        assertEquals(-1, ExamAggregation.cents(new BigDecimal("-0.005")));
+        assertEquals(0, ExamAggregation.cents(null));
+    }
+
+    @Test
+    void sumsRevenueAndPartsPerExam() {
+        ExamAggregation aggregation = new ExamAggregation();
+        aggregation.applyAll(List.of(
+            new ExamOrder(1, "B1", MARCH, ExamPart.FULL, new BigDecimal("189.00"), "processing"),
+            new ExamOrder(2, "B1", MARCH, ExamPart.WRITTEN_ONLY, new BigDecimal("99.995"), "completed"),
+            new ExamOrder(3, "B2", MARCH, null, new BigDecimal("230.00"), "completed"),
+            new ExamOrder(4, "B1", MARCH, ExamPart.FULL, new BigDecimal("189.00"), "cancelled")));
+
+        ExamAggregation.ExamSummary b1 = aggregation.getSummary("B1", MARCH);
+        assertEquals(2, b1.participants());
+        assertEquals(new BigDecimal("289.00"), b1.revenue());
+        assertEquals(Map.of(ExamPart.FULL, 1, ExamPart.WRITTEN_ONLY, 1), b1.parts());
+        assertEquals(List.of("B1", "B2"), aggregation.getSummaries().stream().map(s -> s.exam().kind()).toList());
+    }
+
+    @Test
+    void movesChangedOrderBetweenExams() {
+        ExamAggregation aggregation = new ExamAggregation();
+        assertTrue(aggregation.apply(new ExamOrder(1, "B1", MARCH, ExamPart.FULL, new BigDecimal("189.00"), "processing")));
+        assertFalse(aggregation.apply(new ExamOrder(1, "B1", MARCH, ExamPart.FULL, new BigDecimal("189.00"), "processing")));
+
+        aggregation.apply(new ExamOrder(1, "B1", APRIL, ExamPart.FULL, new BigDecimal("189.00"), "processing"));
+        assertNull(aggregation.getSummary("B1", MARCH));
+        assertEquals(new BigDecimal("189.00"), aggregation.getSummary("B1", APRIL).revenue());
+
+        assertTrue(aggregation.remove(1));
+        assertTrue(aggregation.getSummaries().isEmpty());
+    }
+}
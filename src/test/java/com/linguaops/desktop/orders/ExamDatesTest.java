@@ -0,0 +1,64 @@
+package com.linguaops.desktop.orders;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ExamDatesTest {
+    private static final LocalDate MAY_18 = LocalDate.of(2024, 5, 18);
+
+    @Test
+    void readsNumericDates() {
+        assertEquals(MAY_18, ExamDates.parse("18.05.2024"));
+        assertEquals(MAY_18, ExamDates.parse("18.5.24"));
+        assertEquals(MAY_18, ExamDates.parse("2024-05-18"));
+        assertEquals(MAY_18, ExamDates.parse("2024-05-18T09:00:00"));
+        assertEquals(MAY_18, ExamDates.parse("Samstag, 18.05.2024 10:00 Uhr"));
+    }
+
+    @Test
+    void readsMonthNames() {
+        assertEquals(MAY_18, ExamDates.parse("18. Mai 2024"));
+        assertEquals(MAY_18, ExamDates.parse("May 18, 2024"));
+        assertEquals(LocalDate.of(2025, 3, 12), ExamDates.parse("12. März 2025"));
+        assertEquals(LocalDate.of(2025, 3, 12), ExamDates.parse("12. Maerz 2025"));
+        assertEquals(LocalDate.of(2025, 3, 12), ExamDates.parse("12. Mär. 2025"));
+        assertEquals(LocalDate.of(2024, 10, 5), ExamDates.parse("5 Okt 2024"));
+        assertEquals(LocalDate.of(2024, 12, 7), ExamDates.parse("December 7, 2024"));
+        assertEquals(LocalDate.of(2024, 6, 1), ExamDates.parse("Sa, 1. Juni 2024"));
+    }
+
+    @Test
+    void ignoresWordsThatOnlyStartLikeMonths() {
+        assertEquals(LocalDate.of(2025, 3, 12), ExamDates.parse("Marcus 12.03.2025"));
+        assertEquals(LocalDate.of(2025, 3, 19), ExamDates.parse("Janine 19.03.2025"));
+        assertEquals(LocalDate.of(2025, 3, 19), ExamDates.parse("Decker 19.03.2025"));
+        assertEquals(LocalDate.of(2025, 3, 12), ExamDates.parse("Juni-Kurs 12.03.2025"));
+        assertNull(ExamDates.parse("Octavia 12 2025"));
+        assertNull(ExamDates.parse("Marcus 12 2025"));
+    }
+
+    @Test
+    void monthNamesAreWholeWords() {
+        assertEquals(3, ExamDates.month("März"));
+        assertEquals(3, ExamDates.month("MAERZ"));
+        assertEquals(10, ExamDates.month("oct"));
+        assertEquals(9, ExamDates.month("Sept"));
+        assertEquals(0, ExamDates.month("Marcus"));
+        assertEquals(0, ExamDates.month("Janssen"));
+        assertEquals(0, ExamDates.month("Ma"));
+    }
+
+    @Test
+    void rejectsInvalidDates() {
+        assertNull(ExamDates.parse("31.04.2024"));
+        assertNull(ExamDates.parse("29.02.2023"));
+        assertNull(ExamDates.parse("18.13.2024"));
+        assertNull(ExamDates.parse("18.05.202"));
+        assertNull(ExamDates.parse("nach Absprache"));
+        assertNull(ExamDates.parse(null));
+    }
+}
@@ -0,0 +1,57 @@
+package com.linguaops.desktop.orders;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MetaKeyNormalizerTest {
+    private final MetaKeyNormalizer keys = new MetaKeyNormalizer(MetaField.values());
+
+    @Test
+    void normalizesLikeTheServer() {
+        assertEquals("pruefungstermin waehlen", MetaKeyNormalizer.normalize("Prüfungstermin wählen:"));
+        assertEquals("exam date", MetaKeyNormalizer.normalize("  Exam_Date  "));
+        assertEquals("pruefungsteil", MetaKeyNormalizer.normalize("Prüfungsteil (optional):"));
+        assertEquals("zertifikat / ergebnis", MetaKeyNormalizer.normalize("Zertifikat  /  Ergebnis"));
+        assertEquals("strasse", MetaKeyNormalizer.normalize("Straße"));
+        // u followed by a combining diaeresis
+        assertEquals("pruefungsteil", MetaKeyNormalizer.normalize("Pru\u0308fungsteil"));
+    }
+
+    @Test
+    void findsKnownKeysInEverySpelling() {
+        int id = keys.lookup("prüfungsteil");
+        assertEquals(keys.getKeyIds(MetaField.EXAM_PART)[0], id);
+        assertEquals(id, keys.lookup("Prüfungsteil:"));
+        assertEquals(id, keys.lookup("PRUEFUNGSTEIL"));
+        assertEquals(id, keys.lookup("Prufungsteil"));
+        assertEquals(id, keys.lookup("Pru\u0308fungsteil"));
+        assertEquals(-1, keys.lookup("prüfungs-teil"));
+        assertEquals("pruefungsteil", keys.getKey(id));
+    }
+
+    @Test
+    void rejectsUnknownKeysAndPrefixes() {
+        assertEquals(-1, keys.lookup("_wcpdf_invoice_number"));
+        assertEquals(-1, keys.lookup("prüfungs"));
+        assertEquals(-1, keys.lookup("prüfungsteile"));
+        assertEquals(-1, keys.lookup(""));
+    }
+
+    @Test
+    void sharedKeysHaveOneId() {
+        // "teilnahmeart" is a key of both the exam part and the exam kind
+        int shared = keys.lookup("teilnahmeart");
+        assertEquals(shared, keys.getKeyIds(MetaField.EXAM_PART)[2]);
+        assertEquals(shared, keys.getKeyIds(MetaField.EXAM_KIND)[5]);
+    }
+
+    @Test
+    void fieldsWithoutKeysHaveNone() {
+        MetaKeyNormalizer levelOnly = new MetaKeyNormalizer(MetaField.LEVEL);
+        assertArrayEquals(new int[0], levelOnly.getKeyIds(MetaField.EXAM_DATE));
+        assertEquals(-1, levelOnly.lookup("exam_date"));
+        assertEquals(0, levelOnly.lookup("Prüfungsniveau"));
+    }
+}
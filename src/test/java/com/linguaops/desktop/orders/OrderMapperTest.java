@@ -0,0 +1,90 @@
+package com.linguaops.desktop.orders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OrderMapperTest {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Test
+    void mapsOrderAndLineItemMeta() throws Exception {
+        MappedOrder order = OrderMapper.map(json("""
+            {"id": 10234, "number": "10234", "status": "processing", "total": "189.00",
+             "date_created": "2025-02-01T10:00:00", "payment_method": "bacs",
+             "payment_method_title": "Überweisung",
+             "billing": {"first_name": "aNNA", "last_name": "müller-lüdenscheidt"},
+             "meta_data": [{"key": "_wcpdf_invoice_number", "value": "R-1"}],
+             "line_items": [{"name": "telc Deutsch B1 Prüfung", "meta_data": [
+               {"key": "Prüfungstermin wählen:", "value": "Mittwoch, 12. März 2025"},
+               {"key": "pa_teil", "display_key": "Prüfungsteil", "value": "nur-schriftlich",
+                "display_value": "nur schriftlich"},
+               {"key": "Zertifikat / Ergebnis", "value": ["Abholung", "", "per Post"]}]}]}
+            """));
+
+        assertEquals(10234, order.id());
+        assertEquals("Anna", order.firstName());
+        assertEquals("Müller-Lüdenscheidt", order.lastName());
+        assertEquals("B1", order.examKind());
+        assertEquals(LocalDate.of(2025, 3, 12), order.examDate());
+        assertEquals("12.03.2025", order.examDateText());
+        assertEquals(ExamPart.WRITTEN_ONLY, order.examPart());
+        assertEquals("Abholung, per Post", order.certificate());
+        assertEquals("Überweisung", order.paymentMethod());
+        assertEquals(new BigDecimal("189.00"), order.total());
+    }
+
+    @Test
+    void preferredKeyWinsOverLaterOnes() throws Exception {
+        MappedOrder order = OrderMapper.map(json("""
+            {"id": 1, "meta_data": [
+               {"key": "termin", "value": "19.03.2025"},
+               {"key": "exam_date", "value": "12.03.2025"},
+               {"key": "Prüfungsniveau", "value": "C1 Hochschule"},
+               {"key": "exam_type", "value": {"label": "Prüfungsteil", "value": "nur mündlich"}}]}
+            """));
+
+        assertEquals(LocalDate.of(2025, 3, 12), order.examDate());
+        assertEquals("C1", order.examKind());
+        assertEquals(ExamPart.ORAL_ONLY, order.examPart());
+        assertEquals("1", order.number());
+    }
+
+    @Test
+    void keepsUnreadableDatesAsText() throws Exception {
+        MappedOrder order = OrderMapper.map(json("""
+            {"id": 2, "total": "n/a", "line_items": [{"sku": "TELC-B2-ORAL"}],
+             "meta_data": [{"key": "Prüfungsdatum", "value": "  nach Absprache "}]}
+            """));
+
+        assertNull(order.examDate());
+        assertEquals("nach Absprache", order.examDateText());
+        assertEquals("B2", order.examKind());
+        assertEquals(ExamPart.FULL, order.examPart());
+        assertNull(order.total());
+        assertEquals("", order.status());
+    }
+
+    @Test
+    void mapsAllOrdersInOrder() throws Exception {
+        List<MappedOrder> orders = OrderMapper.mapAll(json("[{\"id\": 3}, {\"id\": 4}]"));
+        assertEquals(List.of(3L, 4L), orders.stream().map(MappedOrder::id).toList());
+    }
+
+    @Test
+    void nameCaseCapitalizesEachPart() {
+        assertEquals("Jan Van Der Berg", OrderMapper.nameCase("jan van der BERG"));
+        assertEquals("Müller-Lüdenscheidt", OrderMapper.nameCase("mÜLLER-lüdenscheidt"));
+    }
+
+    private static JsonNode json(String text) throws Exception {
+        return JSON.readTree(text);
+    }
+}
@@ -0,0 +1,45 @@
+package com.linguaops.desktop.orders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OrdersClientTest {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Test
+    void mapsDetailedResultToExamOrder() throws Exception {
+        ExamOrder order = OrdersClient.toExamOrder(json("""
+            {"id": 10234, "number": "10234", "billingFirstName": "Anna", "billingLastName": "Müller",
+             "examKind": "B1", "examPart": "nur mündlich", "examDate": "Mittwoch, 12. März 2025",
+             "price": "129.00", "bookingDate": "2025-02-01T10:00:00", "paymentMethod": "Überweisung",
+             "status": "processing"}
+            """));
+
+        assertEquals(new ExamOrder(10234, "B1", LocalDate.of(2025, 3, 12), ExamPart.ORAL_ONLY,
+            new BigDecimal("129.00"), "processing"), order);
+    }
+
+    @Test
+    void leavesUnreadableFieldsEmpty() throws Exception {
+        ExamOrder order = OrdersClient.toExamOrder(json("""
+            {"id": 7, "examKind": "", "examPart": "Gesamt", "examDate": "nach Absprache", "price": ""}
+            """));
+
+        assertEquals("", order.kind());
+        assertNull(order.examDate());
+        assertEquals(ExamPart.FULL, order.part());
+        assertNull(order.total());
+        assertEquals("", order.status());
+    }
+
+    private static JsonNode json(String text) throws Exception {
+        return JSON.readTree(text);
+    }
+}
@@ -0,0 +1,74 @@
+package com.linguaops.desktop.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceRegistryTest {
+    private final ServiceRegistry registry = new ServiceRegistry();
+
+    @Test
+    void startsDependenciesFirst() throws Exception {
+        List<String> started = Collections.synchronizedList(new ArrayList<>());
+        registry
+            .register("config", ServiceRegistry.Phase.STARTUP, () -> started.add("config"))
+            .register("i18n", ServiceRegistry.Phase.STARTUP, () -> started.add("i18n"), "config");
+
+        registry.startAndWait(ServiceRegistry.Phase.STARTUP);
+
+        assertEquals(List.of("config", "i18n"), started);
+    }
+
+    @Test
+    void rejectsDependenciesOnShutdownOnlyServices() {
+        registry.registerShutdown("telc-sheets", () -> { });
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () ->
+            registry.register("search", ServiceRegistry.Phase.DEFERRED, () -> { }, "telc-sheets"));
+        assertTrue(error.getMessage().contains("shutdown-only"));
+    }
+
+    @Test
+    void rejectsStartupServicesDependingOnDeferredOnes() {
+        registry.register("watcher", ServiceRegistry.Phase.DEFERRED, () -> { });
+
+        assertThrows(IllegalArgumentException.class, () ->
+            registry.register("theme", ServiceRegistry.Phase.STARTUP, () -> { }, "watcher"));
+    }
+
+    @Test
+    void skipsDependentsOfFailedServices() {
+        List<String> started = Collections.synchronizedList(new ArrayList<>());
+        registry
+            .register("config", ServiceRegistry.Phase.STARTUP, () -> {
+                throw new IOException("config.json is locked");
+            })
+            .register("i18n", ServiceRegistry.Phase.STARTUP, () -> started.add("i18n"), "config")
+            .register("clock", ServiceRegistry.Phase.STARTUP, () -> started.add("clock"));
+
+        IOException error = assertThrows(IOException.class, () -> registry.startAndWait(ServiceRegistry.Phase.STARTUP));
+
+        assertEquals("config.json is locked", error.getMessage());
+        assertEquals(List.of("clock"), started);
+    }
+
+    @Test
+    void shutsDownInReverseOrder() {
+        List<String> stopped = new ArrayList<>();
+        registry
+            .register("config", ServiceRegistry.Phase.STARTUP, () -> { })
+            .onShutdown("config", () -> stopped.add("config"))
+            .registerShutdown("telc-sheets", () -> stopped.add("telc-sheets"));
+
+        registry.shutdown();
+
+        assertEquals(List.of("telc-sheets", "config"), stopped);
+    }
+}
@@ -0,0 +1,230 @@
+package com.linguaops.desktop.telc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SheetSyncTest {
+    private static final RowFormat PAID = new RowFormat("#d9ead3", "#000000", false);
+
+    @Test
+    void unchangedRowsSendNothing() throws Exception {
+        FakeSheet sheet = new FakeSheet(header(), row("1", "Anna"), row("2", "Jan"));
+        SheetSync sync = refreshed(sheet);
+
+        SheetSync.Result result = sync.sync(List.of(sheetRow("1", "Anna"), sheetRow("2", "Jan")));
+
+        assertTrue(result.isEmpty());
+        assertEquals(0, result.requests());
+        assertEquals(0, sheet.reads);
+    }
+
+    @Test
+    void updatesRowInPlaceAfterCheckingKeys() throws Exception {
+        FakeSheet sheet = new FakeSheet(header(), row("1", "Anna"), row("2", "Jan"));
+        SheetSync sync = refreshed(sheet);
+
+        SheetSync.Result result = sync.sync(List.of(sheetRow("2", "Jan Kowalski")));
+
+        assertEquals(1, result.updated());
+        // Key column check and the update
+        assertEquals(2, result.requests());
+        assertEquals(List.of("2", "Jan Kowalski"), sheet.rows.get(2));
+        assertEquals(List.of("1", "Anna"), sheet.rows.get(1));
+    }
+
+    @Test
+    void sortInSheetReloadsBeforeUpdating() throws Exception {
+        FakeSheet sheet = new FakeSheet(header(), row("1", "Anna"), row("2", "Jan"), row("3", "Olga"));
+        SheetSync sync = refreshed(sheet);
+        // Sorted by name, descending, by hand
+        sheet.rows.subList(1, 4).sort((a, b) -> b.get(1).compareTo(a.get(1)));
+
+        SheetSync.Result result = sync.sync(List.of(
+            new SheetRow("3", List.of("3", "Olga Nowak"), PAID), sheetRow("1", "Anna")));
+
+        assertEquals(1, result.updated());
+        assertEquals(List.of(
+            header(), row("3", "Olga Nowak"), row("2", "Jan"), row("1", "Anna")), sheet.rows);
+        assertEquals(Map.of(1, PAID), sheet.formats);
+        assertEquals(3, sync.getSnapshot().indexOf("1"));
+    }
+
+    @Test
+    void deletedRowInSheetReloadsBeforeFormatting() throws Exception {
+        FakeSheet sheet = new FakeSheet(header(), row("1", "Anna"), row("2", "Jan"), row("3", "Olga"));
+        SheetSync sync = refreshed(sheet);
+        sheet.rows.remove(1);
+
+        sync.sync(List.of(new SheetRow("3", List.of("3", "Olga"), PAID)));
+
+        assertEquals(Map.of(2, PAID), sheet.formats);
+    }
+
+    @Test
+    void formatsFollowTheirRowsThroughAReload() throws Exception {
+        FakeSheet sheet = new FakeSheet(header(), row("1", "Anna"), row("2", "Jan"));
+        SheetSync sync = refreshed(sheet);
+        sync.sync(List.of(new SheetRow("1", List.of("1", "Anna"), PAID)));
+        sheet.formats.clear();
+        sheet.rows.add(1, sheet.rows.remove(2));
+
+        SheetSync.Result result = sync.sync(List.of(
+            new SheetRow("1", List.of("1", "Anna"), PAID), sheetRow("2", "Jan Kowalski")));
+
+        assertEquals(0, result.formatted());
+        assertEquals(Map.of(), sheet.formats);
+        assertEquals(row("2", "Jan Kowalski"), sheet.rows.get(1));
+    }
+
+    @Test
+    void appendsNewRowsBelowTheLastOne() throws Exception {
+        FakeSheet sheet = new FakeSheet(header(), row("1", "Anna"));
+        SheetSync sync = refreshed(sheet);
+
+        SheetSync.Result result = sync.sync(List.of(
+            sheetRow("1", "Anna"), new SheetRow("00123", List.of("00123", "Mehmet"), PAID)));
+
+        assertEquals(1, result.appended());
+        assertEquals(row("00123", "Mehmet"), sheet.rows.get(2));
+        assertEquals(Map.of(2, PAID), sheet.formats);
+        assertEquals(2, sync.getSnapshot().indexOf("00123"));
+        // Appends check their position themselves, no key column read
+        assertEquals(0, sheet.reads);
+    }
+
+    @Test
+    void blankRowsAcrossARefreshChunkDoNotEndTheTab() throws Exception {
+        FakeSheet sheet = new FakeSheet(header());
+        List<SheetRow> participants = new ArrayList<>();
+        for (int i = 1; i < SheetSync.REFRESH_CHUNK + 100; i++) {
+            boolean blank = i > SheetSync.REFRESH_CHUNK - 20 && i <= SheetSync.REFRESH_CHUNK + 20;
+            if (blank) {
+                sheet.rows.add(new ArrayList<>());
+                continue;
+            }
+            sheet.rows.add(new ArrayList<>(row(String.valueOf(i), "Name " + i)));
+            participants.add(sheetRow(String.valueOf(i), "Name " + i));
+        }
+        SheetSync sync = refreshed(sheet);
+
+        assertEquals(sheet.rows.size(), sync.getSnapshot().getRowCount());
+        assertEquals(SheetSync.REFRESH_CHUNK + 21, sync.getSnapshot().indexOf(String.valueOf(SheetSync.REFRESH_CHUNK + 21)));
+        assertTrue(sync.sync(participants).isEmpty());
+    }
+
+    @Test
+    void appendMovedBySomeoneElseRekeysAllFormats() throws Exception {
+        FakeSheet sheet = new FakeSheet(header(), row("1", "Anna"));
+        SheetSync sync = refreshed(sheet);
+        List<SheetRow> desired = new ArrayList<>();
+        desired.add(sheetRow("1", "Anna"));
+        for (int i = 0; i < SheetSync.BATCH_SIZE * 2; i++) {
+            desired.add(new SheetRow("n" + i, List.of("n" + i, "New " + i), PAID));
+        }
+        // A row typed in by hand after the first chunk was appended
+        sheet.afterAppend = () -> {
+            sheet.rows.add(2, new ArrayList<>(row("x", "By hand")));
+            sheet.afterAppend = () -> { };
+        };
+
+        SheetSync.Result result = sync.sync(desired);
+
+        assertEquals(SheetSync.BATCH_SIZE * 2, result.appended());
+        assertEquals(SheetSync.BATCH_SIZE * 2, sheet.formats.size());
+        for (int index : sheet.formats.keySet()) {
+            assertTrue(sheet.rows.get(index).get(0).startsWith("n"), "formatted row " + index);
+        }
+    }
+
+    @Test
+    void namesColumns() {
+        assertEquals("A", SheetSync.columnName(0));
+        assertEquals("Z", SheetSync.columnName(25));
+        assertEquals("AA", SheetSync.columnName(26));
+        assertEquals("AZ", SheetSync.columnName(51));
+        assertEquals("BA", SheetSync.columnName(52));
+    }
+
+    private static SheetSync refreshed(FakeSheet sheet) throws Exception {
+        SheetSync sync = new SheetSync(sheet, new SheetSnapshot("sheet", "Teilnehmer", "0", 0));
+        sync.refresh();
+        sheet.reads = 0;
+        return sync;
+    }
+
+    private static List<String> header() {
+        return List.of("Nr.", "Name");
+    }
+
+    private static List<String> row(String... cells) {
+        return List.of(cells);
+    }
+
+    private static SheetRow sheetRow(String key, String name) {
+        return new SheetRow(key, List.of(key, name), null);
+    }
+
+    // One tab held in memory; ranges are "A1:ZZ5000" style or a single column such as "A1:A"
+    private static final class FakeSheet extends SheetsClient {
+        final List<List<String>> rows = new ArrayList<>();
+        final Map<Integer, RowFormat> formats = new LinkedHashMap<>();
+        int reads;
+        // Someone editing the sheet while the sync runs
+        Runnable afterAppend = () -> { };
+
+        @SafeVarargs
+        FakeSheet(List<String>... rows) {
+            super("http://localhost/api");
+            for (List<String> row : rows) this.rows.add(new ArrayList<>(row));
+        }
+
+        @Override
+        public List<List<String>> values(String spreadsheetId, String title, String range) {
+            reads++;
+            String[] ends = range.split(":");
+            int from = Integer.parseInt(ends[0].replaceAll("[A-Z]", "")) - 1;
+            String to = ends[1].replaceAll("[A-Z]", "");
+            int end = Math.min(rows.size(), to.isEmpty() ? rows.size() : Integer.parseInt(to));
+            boolean singleColumn = ends[1].equals(ends[0].replaceAll("\\d", ""));
+            List<List<String>> values = new ArrayList<>();
+            for (int i = from; i < end; i++) {
+                List<String> row = rows.get(i);
+                values.add(singleColumn ? (row.isEmpty() ? List.of() : List.of(row.get(0))) : List.copyOf(row));
+            }
+            // Like the Sheets API, a range ends at its last non-empty row
+            while (!values.isEmpty() && values.get(values.size() - 1).isEmpty()) values.remove(values.size() - 1);
+            return values;
+        }
+
+        @Override
+        public int append(String spreadsheetId, String title, List<List<String>> values) {
+            int first = rows.size();
+            for (List<String> row : values) rows.add(new ArrayList<>(row));
+            afterAppend.run();
+            return first;
+        }
+
+        @Override
+        public void updateRows(String spreadsheetId, String title, Map<Integer, List<String>> values) {
+            values.forEach((index, row) -> {
+                List<String> target = rows.get(index);
+                for (int i = 0; i < row.size(); i++) {
+                    if (i < target.size()) target.set(i, row.get(i));
+                    else target.add(row.get(i));
+                }
+            });
+        }
+
+        @Override
+        public void formatRows(String spreadsheetId, String gid, Map<Integer, RowFormat> values) {
+            formats.putAll(values);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.linguaops.desktop.telc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TelcSheetIndexTest {
+    private static final TelcSheetIndex INDEX = TelcSheetIndex.build(List.of(
+        List.of("Nr.", "Vorname", "Nachname", "Geburtsdatum", "Prüfungsdatum"),
+        List.of("TN-1001", "Marc", "Decker", "01.02.1990", "12.03.2025"),
+        List.of("TN-1002", "Julia", "Janssen", "03.04.1991", "19.03.2025"),
+        List.of("TN-1003", "Marcus", "Janssen", "05.06.1992", "12.03.2025"),
+        List.of("TN-1004", "Julia", "Decker", "07.08.1993", "19.03.2025"),
+        List.of("TN-1005", "Octavia", "Müller", "09.10.1994", "2025-03-12")), 0);
+
+    @Test
+    void namesThatStartLikeMonthsStayNames() {
+        assertArrayEquals(new int[] {1, 3}, INDEX.find("Marc 12.03.2025"));
+        assertArrayEquals(new int[] {2, 4}, INDEX.find("Julia 19.03.2025"));
+        assertArrayEquals(new int[] {4}, INDEX.find("Decker 19.03.2025"));
+        assertArrayEquals(new int[] {3}, INDEX.find("Janssen 12.03.2025"));
+        assertArrayEquals(new int[] {5}, INDEX.find("12.03.2025 Octavia"));
+    }
+
+    @Test
+    void readsDatesInEveryQueryForm() {
+        int[] march12 = {1, 3, 5};
+        assertArrayEquals(march12, INDEX.find("12.03.2025"));
+        assertArrayEquals(march12, INDEX.find("12.3.25"));
+        assertArrayEquals(march12, INDEX.find("2025-03-12"));
+        assertArrayEquals(march12, INDEX.find("12. März 2025"));
+        assertArrayEquals(new int[] {1}, INDEX.find("Decker 12. Maerz 2025"));
+        assertArrayEquals(new int[] {2, 4}, INDEX.find("March 19, 2025"));
+    }
+
+    @Test
+    void matchesNumbersAndNamePrefixes() {
+        assertArrayEquals(new int[] {3}, INDEX.find("1003"));
+        assertArrayEquals(new int[] {3}, INDEX.find("tn-1003"));
+        assertArrayEquals(new int[] {2, 4}, INDEX.find("jul"));
+        assertArrayEquals(new int[] {5}, INDEX.find("Mueller"));
+        assertArrayEquals(new int[] {2}, INDEX.find("Janssen Julia"));
+        assertArrayEquals(new int[0], INDEX.find("Julia 1003"));
+    }
+
+    @Test
+    void birthDatesAreNotExamDates() {
+        assertArrayEquals(new int[0], INDEX.find("01.02.1990"));
+    }
+
+    @Test
+    void blankQueryMatchesEveryParticipant() {
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, INDEX.find("  "));
+        assertEquals(5, INDEX.getParticipantCount());
+    }
+}